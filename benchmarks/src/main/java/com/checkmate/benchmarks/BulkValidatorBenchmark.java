@@ -0,0 +1,64 @@
+package com.checkmate.benchmarks;
+
+import com.checkmate.validation.BulkValidator;
+import com.checkmate.validation.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to validate a whole batch, with a plain loop on one thread and with the BulkValidator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BulkValidatorBenchmark {
+
+    @Param({"IBAN", "CREDIT_CARD"})
+    public Corpus.Kind kind;
+
+    @Param({"1000000"})
+    public int batchSize;
+
+    private Validator<String> validator;
+    private BulkValidator bulkValidator;
+    private String[] values;
+
+    @Setup
+    public void setup() {
+        validator = kind.validator();
+        bulkValidator = BulkValidator.of(validator);
+        values = kind.generate(batchSize, 0.1, 42);
+    }
+
+    @Benchmark
+    public BitSet loop() {
+        BitSet valid = new BitSet(values.length);
+        for (int i = 0; i < values.length; i++) {
+            if (validator.isValid(values[i])) {
+                valid.set(i);
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public BitSet bulk() {
+        return bulkValidator.validate(values);
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.checkmate.benchmarks;
+
+import com.checkmate.checksum.ISBN10Checksum;
+import com.checkmate.checksum.ISBN13Checksum;
+import com.checkmate.checksum.JMBGChecksum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Throughput of calculating the check digit of the checksums that can generate one.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CheckDigitBenchmark {
+
+    private static final int CORPUS_SIZE = 4096;
+
+    @Param({"ISBN10", "ISBN13", "JMBG"})
+    public String checksum;
+
+    private UnaryOperator<String> calculate;
+    private String[] payloads;
+
+    @Setup
+    public void setup() {
+        String[] generated = switch (checksum) {
+            case "ISBN10" -> ChecksumBenchmark.isbnsOfLength(Corpus.Kind.ISBN.generate(4 * CORPUS_SIZE, 0, 42), 10, CORPUS_SIZE);
+            case "ISBN13" -> ChecksumBenchmark.isbnsOfLength(Corpus.Kind.ISBN.generate(4 * CORPUS_SIZE, 0, 42), 13, CORPUS_SIZE);
+            default -> Corpus.Kind.JMBG.generate(CORPUS_SIZE, 0, 42);
+        };
+        calculate = switch (checksum) {
+            case "ISBN10" -> ISBN10Checksum.getInstance()::calculate;
+            case "ISBN13" -> ISBN13Checksum.getInstance()::calculate;
+            default -> JMBGChecksum.getInstance()::calculate;
+        };
+
+        payloads = new String[CORPUS_SIZE];
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            String value = generated[i].replaceAll("[^0-9X]", "");
+            payloads[i] = value.substring(0, value.length() - 1);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String calculate(ValidatorBenchmark.Cursor cursor) {
+        return calculate.apply(payloads[cursor.next()]);
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.checkmate.benchmarks;
+
+import com.checkmate.checksum.CreditCardChecksum;
+import com.checkmate.checksum.IBANChecksum;
+import com.checkmate.checksum.ISBN10Checksum;
+import com.checkmate.checksum.ISBN13Checksum;
+import com.checkmate.checksum.JMBGChecksum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Throughput of checking the check digits of every checksum, on values without separators.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ChecksumBenchmark {
+
+    private static final int CORPUS_SIZE = 4096;
+
+    @Param({"IBAN", "CREDIT_CARD", "ISBN10", "ISBN13", "JMBG"})
+    public String checksum;
+
+    @Param({"0.0", "0.5"})
+    public double invalidRatio;
+
+    private Predicate<String> isValid;
+    private String[] values;
+
+    @Setup
+    public void setup() {
+        String[] generated;
+        switch (checksum) {
+            case "IBAN" -> {
+                isValid = IBANChecksum.getInstance()::isValid;
+                generated = Corpus.Kind.IBAN.generate(CORPUS_SIZE, invalidRatio, 42);
+            }
+            case "CREDIT_CARD" -> {
+                isValid = CreditCardChecksum.getInstance()::isValid;
+                generated = Corpus.Kind.CREDIT_CARD.generate(CORPUS_SIZE, invalidRatio, 42);
+            }
+            case "ISBN10", "ISBN13" -> {
+                int length = checksum.equals("ISBN10") ? 10 : 13;
+                isValid = length == 10 ? ISBN10Checksum.getInstance()::isValid : ISBN13Checksum.getInstance()::isValid;
+                generated = isbnsOfLength(Corpus.Kind.ISBN.generate(4 * CORPUS_SIZE, invalidRatio, 42), length, CORPUS_SIZE);
+            }
+            default -> {
+                isValid = JMBGChecksum.getInstance()::isValid;
+                generated = Corpus.Kind.JMBG.generate(CORPUS_SIZE, invalidRatio, 42);
+            }
+        }
+
+        values = new String[CORPUS_SIZE];
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            values[i] = checksum.equals("IBAN") ? generated[i].replace(" ", "") : generated[i].replaceAll("[^0-9X]", "");
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean isValid(ValidatorBenchmark.Cursor cursor) {
+        return isValid.test(values[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean isValidAllThreads(ValidatorBenchmark.Cursor cursor) {
+        return isValid.test(values[cursor.next()]);
+    }
+
+    // Helper function to pick the generated ISBNs of the given length.
+    static String[] isbnsOfLength(String[] generated, int length, int size) {
+        String[] isbns = new String[size];
+        int count = 0;
+        for (int i = 0; i < generated.length && count < size; i++) {
+            String isbn = generated[i].startsWith("ISBN-1") ? generated[i].substring(7) : generated[i];
+            if (isbn.replaceAll("[^0-9X]", "").length() == length) {
+                isbns[count++] = isbn;
+            }
+        }
+        return isbns;
+    }
+
+}
@@ -0,0 +1,264 @@
+package com.checkmate.benchmarks;
+
+import com.checkmate.checksum.ISBN10Checksum;
+import com.checkmate.checksum.ISBN13Checksum;
+import com.checkmate.checksum.JMBGChecksum;
+import com.checkmate.validation.Validator;
+import com.checkmate.validation.credit_card.CreditCardValidator;
+import com.checkmate.validation.email.EmailValidator;
+import com.checkmate.validation.iban.IBANValidator;
+import com.checkmate.validation.isbn.ISBNValidator;
+import com.checkmate.validation.jmbg.JMBGValidator;
+
+import java.util.SplittableRandom;
+
+/**
+ * The Corpus class generates reproducible, realistic inputs for the benchmarks:
+ * a configurable mix of valid and invalid values in the formats that are seen in real data.
+ */
+public final class Corpus {
+
+    /**
+     * One valid IBAN for every country supported by the IBANValidator.
+     */
+    static final String[] IBANS = new String[]{
+            "AD1200012030200359100100", "AE070331234567890123456", "AL47212110090000000235698741",
+            "AT611904300234573201", "AZ21NABZ00000000137010001944", "BA391290079401028494",
+            "BE68539007547034", "BG80BNBG96611020345678", "BH67BMAG00001299123456",
+            "BI4210000100010000332045181", "BR1800360305000010009795493C1", "BY13NBRB3600900000002Z00AB00",
+            "CH9300762011623852957", "CR05015202001026284066", "CY17002001280000001200527600",
+            "CZ6508000000192000145399", "DE89370400440532013000", "DJ2110002010010409943020008",
+            "DK5000400440116243", "DO28BAGR00000001212453611324", "EE382200221020145685",
+            "EG380019000500000000263180002", "ES9121000418450200051332", "FI2112345600000785",
+            "AX2112345600000785", "FO6264600001631634", "FR1420041010050500013M02606",
+            "BL6820041010050500013M02606", "GF4120041010050500013M02606", "GP1120041010050500013M02606",
+            "MF8420041010050500013M02606", "MQ5120041010050500013M02606", "NC8420041010050500013M02606",
+            "PF5720041010050500013M02606", "PM3620041010050500013M02606", "RE4220041010050500013M02606",
+            "TF2120041010050500013M02606", "WF9120041010050500013M02606", "YT3120041010050500013M02606",
+            "GB29NWBK60161331926819", "GE29NB0000000101904917", "GI75NWBK000000007099453",
+            "GL8964710001000206", "GR1601101250000000012300695", "GT82TRAJ01020000001210029690",
+            "HR1210010051863000160", "HU42117730161111101800000000", "IE29AIBK93115212345678",
+            "IL620108000000099999999", "IS140159260076545510730339", "IT60X0542811101000000123456",
+            "JO94CBJO0010000000000131000302", "KW81CBKU0000000000001234560101", "KZ86125KZT5004100100",
+            "LB62099900000001001901229114", "LC55HEMM000100010012001200023015", "LI21088100002324013AA",
+            "LT121000011101001000", "LU280019400644750000", "LV80BANK0000435195001",
+            "LY83002048000020100120361", "MC5811222000010123456789030", "MD24AG000225100013104168",
+            "ME25505000012345678951", "MK07250120000058984", "MR1300020001010000123456753",
+            "MT84MALT011000012345MTLCAST001S", "MU17BOMM0101101030300200000MUR", "NL91ABNA0417164300",
+            "NO9386011117947", "PK36SCBL0000001123456702", "PL61109010140000071219812874",
+            "PS92PALS000000000400123456702", "PT50000201231234567890154", "QA58DOHB00001234567890ABCDEFG",
+            "RO49AAAA1B31007593840000", "RS35260005601001611379", "RU0204452560040702810412345678901",
+            "SA0380000000608010167519", "SC18SSCB11010000000000001497USD", "SD8811123456789012",
+            "SE4550000000058398257466", "SI56263300012039086", "SK3112000000198742637541",
+            "SM86U0322509800000000270100", "ST68000100010051845310112", "SV62CENR00000000000000700025",
+            "TL380080012345678910157", "TN5910006035183598478831", "TR330006100519786457841326",
+            "UA213223130000026007233566001", "VA59001123000012345678", "VG96VPVG0000012345678901",
+            "XK051212012345678906",
+    };
+
+    private static final String[] CARD_PREFIXES = new String[]{"4", "51", "55", "2223", "34", "37", "6011", "36", "3528"};
+    private static final int[] CARD_LENGTHS = new int[]{16, 16, 16, 16, 15, 15, 16, 14, 16};
+    private static final String[] TOP_LEVEL_DOMAINS = new String[]{"com", "org", "net", "rs", "co.uk", "io"};
+    private static final String LOCAL_PART_CHARACTERS = "abcdefghijklmnopqrstuvwxyz0123456789._+-";
+
+    /**
+     * Private constructor for the Corpus class
+     */
+    private Corpus() {
+    }
+
+    /**
+     * The kinds of values that can be generated.
+     */
+    public enum Kind {
+        IBAN(IBANValidator.getInstance()),
+        CREDIT_CARD(CreditCardValidator.getInstance()),
+        EMAIL(EmailValidator.getInstance()),
+        ISBN(ISBNValidator.getInstance()),
+        JMBG(JMBGValidator.getInstance());
+
+        private final Validator<String> validator;
+
+        Kind(Validator<String> validator) {
+            this.validator = validator;
+        }
+
+        /**
+         * Gets the validator for this kind of values.
+         *
+         * @return The validator.
+         */
+        public Validator<String> validator() {
+            return validator;
+        }
+
+        /**
+         * Generates values of this kind.
+         *
+         * @param size         The number of values.
+         * @param invalidRatio The share of invalid values, from 0 to 1.
+         * @param seed         The seed that makes the values reproducible.
+         * @return The generated values.
+         */
+        public String[] generate(int size, double invalidRatio, long seed) {
+            SplittableRandom random = new SplittableRandom(seed);
+            String[] values = new String[size];
+            for (int i = 0; i < size; i++) {
+                boolean invalid = random.nextDouble() < invalidRatio;
+                values[i] = switch (this) {
+                    case IBAN -> iban(random, invalid);
+                    case CREDIT_CARD -> creditCard(random, invalid);
+                    case EMAIL -> email(random, invalid);
+                    case ISBN -> isbn(random, invalid);
+                    case JMBG -> jmbg(random, invalid);
+                };
+            }
+            return values;
+        }
+    }
+
+    // Helper function to generate an IBAN of a random country, compact or in groups of four.
+    private static String iban(SplittableRandom random, boolean invalid) {
+        String iban = IBANS[random.nextInt(IBANS.length)];
+        if (invalid) {
+            iban = switch (random.nextInt(3)) {
+                case 0 -> iban.substring(0, 2) + replaceDigit(iban.substring(2, 4), random) + iban.substring(4);
+                case 1 -> iban.substring(0, iban.length() - 1);
+                default -> "ZZ" + iban.substring(2);
+            };
+        }
+        return random.nextBoolean() ? iban : group(iban, 4, ' ');
+    }
+
+    // Helper function to generate a card number of a random brand, compact or grouped with hyphens or spaces.
+    private static String creditCard(SplittableRandom random, boolean invalid) {
+        int brand = random.nextInt(CARD_PREFIXES.length);
+        StringBuilder number = new StringBuilder(CARD_PREFIXES[brand]);
+        while (number.length() < CARD_LENGTHS[brand] - 1) {
+            number.append((char) ('0' + random.nextInt(10)));
+        }
+
+        int checkDigit = luhnCheckDigit(number);
+        number.append((char) ('0' + (invalid ? (checkDigit + 1 + random.nextInt(9)) % 10 : checkDigit)));
+
+        return switch (random.nextInt(3)) {
+            case 0 -> number.toString();
+            case 1 -> group(number.toString(), 4, '-');
+            default -> group(number.toString(), 4, ' ');
+        };
+    }
+
+    // Helper function to generate an email address, or a malformed one.
+    private static String email(SplittableRandom random, boolean invalid) {
+        StringBuilder email = new StringBuilder();
+        int localLength = 3 + random.nextInt(18);
+        for (int i = 0; i < localLength; i++) {
+            email.append(LOCAL_PART_CHARACTERS.charAt(random.nextInt(LOCAL_PART_CHARACTERS.length())));
+        }
+
+        String domain = letters(random, 3 + random.nextInt(10)) + "." + TOP_LEVEL_DOMAINS[random.nextInt(TOP_LEVEL_DOMAINS.length)];
+        if (!invalid) {
+            return email.append('@').append(domain).toString();
+        }
+
+        return switch (random.nextInt(3)) {
+            case 0 -> email.append(domain).toString();
+            case 1 -> email.append('@').append(letters(random, 8)).toString();
+            default -> email.append('@').append(domain).append(" x").toString();
+        };
+    }
+
+    // Helper function to generate an ISBN-10 or ISBN-13 number in one of the common notations.
+    private static String isbn(SplittableRandom random, boolean invalid) {
+        boolean isbn13 = random.nextBoolean();
+        StringBuilder digits = new StringBuilder(isbn13 ? (random.nextBoolean() ? "978" : "979") : "");
+        while (digits.length() < (isbn13 ? 12 : 9)) {
+            digits.append((char) ('0' + random.nextInt(10)));
+        }
+
+        String isbn = isbn13 ? ISBN13Checksum.getInstance().calculate(digits.toString())
+                : ISBN10Checksum.getInstance().calculate(digits.toString());
+        if (invalid) {
+            String checkDigit = isbn.substring(isbn.length() - 1);
+            isbn = isbn.substring(0, isbn.length() - 1) + ("X".equals(checkDigit) ? "0" : replaceDigit(checkDigit, random));
+        }
+
+        return switch (random.nextInt(4)) {
+            case 0 -> isbn;
+            case 1 -> hyphenate(isbn);
+            case 2 -> (isbn13 ? "ISBN-13: " : "ISBN-10: ") + hyphenate(isbn);
+            default -> "ISBN " + hyphenate(isbn).replace('-', ' ');
+        };
+    }
+
+    // Helper function to generate a JMBG with a random date of birth, region and unique number.
+    private static String jmbg(SplittableRandom random, boolean invalid) {
+        String digits = String.format("%02d%02d%03d%02d%03d", 1 + random.nextInt(28), 1 + random.nextInt(12),
+                random.nextInt(2) == 0 ? 900 + random.nextInt(100) : random.nextInt(24), random.nextInt(100), random.nextInt(1000));
+        String jmbg = JMBGChecksum.getInstance().calculate(digits);
+        if (!invalid) {
+            return jmbg;
+        }
+
+        return random.nextBoolean() ? jmbg.substring(0, 12) + replaceDigit(jmbg.substring(12), random)
+                : "32" + jmbg.substring(2);
+    }
+
+    // Helper function to calculate the Luhn check digit of a card number without its check digit.
+    private static int luhnCheckDigit(CharSequence number) {
+        int sum = 0;
+        for (int i = number.length() - 1, position = 0; i >= 0; i--, position++) {
+            int digit = number.charAt(i) - '0';
+            if (position % 2 == 0) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+    // Helper function to replace every digit of the given string with a different digit.
+    private static String replaceDigit(String digits, SplittableRandom random) {
+        StringBuilder replaced = new StringBuilder(digits);
+        for (int i = 0; i < replaced.length(); i++) {
+            char c = replaced.charAt(i);
+            if (c >= '0' && c <= '9') {
+                replaced.setCharAt(i, (char) ('0' + (c - '0' + 1 + random.nextInt(9)) % 10));
+            }
+        }
+        return replaced.toString();
+    }
+
+    // Helper function to split a value into groups of the given size.
+    private static String group(String value, int size, char separator) {
+        StringBuilder grouped = new StringBuilder(value.length() + value.length() / size);
+        for (int i = 0; i < value.length(); i++) {
+            if (i > 0 && i % size == 0) {
+                grouped.append(separator);
+            }
+            grouped.append(value.charAt(i));
+        }
+        return grouped.toString();
+    }
+
+    // Helper function to hyphenate an ISBN with a fixed group layout.
+    private static String hyphenate(String isbn) {
+        int offset = isbn.length() == 13 ? 3 : 0;
+        String prefix = offset == 0 ? "" : isbn.substring(0, 3) + "-";
+        return prefix + isbn.charAt(offset) + "-" + isbn.substring(offset + 1, offset + 4) + "-"
+                + isbn.substring(offset + 4, offset + 9) + "-" + isbn.charAt(offset + 9);
+    }
+
+    // Helper function to generate random lower case letters.
+    private static String letters(SplittableRandom random, int length) {
+        StringBuilder letters = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            letters.append((char) ('a' + random.nextInt(26)));
+        }
+        return letters.toString();
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.checkmate.benchmarks;
+
+import com.checkmate.checksum.CreditCardBatchChecksum;
+import com.checkmate.checksum.CreditCardChecksum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to run the Luhn check over a batch of card numbers, one by one and with the CreditCardBatchChecksum.
+ * The forks run with the Vector API module, so the batch checksum takes its vectorized path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class CreditCardBatchBenchmark {
+
+    @Param({"10000"})
+    public int batchSize;
+
+    private String[] numbers;
+    private boolean[] results;
+
+    @Setup
+    public void setup() {
+        numbers = Corpus.Kind.CREDIT_CARD.generate(batchSize, 0.1, 42);
+        results = new boolean[batchSize];
+    }
+
+    @Benchmark
+    public boolean[] scalar() {
+        CreditCardChecksum checksum = CreditCardChecksum.getInstance();
+        for (int i = 0; i < numbers.length; i++) {
+            results[i] = checksum.isValid(numbers[i], 0, numbers[i].length());
+        }
+        return results;
+    }
+
+    @Benchmark
+    public boolean[] batch() {
+        CreditCardBatchChecksum.getInstance().isValid(numbers, results);
+        return results;
+    }
+
+}
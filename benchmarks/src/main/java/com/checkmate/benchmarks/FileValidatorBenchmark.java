@@ -0,0 +1,67 @@
+package com.checkmate.benchmarks;
+
+import com.checkmate.validation.file.FileValidationSummary;
+import com.checkmate.validation.file.FileValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to validate one column of a CSV file with the FileValidator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileValidatorBenchmark {
+
+    @Param({"IBAN", "CREDIT_CARD", "EMAIL"})
+    public Corpus.Kind kind;
+
+    @Param({"1000000"})
+    public int lines;
+
+    private Path file;
+    private FileValidator validator;
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("check-mate-benchmark", ".csv");
+        String[] values = kind.generate(lines, 0.1, 42);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+            for (int i = 0; i < values.length; i++) {
+                writer.write(i + ",\"" + values[i] + "\",EUR\n");
+            }
+        }
+        validator = FileValidator.builder(kind.validator()).column(1).build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public FileValidationSummary validate() throws IOException {
+        return validator.validate(file);
+    }
+
+}
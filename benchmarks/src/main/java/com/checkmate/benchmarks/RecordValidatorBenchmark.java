@@ -0,0 +1,102 @@
+package com.checkmate.benchmarks;
+
+import com.checkmate.validation.Validator;
+import com.checkmate.validation.record.RecordSchema;
+import com.checkmate.validation.record.RecordValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to validate CSV records of an IBAN, a card number, an email and a JMBG, where only the JMBGs are ever invalid:
+ * with the four validators one after another on the split line, and with a RecordValidator in the order of the
+ * fields and in the adaptive order.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RecordValidatorBenchmark {
+
+    private static final Corpus.Kind[] COLUMNS = {Corpus.Kind.IBAN, Corpus.Kind.CREDIT_CARD, Corpus.Kind.EMAIL, Corpus.Kind.JMBG};
+
+    @Param({"0.01", "0.3"})
+    public double invalidRatio;
+
+    @Param({"100000"})
+    public int records;
+
+    private Validator<?>[] validators;
+    private RecordValidator fixed;
+    private RecordValidator adaptive;
+    private String[] lines;
+
+    @Setup
+    public void setup() {
+        validators = new Validator<?>[COLUMNS.length];
+        RecordSchema.Builder schema = RecordSchema.builder();
+        String[][] columns = new String[COLUMNS.length][];
+        for (int i = 0; i < COLUMNS.length; i++) {
+            validators[i] = COLUMNS[i].validator();
+            schema.field(i, validators[i]);
+            columns[i] = COLUMNS[i].generate(records, COLUMNS[i] == Corpus.Kind.JMBG ? invalidRatio : 0, 42 + i);
+        }
+        adaptive = schema.build().compile();
+        fixed = schema.adaptive(false).build().compile();
+
+        lines = new String[records];
+        for (int i = 0; i < records; i++) {
+            lines[i] = columns[0][i] + "," + columns[1][i] + "," + columns[2][i] + "," + columns[3][i];
+        }
+    }
+
+    @Benchmark
+    public int sequential() {
+        int valid = 0;
+        for (String line : lines) {
+            String[] fields = line.split(",", -1);
+            boolean ok = true;
+            for (int i = 0; i < validators.length; i++) {
+                ok &= validators[i].check(fields[i]).isValid();
+            }
+            if (ok) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int fixedOrder() {
+        return count(fixed);
+    }
+
+    @Benchmark
+    public int adaptiveOrder() {
+        return count(adaptive);
+    }
+
+    // Helper function to count the valid records.
+    private int count(RecordValidator validator) {
+        int valid = 0;
+        for (String line : lines) {
+            if (validator.checkRecord(line).isValid()) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+}
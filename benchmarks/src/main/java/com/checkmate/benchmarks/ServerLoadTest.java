@@ -0,0 +1,165 @@
+package com.checkmate.benchmarks;
+
+import com.checkmate.server.ValidationServer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * <p>
+ * A closed-loop load test of the ValidationServer on localhost: every client thread sends its next request as soon as
+ * the previous one completes. The number of clients doubles from 1 up to the maximum, and for every step
+ * the throughput and the tail latencies are reported, along with the requests that were rejected by the admission control.
+ * </p>
+ * <p>
+ * This is not a JMH benchmark, run it from the benchmark jar with the kind of values, the number of values per request,
+ * the maximum number of clients and the seconds per step, e.g.
+ * {@code java -Dsun.net.httpserver.nodelay=true -cp target/benchmarks.jar com.checkmate.benchmarks.ServerLoadTest IBAN 100 256 5}.
+ * Without the {@code sun.net.httpserver.nodelay} property, most responses are delayed by Nagle's algorithm.
+ * </p>
+ */
+public final class ServerLoadTest {
+
+    private static final int BODIES = 1024;
+    private static final double INVALID_RATIO = 0.1;
+    private static final long SEED = 42;
+    private static final int OK = 200;
+    private static final int SERVICE_UNAVAILABLE = 503;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * Private constructor for the ServerLoadTest class
+     */
+    private ServerLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Corpus.Kind kind = Corpus.Kind.valueOf(args.length > 0 ? args[0] : "IBAN");
+        int batchSize = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        int maxClients = args.length > 2 ? Integer.parseInt(args[2]) : 256;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 5;
+
+        String[] values = kind.generate(BODIES * batchSize, INVALID_RATIO, SEED);
+        String[] bodies = new String[BODIES];
+        for (int i = 0; i < BODIES; i++) {
+            bodies[i] = String.join("\n", Arrays.copyOfRange(values, i * batchSize, (i + 1) * batchSize));
+        }
+
+        try (ValidationServer server = ValidationServer.builder().port(0).build()) {
+            server.start();
+            String name = kind.name().toLowerCase(Locale.ROOT).replace('_', '-');
+            URI uri = URI.create("http://localhost:" + server.getAddress().getPort() + "/validate/" + name
+                    + (batchSize > 1 ? "/batch" : ""));
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+            System.out.printf("%s, %d values per request, %d s per step%n", kind, batchSize, seconds);
+            run(client, uri, bodies, Math.min(maxClients, 8), seconds);
+            System.out.printf("%8s %12s %12s %9s %9s %9s %9s %9s%n",
+                    "clients", "requests/s", "values/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "rejected");
+            for (int clients = 1; clients <= maxClients; clients *= 2) {
+                Step step = run(client, uri, bodies, clients, seconds);
+                System.out.printf("%8d %12.0f %12.0f %9.3f %9.3f %9.3f %9.3f %9d%n", clients,
+                        step.completed / step.seconds, step.completed * batchSize / step.seconds,
+                        step.percentile(0.5), step.percentile(0.99), step.percentile(0.999), step.percentile(1), step.rejected);
+            }
+        }
+    }
+
+    // Helper function to load the server with the given number of clients for the given number of seconds.
+    private static Step run(HttpClient client, URI uri, String[] bodies, int clients, int seconds) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        long start = System.nanoTime();
+        long deadline = start + seconds * 1_000_000_000L;
+        try {
+            List<Future<Client>> futures = new ArrayList<>(clients);
+            for (int i = 0; i < clients; i++) {
+                int offset = i * (bodies.length / clients);
+                futures.add(executor.submit(() -> new Client().run(client, uri, bodies, offset, deadline)));
+            }
+
+            Step step = new Step();
+            for (Future<Client> future : futures) {
+                step.add(future.get());
+            }
+            step.seconds = (System.nanoTime() - start) / 1e9;
+            Arrays.sort(step.latencies, 0, step.size);
+            return step;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * A client that sends requests one after another and records the latency of every completed request.
+     */
+    private static final class Client {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private long rejected;
+
+        private Client run(HttpClient client, URI uri, String[] bodies, int offset, long deadline) throws IOException, InterruptedException {
+            for (int i = offset; System.nanoTime() < deadline; i++) {
+                HttpRequest request = HttpRequest.newBuilder(uri)
+                        .POST(HttpRequest.BodyPublishers.ofString(bodies[i % bodies.length]))
+                        .build();
+                long sent = System.nanoTime();
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                long latency = System.nanoTime() - sent;
+
+                if (response.statusCode() == SERVICE_UNAVAILABLE) {
+                    rejected++;
+                } else if (response.statusCode() != OK) {
+                    throw new IOException("Unexpected status " + response.statusCode() + " from " + uri);
+                } else {
+                    if (size == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, size * 2);
+                    }
+                    latencies[size++] = latency;
+                }
+            }
+            return this;
+        }
+
+    }
+
+    /**
+     * The merged results of every client of a step.
+     */
+    private static final class Step {
+
+        private long[] latencies = new long[0];
+        private int size;
+        private long completed;
+        private long rejected;
+        private double seconds;
+
+        private void add(Client client) {
+            latencies = Arrays.copyOf(latencies, size + client.size);
+            System.arraycopy(client.latencies, 0, latencies, size, client.size);
+            size += client.size;
+            completed += client.size;
+            rejected += client.rejected;
+        }
+
+        private double percentile(double quantile) {
+            if (size == 0) {
+                return 0;
+            }
+            int rank = (int) Math.min(size - 1, Math.max(0, Math.ceil(quantile * size) - 1));
+            return latencies[rank] / NANOS_PER_MILLI;
+        }
+
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.checkmate.benchmarks;
+
+import com.checkmate.validation.Validator;
+import com.checkmate.validation.bytes.ByteValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of every validator over a mix of valid and invalid values,
+ * through the String, the character range and the byte entry points.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ValidatorBenchmark {
+
+    private static final int CORPUS_SIZE = 4096;
+    private static final char SEPARATOR = ';';
+
+    @Param({"IBAN", "CREDIT_CARD", "EMAIL", "ISBN", "JMBG"})
+    public Corpus.Kind kind;
+
+    @Param({"0.0", "0.1", "0.5"})
+    public double invalidRatio;
+
+    private Validator<String> validator;
+    private ByteValidator byteValidator;
+    private String[] values;
+    private String message;
+    private ByteBuffer directMessage;
+    private int[] offsets;
+
+    @Setup
+    public void setup() {
+        validator = kind.validator();
+        byteValidator = ByteValidator.of(validator);
+        values = kind.generate(CORPUS_SIZE, invalidRatio, 42);
+
+        StringBuilder builder = new StringBuilder();
+        offsets = new int[values.length + 1];
+        for (int i = 0; i < values.length; i++) {
+            offsets[i] = builder.length();
+            builder.append(values[i]).append(SEPARATOR);
+        }
+        offsets[values.length] = builder.length();
+        message = builder.toString();
+
+        byte[] bytes = message.getBytes(StandardCharsets.US_ASCII);
+        directMessage = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean isValid(Cursor cursor) {
+        return validator.isValid(values[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean isValidAllThreads(Cursor cursor) {
+        return validator.isValid(values[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean isValidRange(Cursor cursor) {
+        int i = cursor.next();
+        return validator.isValid(message, offsets[i], offsets[i + 1] - 1);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean isValidDirectBytes(Cursor cursor) {
+        int i = cursor.next();
+        return byteValidator.isValid(directMessage, offsets[i], offsets[i + 1] - 1 - offsets[i]);
+    }
+
+    /**
+     * The position of a benchmark thread in the corpus.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int index;
+
+        int next() {
+            index = (index + 1) & (CORPUS_SIZE - 1);
+            return index;
+        }
+
+    }
+
+}
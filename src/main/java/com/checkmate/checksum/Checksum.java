@@ -44,6 +44,24 @@ public abstract class Checksum {
      */
     protected abstract boolean hasTwoCheckDigits();
 
+    /**
+     * Gets the {@link ChecksumAlgorithm} that validates and calculates this checksum, configured with its parameters.
+     *
+     * @return The checksum algorithm.
+     * @since 1.2.0
+     */
+    public abstract ChecksumAlgorithm getAlgorithm();
+
+    /**
+     * Creates a new, empty state that validates an input read in parts, e.g. while it arrives over the network.
+     *
+     * @return A new state for this checksum.
+     * @since 1.2.0
+     */
+    public ChecksumState newState() {
+        return getAlgorithm().newState();
+    }
+
     /**
      * Validates the input against the checksum algorithm.
      *
@@ -52,4 +70,16 @@ public abstract class Checksum {
      */
     protected abstract boolean isValid(String input);
 
-}
\ No newline at end of file
+    // Helper function to remove every character other than a decimal digit from an input.
+    static String digitsOf(String input) {
+        StringBuilder digits = new StringBuilder(input.length());
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
+}
@@ -0,0 +1,617 @@
+package com.checkmate.checksum;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>
+ * The ChecksumAlgorithm class is a general, table-driven engine for check character algorithms.
+ * It supports weighted sums modulo N, the Luhn algorithm, the pure systems of ISO 7064 (e.g. MOD 11-2, MOD 37-2 and MOD 97-10),
+ * the hybrid systems of ISO 7064 (e.g. MOD 11,10 and MOD 37,36), the Verhoeff algorithm and the Damm algorithm.
+ * </p>
+ * <p>
+ * Every algorithm reads its input once, from left to right, and allocates nothing: characters are mapped to their values
+ * with a lookup table and the running state of the algorithm, e.g. a weighted sum, the Luhn sums of both parities or a remainder,
+ * is packed into a single {@code long}. Algorithms that work from the right, such as Luhn and Verhoeff, keep the state
+ * of every possible alignment, so the length of the input doesn't have to be known in advance.
+ * </p>
+ * <p>
+ * ChecksumAlgorithms are immutable and thread-safe. The algorithms of the identifiers supported by this library are available
+ * from their {@link Checksum} classes, e.g. {@code IBANChecksum.getInstance().getAlgorithm()}, and new identifiers
+ * only need a new configuration:
+ * </p>
+ *
+ * <pre>{@code
+ * ChecksumAlgorithm orcid = ChecksumAlgorithm.ISO_7064_MOD_11_2.ignoring("-");
+ * boolean valid = orcid.isValid("0000-0002-1825-0097"); // true
+ * }</pre>
+ *
+ * @since 1.2.0
+ */
+public final class ChecksumAlgorithm {
+
+    /**
+     * The <a href="https://en.wikipedia.org/wiki/Luhn_algorithm">Luhn algorithm</a> over decimal digits.
+     */
+    public static final ChecksumAlgorithm LUHN = luhn(10, "0123456789");
+
+    /**
+     * The <a href="https://en.wikipedia.org/wiki/Verhoeff_algorithm">Verhoeff algorithm</a> over decimal digits.
+     */
+    public static final ChecksumAlgorithm VERHOEFF = new ChecksumAlgorithm(Kind.VERHOEFF, 10, 10, "0123456789", "0123456789", 1, null, false);
+
+    /**
+     * The <a href="https://en.wikipedia.org/wiki/Damm_algorithm">Damm algorithm</a> over decimal digits.
+     */
+    public static final ChecksumAlgorithm DAMM = new ChecksumAlgorithm(Kind.DAMM, 10, 10, "0123456789", "0123456789", 1, null, false);
+
+    /**
+     * The ISO 7064 MOD 11-2 algorithm over decimal digits, with {@code X} as the check character 10, e.g. used by ORCID and ISNI.
+     * An {@code X} is only allowed as the check character.
+     */
+    public static final ChecksumAlgorithm ISO_7064_MOD_11_2 = iso7064(11, 2, "0123456789X", 1);
+
+    /**
+     * The ISO 7064 MOD 37-2 algorithm over digits and upper case letters, with {@code *} as the check character 36.
+     * A {@code *} is only allowed as the check character.
+     */
+    public static final ChecksumAlgorithm ISO_7064_MOD_37_2 = iso7064(37, 2, "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ*", 1);
+
+    /**
+     * The ISO 7064 MOD 97-10 algorithm over decimal digits, with two check digits.
+     */
+    public static final ChecksumAlgorithm ISO_7064_MOD_97_10 = iso7064(97, 10, "0123456789", 2);
+
+    /**
+     * The ISO 7064 MOD 97-10 algorithm over digits and letters, with two check digits. Letters of either case are converted
+     * to the numbers 10 - 35 and count as two digits, as in IBANs (ISO 13616) and creditor references (ISO 11649).
+     */
+    public static final ChecksumAlgorithm ISO_7064_MOD_97_10_ALPHANUMERIC = iso7064Alphanumeric(97, 10, "0123456789", 2);
+
+    /**
+     * The ISO 7064 MOD 11,10 hybrid algorithm over decimal digits.
+     */
+    public static final ChecksumAlgorithm ISO_7064_MOD_11_10 = iso7064Hybrid("0123456789");
+
+    /**
+     * The ISO 7064 MOD 37,36 hybrid algorithm over digits and upper case letters.
+     */
+    public static final ChecksumAlgorithm ISO_7064_MOD_37_36 = iso7064Hybrid("0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+
+    static final long INITIAL_STATE = 0L;
+    static final long INVALID_STATE = -1L;
+
+    private static final int INVALID = -1;
+    private static final int SKIPPED = -2;
+    private static final int CHECK_ONLY = -3;
+    private static final int ASCII_SIZE = 128;
+
+    // The state holds the number of characters read in the highest bits and the state of the algorithm in the others
+    private static final int COUNT_SHIFT = 44;
+    private static final long DATA_MASK = (1L << COUNT_SHIFT) - 1;
+    private static final int MAX_COUNT = (1 << (Long.SIZE - COUNT_SHIFT)) - 2;
+    private static final int SUM_BITS = 36;
+    private static final long SUM_MASK = (1L << SUM_BITS) - 1;
+    private static final long REDUCE_LIMIT = 1L << 32;
+    private static final int MAX_WEIGHT = 0xFFFF;
+    // Set once a character that is only allowed as the check character was read, nothing may follow it
+    private static final long CHECK_READ = 1L << (COUNT_SHIFT - 1);
+    private static final int HYBRID_SHIFT = 8;
+    private static final long HYBRID_MASK = (1L << HYBRID_SHIFT) - 1;
+
+    private static final int[] DOUBLED = {0, 2, 4, 6, 8, 1, 3, 5, 7, 9};
+    private static final int VERHOEFF_PERIOD = 8;
+    private static final int[][] VERHOEFF_MULTIPLICATION = {
+            {0, 1, 2, 3, 4, 5, 6, 7, 8, 9},
+            {1, 2, 3, 4, 0, 6, 7, 8, 9, 5},
+            {2, 3, 4, 0, 1, 7, 8, 9, 5, 6},
+            {3, 4, 0, 1, 2, 8, 9, 5, 6, 7},
+            {4, 0, 1, 2, 3, 9, 5, 6, 7, 8},
+            {5, 9, 8, 7, 6, 0, 4, 3, 2, 1},
+            {6, 5, 9, 8, 7, 1, 0, 4, 3, 2},
+            {7, 6, 5, 9, 8, 2, 1, 0, 4, 3},
+            {8, 7, 6, 5, 9, 3, 2, 1, 0, 4},
+            {9, 8, 7, 6, 5, 4, 3, 2, 1, 0}
+    };
+    private static final int[][] VERHOEFF_PERMUTATION = {
+            {0, 1, 2, 3, 4, 5, 6, 7, 8, 9},
+            {1, 5, 7, 6, 2, 8, 3, 0, 9, 4},
+            {5, 8, 0, 3, 7, 9, 6, 1, 4, 2},
+            {8, 9, 1, 6, 0, 4, 3, 5, 2, 7},
+            {9, 4, 5, 3, 1, 2, 6, 8, 7, 0},
+            {4, 2, 8, 6, 5, 7, 3, 9, 0, 1},
+            {2, 7, 9, 3, 8, 0, 6, 4, 1, 5},
+            {7, 0, 4, 6, 9, 1, 3, 2, 5, 8}
+    };
+    private static final int[] VERHOEFF_INVERSE = {0, 4, 3, 2, 1, 5, 6, 7, 8, 9};
+    private static final int[][] DAMM_QUASIGROUP = {
+            {0, 3, 1, 7, 5, 9, 8, 6, 4, 2},
+            {7, 0, 9, 2, 1, 5, 4, 8, 6, 3},
+            {4, 2, 0, 6, 8, 7, 1, 3, 5, 9},
+            {1, 7, 5, 0, 9, 8, 3, 4, 2, 6},
+            {6, 1, 2, 3, 0, 4, 5, 9, 7, 8},
+            {3, 6, 7, 4, 2, 0, 9, 5, 8, 1},
+            {5, 8, 6, 9, 7, 2, 0, 1, 3, 4},
+            {8, 9, 4, 5, 3, 6, 2, 0, 1, 7},
+            {9, 4, 3, 8, 6, 1, 7, 2, 0, 5},
+            {2, 5, 8, 1, 4, 3, 6, 7, 9, 0}
+    };
+
+    private final Kind kind;
+    private final int modulus;
+    private final int radix;
+    private final char[] checkCharacters;
+    private final int checkLength;
+    private final int[] weights;
+    private final boolean expanded;
+    private final byte[] values;
+
+    /**
+     * Private constructor for the ChecksumAlgorithm class
+     */
+    private ChecksumAlgorithm(Kind kind, int modulus, int radix, String alphabet, String checkCharacters, int checkLength,
+                              int[] weights, boolean expanded) {
+        this.kind = kind;
+        this.modulus = modulus;
+        this.radix = radix;
+        this.checkCharacters = checkCharacters.toCharArray();
+        this.checkLength = checkLength;
+        this.weights = weights;
+        this.expanded = expanded;
+        this.values = new byte[ASCII_SIZE];
+
+        Arrays.fill(values, (byte) INVALID);
+        for (int i = 0; i < checkCharacters.length(); i++) {
+            values[ascii(checkCharacters.charAt(i))] = CHECK_ONLY;
+        }
+        for (int i = 0; i < alphabet.length(); i++) {
+            char c = ascii(alphabet.charAt(i));
+            if (values[c] >= 0) {
+                throw new IllegalArgumentException("The alphabet contains " + c + " more than once");
+            }
+            values[c] = (byte) i;
+        }
+    }
+
+    /**
+     * Private copy constructor for the ChecksumAlgorithm class
+     */
+    private ChecksumAlgorithm(ChecksumAlgorithm algorithm, byte[] values) {
+        this.kind = algorithm.kind;
+        this.modulus = algorithm.modulus;
+        this.radix = algorithm.radix;
+        this.checkCharacters = algorithm.checkCharacters;
+        this.checkLength = algorithm.checkLength;
+        this.weights = algorithm.weights;
+        this.expanded = algorithm.expanded;
+        this.values = values;
+    }
+
+    /**
+     * Creates an algorithm that multiplies the values of the characters with weights, from the left, sums them and
+     * takes the check character that makes the sum of the whole input, check character included, divisible by the modulus.
+     * The weights are repeated when the input is longer than the weights.
+     *
+     * @param modulus         The modulus of the sum.
+     * @param alphabet        The characters of the input, each character has the value of its index.
+     * @param checkCharacters The check characters, the check character for the value {@code v} is at index {@code v},
+     *                        so it must contain exactly {@code modulus} characters.
+     * @param weights         The weights of the characters of the input, without the check character.
+     * @return The weighted algorithm.
+     * @throws IllegalArgumentException if the parameters don't describe a valid algorithm.
+     */
+    public static ChecksumAlgorithm weighted(int modulus, String alphabet, String checkCharacters, int... weights) {
+        if (modulus < 2 || checkCharacters.length() != modulus) {
+            throw new IllegalArgumentException("There must be exactly one check character per value of the modulus");
+        }
+        if (weights.length == 0 || Arrays.stream(weights).anyMatch(weight -> weight < 0 || weight > MAX_WEIGHT)) {
+            throw new IllegalArgumentException("There must be at least one weight and every weight must be between 0 and " + MAX_WEIGHT);
+        }
+        return new ChecksumAlgorithm(Kind.WEIGHTED, modulus, 10, alphabet, checkCharacters, 1, weights.clone(), false);
+    }
+
+    /**
+     * Creates the Luhn algorithm over the given digits.
+     *
+     * @param modulus  The modulus, which is always 10 for the Luhn algorithm.
+     * @param alphabet The ten digits of the input, each digit has the value of its index.
+     * @return The Luhn algorithm.
+     * @throws IllegalArgumentException if the modulus is not 10 or the alphabet doesn't have ten digits.
+     */
+    static ChecksumAlgorithm luhn(int modulus, String alphabet) {
+        if (modulus != 10 || alphabet.length() != modulus) {
+            throw new IllegalArgumentException("The Luhn algorithm works on exactly ten digits");
+        }
+        return new ChecksumAlgorithm(Kind.LUHN, modulus, modulus, alphabet, alphabet, 1, null, false);
+    }
+
+    /**
+     * Creates an algorithm of the pure systems of ISO 7064, in which the whole input, check characters included,
+     * read as a number in the given radix, leaves a remainder of 1 when divided by the modulus.
+     *
+     * @param modulus     The modulus, e.g. 11 for MOD 11-2.
+     * @param radix       The radix, e.g. 2 for MOD 11-2.
+     * @param alphabet    The characters of the input, each character has the value of its index.
+     *                    The check characters are taken from the start of the alphabet. With a single check character and
+     *                    exactly {@code modulus} characters, the last one is a supplementary check character,
+     *                    e.g. {@code X} for MOD 11-2, which is only allowed as the check character.
+     * @param checkLength The number of check characters, 1 or 2. Two check characters are written as the two
+     *                    digits of the check value in the radix.
+     * @return The ISO 7064 algorithm.
+     * @throws IllegalArgumentException if the parameters don't describe a valid algorithm.
+     */
+    public static ChecksumAlgorithm iso7064(int modulus, int radix, String alphabet, int checkLength) {
+        if (modulus < 2 || radix < 2 || radix > 36 || alphabet.length() > ASCII_SIZE) {
+            throw new IllegalArgumentException("The modulus and the radix must be at least 2 and the radix at most 36");
+        }
+        if (checkLength == 1 ? alphabet.length() < modulus : checkLength != 2 || alphabet.length() < radix || radix * radix < modulus) {
+            throw new IllegalArgumentException("The alphabet doesn't contain a check character for every value of the modulus");
+        }
+        String checkCharacters = alphabet.substring(0, checkLength == 1 ? modulus : radix);
+        String payload = checkLength == 1 && alphabet.length() == modulus ? alphabet.substring(0, modulus - 1) : alphabet;
+        return new ChecksumAlgorithm(Kind.ISO_7064, modulus, radix, payload, checkCharacters, checkLength, null, false);
+    }
+
+    /**
+     * Creates an algorithm of the pure systems of ISO 7064 over decimal digits and letters of either case, in which the letters
+     * are converted to the numbers 10 - 35 and count as two digits, as in IBANs (ISO 13616).
+     *
+     * @param modulus         The modulus, e.g. 97 for MOD 97-10.
+     * @param radix           The radix, e.g. 10 for MOD 97-10.
+     * @param checkCharacters The check characters, the check digit for the value {@code v} is at index {@code v}.
+     * @param checkLength     The number of check characters, 1 or 2.
+     * @return The ISO 7064 algorithm.
+     */
+    static ChecksumAlgorithm iso7064Alphanumeric(int modulus, int radix, String checkCharacters, int checkLength) {
+        return new ChecksumAlgorithm(Kind.ISO_7064, modulus, radix, "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ",
+                checkCharacters, checkLength, null, true)
+                .withAlias("abcdefghijklmnopqrstuvwxyz", "ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+    }
+
+    /**
+     * Creates an algorithm of the hybrid systems of ISO 7064, MOD (M+1),M, which keep a running value that is added to
+     * every character modulo M and doubled modulo M+1. The check character is one of the characters of the alphabet.
+     *
+     * @param alphabet The characters of the input, each character has the value of its index.
+     *                 The modulus M is the number of characters, e.g. 10 for MOD 11,10.
+     * @return The hybrid ISO 7064 algorithm.
+     * @throws IllegalArgumentException if the alphabet has fewer than 2 or more than 127 characters.
+     */
+    public static ChecksumAlgorithm iso7064Hybrid(String alphabet) {
+        if (alphabet.length() < 2 || alphabet.length() >= ASCII_SIZE) {
+            throw new IllegalArgumentException("The alphabet must have between 2 and " + (ASCII_SIZE - 1) + " characters");
+        }
+        return new ChecksumAlgorithm(Kind.ISO_7064_HYBRID, alphabet.length(), alphabet.length(), alphabet, alphabet, 1, null, false);
+    }
+
+    /**
+     * Creates a copy of this algorithm that skips the given characters, e.g. spaces and hyphens between groups of digits.
+     *
+     * @param characters The ASCII characters to skip.
+     * @return An algorithm that skips the given characters.
+     * @throws IllegalArgumentException if one of the characters is a part of the alphabet or isn't an ASCII character.
+     */
+    public ChecksumAlgorithm ignoring(String characters) {
+        byte[] copy = values.clone();
+        for (int i = 0; i < characters.length(); i++) {
+            char c = ascii(characters.charAt(i));
+            if (copy[c] != INVALID && copy[c] != SKIPPED) {
+                throw new IllegalArgumentException("The character " + c + " is a part of the alphabet");
+            }
+            copy[c] = SKIPPED;
+        }
+        return new ChecksumAlgorithm(this, copy);
+    }
+
+    /**
+     * Gets the number of check characters at the end of a valid input.
+     *
+     * @return The number of check characters, 1 or 2.
+     */
+    public int getCheckLength() {
+        return checkLength;
+    }
+
+    /**
+     * Creates a new, empty state that validates an input read in parts, e.g. while it arrives over the network.
+     *
+     * @return A new state for this algorithm.
+     */
+    public ChecksumState newState() {
+        return new ChecksumState(this, 0, 0);
+    }
+
+    /**
+     * Validates the given input.
+     *
+     * @param input The input to be validated, check characters included.
+     * @return {@code true} if the input is valid according to the algorithm, {@code false} otherwise.
+     */
+    public boolean isValid(CharSequence input) {
+        return isValid(input, 0, input.length());
+    }
+
+    /**
+     * Validates the input in the given range of a character sequence.
+     *
+     * @param input The character sequence that contains the input, check characters included.
+     * @param from  The index of the first character of the input (inclusive).
+     * @param to    The index of the last character of the input (exclusive).
+     * @return {@code true} if the input is valid according to the algorithm, {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     */
+    public boolean isValid(CharSequence input, int from, int to) {
+        Objects.checkFromToIndex(from, to, input.length());
+        return isValid(update(INITIAL_STATE, input, from, to));
+    }
+
+    /**
+     * Calculates the check characters of the given input and appends them to it.
+     * The characters skipped by this algorithm are removed from the result.
+     *
+     * @param payload The input without its check characters.
+     * @return The input followed by its check characters.
+     * @throws IllegalArgumentException if the input is empty or contains characters outside the alphabet.
+     */
+    public String calculate(CharSequence payload) {
+        StringBuilder result = new StringBuilder(payload.length() + checkLength);
+        long state = INITIAL_STATE;
+        for (int i = 0; i < payload.length(); i++) {
+            char c = payload.charAt(i);
+            if (valueOf(c) == SKIPPED) {
+                continue;
+            }
+            state = update(state, c);
+            result.append(c);
+        }
+
+        int check = checkValue(state);
+        if (check < 0) {
+            throw new IllegalArgumentException("The input is empty or contains characters outside the alphabet: " + payload);
+        }
+        if (checkLength == 2) {
+            result.append(checkCharacters[check / radix]);
+            check %= radix;
+        }
+        return result.append(checkCharacters[check]).toString();
+    }
+
+    /**
+     * Reads the characters in the given range into a state.
+     *
+     * @param state The state before the characters, {@link #INITIAL_STATE} for the start of an input.
+     * @param input The character sequence that contains the characters.
+     * @param from  The index of the first character (inclusive).
+     * @param to    The index of the last character (exclusive).
+     * @return The state after the characters.
+     */
+    long update(long state, CharSequence input, int from, int to) {
+        for (int i = from; i < to && state != INVALID_STATE; i++) {
+            state = update(state, input.charAt(i));
+        }
+        return state;
+    }
+
+    /**
+     * Reads a single character into a state.
+     *
+     * @param state The state before the character, {@link #INITIAL_STATE} for the start of an input.
+     * @param c     The character.
+     * @return The state after the character, or {@link #INVALID_STATE} if the character can't be a part of a valid input.
+     */
+    long update(long state, char c) {
+        int value = valueOf(c);
+        if (value == SKIPPED || state == INVALID_STATE) {
+            return state;
+        }
+        int count = (int) (state >>> COUNT_SHIFT);
+        long data = state & DATA_MASK;
+        if (value == INVALID || count == MAX_COUNT || (data & CHECK_READ) != 0 && kind != Kind.WEIGHTED) {
+            return INVALID_STATE;
+        }
+        long flag = 0;
+        if (value == CHECK_ONLY && kind != Kind.WEIGHTED) {
+            value = checkValueOf(c);
+            flag = CHECK_READ;
+        }
+
+        data = switch (kind) {
+            case WEIGHTED -> updateWeighted(data, count, c);
+            case LUHN -> updateLuhn(data, count, value);
+            case ISO_7064 -> updateISO7064(data, value);
+            case ISO_7064_HYBRID -> updateHybrid(data, count, value);
+            case VERHOEFF -> updateVerhoeff(data, count, value);
+            case DAMM -> DAMM_QUASIGROUP[(int) data][value];
+        };
+        return data < 0 ? INVALID_STATE : (long) (count + 1) << COUNT_SHIFT | flag | data;
+    }
+
+    /**
+     * Checks if the characters read into a state form a valid input, check characters included.
+     *
+     * @param state The state after the last character of the input.
+     * @return {@code true} if the input is valid according to the algorithm, {@code false} otherwise.
+     */
+    boolean isValid(long state) {
+        int count = (int) (state >>> COUNT_SHIFT);
+        if (state == INVALID_STATE || count <= checkLength) {
+            return false;
+        }
+
+        long data = state & DATA_MASK & ~CHECK_READ;
+        return switch (kind) {
+            case WEIGHTED -> {
+                int expected = (int) ((modulus - (data & SUM_MASK) % modulus) % modulus);
+                yield data >>> SUM_BITS == checkCharacters[expected];
+            }
+            case LUHN -> ((count & 1) == 0 ? data & 0xF : data >>> 4) == 0;
+            case ISO_7064 -> data % modulus == 1;
+            case ISO_7064_HYBRID -> (data & HYBRID_MASK) == 1;
+            case VERHOEFF -> verhoeffDigit(data, count - 1) == 0;
+            case DAMM -> data == 0;
+        };
+    }
+
+    /**
+     * Calculates the check value for the characters read into a state, as if they were the input without its check characters.
+     *
+     * @param state The state after the last character of the input.
+     * @return The check value, or -1 if the input is empty or invalid.
+     */
+    int checkValue(long state) {
+        int count = (int) (state >>> COUNT_SHIFT);
+        if (state == INVALID_STATE || count == 0 || (state & CHECK_READ) != 0 && kind != Kind.WEIGHTED) {
+            return -1;
+        }
+
+        long data = state & DATA_MASK;
+        return switch (kind) {
+            case WEIGHTED -> {
+                long sum = updateWeighted(data, count, (char) 0);
+                yield sum < 0 ? -1 : (int) ((modulus - sum % modulus) % modulus);
+            }
+            case LUHN -> (int) ((10 - ((count & 1) == 1 ? data & 0xF : data >>> 4)) % 10);
+            case ISO_7064 -> {
+                long remainder = data % modulus;
+                for (int i = 0; i < checkLength; i++) {
+                    remainder = remainder * radix % modulus;
+                }
+                yield (int) ((modulus + 1 - remainder) % modulus);
+            }
+            case ISO_7064_HYBRID -> (int) (((1 - (data >>> HYBRID_SHIFT)) % modulus + modulus) % modulus);
+            case VERHOEFF -> VERHOEFF_INVERSE[verhoeffDigit(data, count)];
+            case DAMM -> (int) data;
+        };
+    }
+
+    /**
+     * Gets the number of characters read into a state, skipped characters excluded.
+     *
+     * @param state A valid state.
+     * @return The number of characters read.
+     */
+    static int length(long state) {
+        return (int) (state >>> COUNT_SHIFT);
+    }
+
+    /**
+     * Checks if a character is skipped by this algorithm.
+     *
+     * @param c The character.
+     * @return {@code true} if the character is skipped, {@code false} otherwise.
+     */
+    boolean isSkipped(char c) {
+        return valueOf(c) == SKIPPED;
+    }
+
+    // Helper function to add the previous character to the weighted sum and keep the new one, which might be the check character.
+    private long updateWeighted(long data, int count, char c) {
+        long sum = data & SUM_MASK;
+        int previous = (int) (data >>> SUM_BITS);
+        if (previous != 0) {
+            int value = values[previous];
+            if (value < 0) {
+                return -1;
+            }
+            sum += (long) weights[(count - 1) % weights.length] * value;
+            if (sum >= REDUCE_LIMIT) {
+                sum %= modulus;
+            }
+        }
+        return (long) c << SUM_BITS | sum;
+    }
+
+    // Helper function to add a digit to the Luhn sums of both parities, the low bits double the digits at even positions.
+    private static long updateLuhn(long data, int count, int value) {
+        int even = (int) (data & 0xF);
+        int odd = (int) (data >>> 4);
+        if ((count & 1) == 0) {
+            even += DOUBLED[value];
+            odd += value;
+        } else {
+            even += value;
+            odd += DOUBLED[value];
+        }
+        return (long) (odd >= 10 ? odd - 10 : odd) << 4 | (even >= 10 ? even - 10 : even);
+    }
+
+    // Helper function to append a character to the remainder, reducing it only when it grows large.
+    private long updateISO7064(long remainder, int value) {
+        if (remainder >= REDUCE_LIMIT) {
+            remainder %= modulus;
+        }
+        return remainder * (expanded && value >= radix ? radix * radix : radix) + value;
+    }
+
+    // Helper function to add a character to the running value of a hybrid system, the low bits keep the sum modulo M
+    // that is checked at the end and the high bits the doubled value modulo M+1 that the next character is added to.
+    private long updateHybrid(long data, int count, int value) {
+        long product = count == 0 ? modulus : data >>> HYBRID_SHIFT;
+        long sum = (product + value) % modulus;
+        if (sum == 0) {
+            sum = modulus;
+        }
+        return sum * 2 % (modulus + 1) << HYBRID_SHIFT | sum;
+    }
+
+    // Helper function to add a digit to the Verhoeff checksums of the 8 possible positions of the input from the right.
+    private static long updateVerhoeff(long data, int count, int value) {
+        long result = 0;
+        for (int alignment = 0; alignment < VERHOEFF_PERIOD; alignment++) {
+            int checksum = (int) (data >>> 4 * alignment & 0xF);
+            int permuted = VERHOEFF_PERMUTATION[(alignment - count) & (VERHOEFF_PERIOD - 1)][value];
+            result |= (long) VERHOEFF_MULTIPLICATION[checksum][permuted] << 4 * alignment;
+        }
+        return result;
+    }
+
+    // Helper function to get the Verhoeff checksum of the input whose last digit read is at the given position from the right.
+    private static int verhoeffDigit(long data, int alignment) {
+        return (int) (data >>> 4 * (alignment & (VERHOEFF_PERIOD - 1)) & 0xF);
+    }
+
+    // Helper function to get the value of a character that is only allowed as the check character.
+    private int checkValueOf(char c) {
+        for (int i = 0; i < checkCharacters.length; i++) {
+            if (checkCharacters[i] == c) {
+                return i;
+            }
+        }
+        return INVALID;
+    }
+
+    // Helper function to get the value of a character.
+    private int valueOf(char c) {
+        return c < ASCII_SIZE ? values[c] : INVALID;
+    }
+
+    // Helper function to map more characters to the values of the given characters, e.g. lower case letters.
+    private ChecksumAlgorithm withAlias(String aliases, String characters) {
+        byte[] copy = values.clone();
+        for (int i = 0; i < aliases.length(); i++) {
+            copy[ascii(aliases.charAt(i))] = values[characters.charAt(i)];
+        }
+        return new ChecksumAlgorithm(this, copy);
+    }
+
+    // Helper function to check that a character of the configuration is an ASCII character other than NUL.
+    private static char ascii(char c) {
+        if (c == 0 || c >= ASCII_SIZE) {
+            throw new IllegalArgumentException("Only ASCII characters are supported, got " + (int) c);
+        }
+        return c;
+    }
+
+    /**
+     * The families of algorithms supported by the engine.
+     */
+    private enum Kind {
+        WEIGHTED,
+        LUHN,
+        ISO_7064,
+        ISO_7064_HYBRID,
+        VERHOEFF,
+        DAMM
+    }
+
+}
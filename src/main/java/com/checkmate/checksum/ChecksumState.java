@@ -0,0 +1,152 @@
+package com.checkmate.checksum;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * The ChecksumState class validates an input that is read in parts, e.g. an account number or a card number
+ * that arrives as bytes split across several network frames, without buffering it into a {@link String}.
+ * </p>
+ * <p>
+ * The running state of the algorithm, e.g. the remainder of MOD 97-10 or the Luhn sums, is kept as a single {@code long},
+ * so reading a character never allocates. Bytes are read as ISO-8859-1 characters, which covers every ASCII input.
+ * A state can be {@linkplain #reset() reset} and reused for the next input.
+ * </p>
+ * <p>
+ * ChecksumStates are created by {@link Checksum#newState()} or {@link ChecksumAlgorithm#newState()}
+ * and are not thread-safe.
+ * </p>
+ *
+ * <pre>{@code
+ * ChecksumState state = IBANChecksum.getInstance().newState();
+ * state.update(frame1, 0, length1).update(frame2, 0, length2);
+ * boolean valid = state.isValid();
+ * }</pre>
+ *
+ * @since 1.2.0
+ */
+public final class ChecksumState {
+
+    private static final int DEFERRED_BITS = Character.SIZE;
+    private static final int MAX_DEFERRED = Long.SIZE / DEFERRED_BITS;
+
+    private final ChecksumAlgorithm algorithm;
+    private final int deferredLength;
+    private final int requiredLength;
+
+    private long state;
+    private long deferred;
+    private int deferredCount;
+
+    /**
+     * Private constructor for the ChecksumState class
+     *
+     * @param algorithm      The algorithm that validates the input.
+     * @param deferredLength The number of leading characters that are read after the rest of the input, at most 4.
+     * @param requiredLength The number of characters of a valid input, or 0 for any number.
+     */
+    ChecksumState(ChecksumAlgorithm algorithm, int deferredLength, int requiredLength) {
+        if (deferredLength < 0 || deferredLength > MAX_DEFERRED) {
+            throw new IllegalArgumentException("At most " + MAX_DEFERRED + " characters can be deferred");
+        }
+        this.algorithm = algorithm;
+        this.deferredLength = deferredLength;
+        this.requiredLength = requiredLength;
+        this.state = ChecksumAlgorithm.INITIAL_STATE;
+    }
+
+    /**
+     * Reads the next character of the input.
+     *
+     * @param c The character.
+     * @return This state.
+     */
+    public ChecksumState update(char c) {
+        if (deferredCount < deferredLength) {
+            if (!algorithm.isSkipped(c)) {
+                deferred |= (long) c << DEFERRED_BITS * deferredCount++;
+            }
+        } else {
+            state = algorithm.update(state, c);
+        }
+        return this;
+    }
+
+    /**
+     * Reads the next characters of the input from the given range of a character sequence.
+     *
+     * @param input The character sequence that contains the characters.
+     * @param from  The index of the first character (inclusive).
+     * @param to    The index of the last character (exclusive).
+     * @return This state.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     */
+    public ChecksumState update(CharSequence input, int from, int to) {
+        Objects.checkFromToIndex(from, to, input.length());
+        int i = from;
+        while (i < to && deferredCount < deferredLength) {
+            update(input.charAt(i++));
+        }
+        state = algorithm.update(state, input, i, to);
+        return this;
+    }
+
+    /**
+     * Reads the next characters of the input from the given range of a byte array, one character per byte.
+     *
+     * @param input  The bytes that contain the characters.
+     * @param offset The index of the first byte.
+     * @param length The number of bytes to read.
+     * @return This state.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the array.
+     */
+    public ChecksumState update(byte[] input, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, input.length);
+        int end = offset + length;
+        int i = offset;
+        while (i < end && deferredCount < deferredLength) {
+            update((char) (input[i++] & 0xFF));
+        }
+        long current = state;
+        for (; i < end && current != ChecksumAlgorithm.INVALID_STATE; i++) {
+            current = algorithm.update(current, (char) (input[i] & 0xFF));
+        }
+        state = current;
+        return this;
+    }
+
+    /**
+     * Checks if the characters read so far form a valid input, check characters included.
+     * The state is not changed, so more characters can still be read.
+     *
+     * @return {@code true} if the input is valid according to the algorithm, {@code false} otherwise.
+     */
+    public boolean isValid() {
+        if (deferredCount < deferredLength) {
+            return false;
+        }
+
+        long current = state;
+        for (int i = 0; i < deferredCount; i++) {
+            current = algorithm.update(current, (char) (deferred >>> DEFERRED_BITS * i));
+        }
+        if (requiredLength > 0 && current != ChecksumAlgorithm.INVALID_STATE
+                && ChecksumAlgorithm.length(current) != requiredLength) {
+            return false;
+        }
+        return algorithm.isValid(current);
+    }
+
+    /**
+     * Clears the characters read so far, so the state can be reused for another input.
+     *
+     * @return This state.
+     */
+    public ChecksumState reset() {
+        state = ChecksumAlgorithm.INITIAL_STATE;
+        deferred = 0;
+        deferredCount = 0;
+        return this;
+    }
+
+}
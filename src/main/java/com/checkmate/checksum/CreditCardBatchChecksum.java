@@ -0,0 +1,101 @@
+package com.checkmate.checksum;
+
+/**
+ * <p>
+ * The CreditCardBatchChecksum class validates whole batches of credit card numbers with the
+ * <a href="https://en.wikipedia.org/wiki/Luhn_algorithm">Luhn algorithm</a>.
+ * </p>
+ * <p>
+ * When the {@code jdk.incubator.vector} module is available, e.g. when the JVM is started with
+ * {@code --add-modules jdk.incubator.vector}, the card numbers are checked many at a time with SIMD instructions.
+ * Otherwise, or when the system property {@value #DISABLE_VECTORIZATION_PROPERTY} is set to {@code true},
+ * they are checked one by one. Both ways give the same results as {@link CreditCardChecksum#isValid(CharSequence, int, int)}.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class CreditCardBatchChecksum {
+
+    /**
+     * The system property that turns the vectorized check off when set to {@code true}.
+     */
+    public static final String DISABLE_VECTORIZATION_PROPERTY = "checkmate.vectorization.disabled";
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final CreditCardBatchChecksum instance = new CreditCardBatchChecksum();
+    private static final boolean VECTORIZED = isVectorizationAvailable();
+
+    /**
+     * Private constructor for the CreditCardBatchChecksum class
+     */
+    private CreditCardBatchChecksum() {
+    }
+
+    /**
+     * Gets the singleton instance of CreditCardBatchChecksum.
+     *
+     * @return The singleton instance of CreditCardBatchChecksum.
+     */
+    public static CreditCardBatchChecksum getInstance() {
+        return instance;
+    }
+
+    /**
+     * Indicates whether the batches are checked with SIMD instructions.
+     *
+     * @return {@code true} if the Vector API is used, {@code false} if the card numbers are checked one by one.
+     */
+    public boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    /**
+     * Validates every card number of the given batch. Spaces and hyphens are ignored, any other character makes a number invalid.
+     *
+     * @param numbers The card numbers to validate, {@code null} values are invalid.
+     * @return An array in which the element at index {@code i} is {@code true} if {@code numbers[i]} is valid.
+     */
+    public boolean[] isValid(CharSequence[] numbers) {
+        boolean[] results = new boolean[numbers.length];
+        isValid(numbers, results);
+        return results;
+    }
+
+    /**
+     * Validates every card number of the given batch and stores the results into the given array.
+     * Spaces and hyphens are ignored, any other character makes a number invalid.
+     *
+     * @param numbers The card numbers to validate, {@code null} values are invalid.
+     * @param results The array in which {@code results[i]} is set to the validity of {@code numbers[i]}.
+     * @throws IllegalArgumentException if the arrays don't have the same length.
+     */
+    public void isValid(CharSequence[] numbers, boolean[] results) {
+        if (numbers.length != results.length) {
+            throw new IllegalArgumentException("The numbers and the results must have the same length");
+        }
+
+        if (VECTORIZED) {
+            VectorLuhn.isValid(numbers, results);
+            return;
+        }
+
+        CreditCardChecksum checksum = CreditCardChecksum.getInstance();
+        for (int i = 0; i < numbers.length; i++) {
+            results[i] = numbers[i] != null && checksum.isValid(numbers[i], 0, numbers[i].length());
+        }
+    }
+
+    // Helper function to check if the Vector API can be used, without loading it when it is missing.
+    private static boolean isVectorizationAvailable() {
+        if (Boolean.getBoolean(DISABLE_VECTORIZATION_PROPERTY) || ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return false;
+        }
+
+        try {
+            return VectorLuhn.isSupported();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+}
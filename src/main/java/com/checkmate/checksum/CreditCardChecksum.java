@@ -9,6 +9,8 @@ public class CreditCardChecksum extends Checksum {
 
     private static final CreditCardChecksum instance = new CreditCardChecksum();
 
+    private final ChecksumAlgorithm algorithm = ChecksumAlgorithm.luhn(getModulus(), getCharset()).ignoring(" -");
+
     /**
      * Private constructor for the CreditCardChecksum class
      */
@@ -36,7 +38,7 @@ public class CreditCardChecksum extends Checksum {
 
     @Override
     protected String getCharset() {
-        return "0123456789"; // Not used in this class but definitely could be used, somewhere
+        return "0123456789";
     }
 
     @Override
@@ -44,6 +46,11 @@ public class CreditCardChecksum extends Checksum {
         return false;
     }
 
+    @Override
+    public ChecksumAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
     /**
      * Validates the given credit card number using the <a href="https://en.wikipedia.org/wiki/Luhn_algorithm">Luhn algorithm</a>.
      *
@@ -53,33 +60,22 @@ public class CreditCardChecksum extends Checksum {
      */
     @Override
     public boolean isValid(String number) {
-        int[] numberArray = stringToIntArray(number);
-
-        int checksum = numberArray[numberArray.length - 1];
-
-        for (int j = numberArray.length - 2; j >= 0; j -= 2) {
-            numberArray[j] *= 2;
-            if (numberArray[j] > 9) {
-                numberArray[j] -= 9;
-            }
-        }
-
-        int totalSum = 0;
-        for (int n = 0; n < numberArray.length - 1; n++) {
-            totalSum += numberArray[n];
-        }
-
-        return ((totalSum * 9) % 10) == checksum;
+        return isValid(number, 0, number.length());
     }
 
-    // Helper method for translating the number to an int array
-    private int[] stringToIntArray(String str) {
-        int[] numberArray = new int[str.length()];
-        for (int i = str.length() - 1; i >= 0; i--) {
-            numberArray[i] = Integer.parseInt(str.substring(i, i + 1));
-        }
-
-        return numberArray;
+    /**
+     * Validates the credit card number in the given range of a character sequence using the
+     * <a href="https://en.wikipedia.org/wiki/Luhn_algorithm">Luhn algorithm</a>.
+     * Spaces and hyphens between the digits are ignored, any other character makes the card number invalid.
+     *
+     * @param number The character sequence that contains the card number.
+     * @param from   The index of the first character of the card number (inclusive).
+     * @param to     The index of the last character of the card number (exclusive).
+     * @return {@code true} if the card number is valid according to the checksum algorithm, {@code false} otherwise.
+     * @since 1.2.0
+     */
+    public boolean isValid(CharSequence number, int from, int to) {
+        return algorithm.isValid(number, from, to);
     }
 
 }
\ No newline at end of file
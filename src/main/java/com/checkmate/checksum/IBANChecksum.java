@@ -15,6 +15,10 @@ package com.checkmate.checksum;
 public class IBANChecksum extends Checksum {
 
     private static final IBANChecksum instance = new IBANChecksum();
+    private static final int REARRANGED_LENGTH = 4;
+
+    private final ChecksumAlgorithm algorithm = ChecksumAlgorithm.iso7064Alphanumeric(getModulus(), getRadix(), getCharset(),
+            hasTwoCheckDigits() ? 2 : 1).ignoring(" \t\n\u000B\f\r");
 
     /**
      * Gets the singleton instance of IBANChecksum.
@@ -51,6 +55,23 @@ public class IBANChecksum extends Checksum {
         return true;
     }
 
+    @Override
+    public ChecksumAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Creates a new, empty state that validates an IBAN read in parts.
+     * The country code and the check digits are kept aside until the rest of the IBAN has been read.
+     *
+     * @return A new state for the IBAN checksum.
+     * @since 1.2.0
+     */
+    @Override
+    public ChecksumState newState() {
+        return new ChecksumState(algorithm, REARRANGED_LENGTH, 0);
+    }
+
     /**
      * Validates the given IBAN using the <a href="https://wiki.freepascal.org/ISO_7064">ISO-7064 MOD 97-10</a> algorithm.
      *
@@ -60,67 +81,67 @@ public class IBANChecksum extends Checksum {
      */
     @Override
     public boolean isValid(String iban) {
-        iban = transformIBAN(iban);
-        int numOfDigits = hasTwoCheckDigits() ? 2 : 1;
-
-        String stringWithoutChecksum = iban.substring(0, iban.length() - numOfDigits);
-
-        return iban.equals(calculate(stringWithoutChecksum));
+        return isValid((CharSequence) iban);
     }
 
     /**
-     * Calculates the checksum for the given IBAN.
+     * Validates the given IBAN using the <a href="https://wiki.freepascal.org/ISO_7064">ISO-7064 MOD 97-10</a> algorithm.
      *
-     * @param iban The IBAN for which the checksum will be generated.
-     * @return The complete IBAN with its calculated checksum.
+     * <p>
+     * The IBAN is read only once and nothing is allocated: whitespace is skipped and letters are mapped to the
+     * numbers 10 - 35 in place. Only ASCII letters and digits are accepted.
+     * </p>
+     *
+     * @param iban The IBAN to be validated.
+     * @return {@code true} if the IBAN is valid according to the checksum algorithm, {@code false} otherwise.
      * @since 1.1.0
      */
-    public String calculate(String iban) {
-        int p = 0;
-        int m = getModulus();
-        int r = getRadix();
-        String charSet = getCharset();
-
-        for (int i = 0; i < iban.length(); i++) {
-            int val = charSet.indexOf(iban.charAt(i));
-            p = ((p + val) * r) % m;
-        }
-
-        p = (p * r) % m;
-
-        int checksum = (m - p + 1) % m;
+    public boolean isValid(CharSequence iban) {
+        return isValid(iban, 0, iban.length());
+    }
 
-        int second = checksum % r;
-        int first = (checksum - second) / r;
+    /**
+     * Validates the IBAN in the given range of a character sequence using the
+     * <a href="https://wiki.freepascal.org/ISO_7064">ISO-7064 MOD 97-10</a> algorithm.
+     *
+     * @param iban The character sequence that contains the IBAN.
+     * @param from The index of the first character of the IBAN (inclusive).
+     * @param to   The index of the last character of the IBAN (exclusive).
+     * @return {@code true} if the IBAN is valid according to the checksum algorithm, {@code false} otherwise.
+     * @since 1.2.0
+     */
+    public boolean isValid(CharSequence iban, int from, int to) {
+        // The country code and the check digits are moved to the end of the IBAN.
+        int split = from;
+        int leading = 0;
+        while (split < to && leading < REARRANGED_LENGTH) {
+            if (!isWhitespace(iban.charAt(split++))) {
+                leading++;
+            }
+        }
+        if (leading < REARRANGED_LENGTH) {
+            return false;
+        }
 
-        return iban + charSet.charAt(first) + charSet.charAt(second);
+        long state = algorithm.update(ChecksumAlgorithm.INITIAL_STATE, iban, split, to);
+        return algorithm.isValid(algorithm.update(state, iban, from, split));
     }
 
     /**
-     * Transforms the given IBAN by rearranging and converting it to a numeric string.
-     *
-     * <p>
-     * More information on how IBANs are transformed can be found
-     * <a href="https://en.wikipedia.org/wiki/International_Bank_Account_Number#Validating_the_IBAN">here</a>.
-     * </p>
+     * Calculates the checksum for the given IBAN.
      *
-     * @param iban The original IBAN.
-     * @return The transformed numeric string.
+     * @param iban The IBAN for which the checksum will be generated.
+     * @return The complete IBAN with its calculated checksum.
+     * @throws IllegalArgumentException if the IBAN is empty or contains characters other than letters, digits and whitespace.
      * @since 1.1.0
      */
-    private String transformIBAN(String iban) {
-        String rearrangedIBAN = iban.replaceAll("\\s", "").substring(4) + iban.substring(0, 4);
-
-        StringBuilder numericString = new StringBuilder();
-        for (char c : rearrangedIBAN.toCharArray()) {
-            if (Character.isLetter(c)) {
-                numericString.append(Character.getNumericValue(Character.toUpperCase(c)));
-            } else {
-                numericString.append(c);
-            }
-        }
+    public String calculate(String iban) {
+        return algorithm.calculate(iban);
+    }
 
-        return new String(numericString);
+    // Helper function to check if a character is skipped when calculating the checksum.
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
     }
 
-}
\ No newline at end of file
+}
@@ -8,6 +8,9 @@ package com.checkmate.checksum;
 public class ISBN13Checksum extends Checksum {
     private static final ISBN13Checksum instance = new ISBN13Checksum();
 
+    private final ChecksumAlgorithm algorithm = ChecksumAlgorithm.weighted(getModulus(), getCharset(), getCharset(), 1, 3)
+            .ignoring(" -");
+
     /**
      * Gets the singleton instance of ISBN13Checksum.
      *
@@ -43,6 +46,11 @@ public class ISBN13Checksum extends Checksum {
         return false;
     }
 
+    @Override
+    public ChecksumAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
     /**
      * Validates the given ISBN-13 number against the ISBN-13 checksum algorithm.
      *
@@ -52,33 +60,20 @@ public class ISBN13Checksum extends Checksum {
      */
     @Override
     public boolean isValid(String isbn) {
-        int numOfDigits = hasTwoCheckDigits() ? 2 : 1;
-        String stringWithoutChecksum = isbn.substring(0, isbn.length() - numOfDigits);
-
-        return isbn.equals(calculate(stringWithoutChecksum));
+        return algorithm.isValid(isbn);
     }
 
     /**
      * Calculates the checksum of the given ISBN-13 number.
+     * Every character other than a digit is removed from the result, e.g. hyphens, spaces or the letters of an {@code ISBN} prefix.
      *
      * @param isbn The ISBN-13 number for which the checksum digit will be generated.
      * @return The valid ISBN-13 number with an appropriate checksum digit.
+     * @throws IllegalArgumentException if the ISBN contains no digits.
      * @since 1.1.0
      */
     public String calculate(String isbn) {
-        isbn = isbn.replaceAll("[^0-9]", "");
-
-        int sum = 0;
-        int m = getModulus();
-        int r = getRadix();
-        for (int i = 0; i < isbn.length(); i++) {
-            sum += Character.getNumericValue(isbn.charAt(i)) * ((i % 2 == 0) ? 1 : 3);
-        }
-
-        int remainder = sum % m;
-        int checkDigit = (remainder == 0) ? 0 : m - remainder;
-
-        return isbn + ((checkDigit == r) ? '0' : (char) ('0' + checkDigit));
+        return algorithm.calculate(digitsOf(isbn));
     }
 
 }
\ No newline at end of file
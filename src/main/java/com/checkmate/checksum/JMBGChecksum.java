@@ -8,6 +8,10 @@ package com.checkmate.checksum;
 public class JMBGChecksum extends Checksum {
 
     private static final JMBGChecksum instance = new JMBGChecksum();
+    private static final int LENGTH = 13;
+
+    private final ChecksumAlgorithm algorithm = ChecksumAlgorithm.weighted(getModulus(), getCharset(), getCharset() + "0",
+            7, 6, 5, 4, 3, 2);
 
     /**
      * Gets the singleton instance of JMBGChecksum.
@@ -44,6 +48,21 @@ public class JMBGChecksum extends Checksum {
         return false;
     }
 
+    @Override
+    public ChecksumAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Creates a new, empty state that validates a JMBG read in parts.
+     *
+     * @return A new state for the JMBG checksum, which only accepts inputs of 13 digits.
+     * @since 1.2.0
+     */
+    @Override
+    public ChecksumState newState() {
+        return new ChecksumState(algorithm, 0, LENGTH);
+    }
 
     /**
      * Validates the given JMBG against the JMBG checksum algorithm.
@@ -54,27 +73,32 @@ public class JMBGChecksum extends Checksum {
      */
     @Override
     public boolean isValid(String jmbg) {
-        int numOfDigits = hasTwoCheckDigits() ? 2 : 1;
-        String stringWithoutChecksum = jmbg.substring(0, jmbg.length() - numOfDigits);
+        return isValid(jmbg, 0, jmbg.length());
+    }
 
-        return jmbg.equals(calculate(stringWithoutChecksum));
+    /**
+     * Validates the JMBG in the given range of a character sequence against the JMBG checksum algorithm.
+     *
+     * @param jmbg The character sequence that contains the JMBG.
+     * @param from The index of the first character of the JMBG (inclusive).
+     * @param to   The index of the last character of the JMBG (exclusive).
+     * @return {@code true} if the JMBG is valid according to the checksum algorithm, {@code false} otherwise.
+     * @since 1.2.0
+     */
+    public boolean isValid(CharSequence jmbg, int from, int to) {
+        return to - from == LENGTH && algorithm.isValid(jmbg, from, to);
     }
 
     /**
      * Gets the checksum of the JMBG.
      *
      * @param jmbg The JMBG for which the check-digit will be generated.
-     * @return The singleton instance of JMBGChecksum.
+     * @return The JMBG followed by its check-digit.
+     * @throws IllegalArgumentException if the JMBG is empty or contains characters other than digits.
      * @since 1.1.0
      */
     public String calculate(String jmbg) {
-        int sum = 0;
-        int m = getModulus();
-        int r = getRadix();
-        for (int i = 0; i < 6; i++) {
-            sum += (7 - i) * (Character.getNumericValue(jmbg.charAt(i)) + Character.getNumericValue(jmbg.charAt(i + 6)));
-        }
-        return jmbg + (char) ('0' + (m - (sum % m)) % r);
+        return algorithm.calculate(jmbg);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,118 @@
+package com.checkmate.checksum;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * <p>
+ * The VectorLuhn class checks many card numbers at once with the incubating Vector API. <br>
+ * The digits of a block of card numbers are transposed into lanes, one lane per card number, aligned on the check digit,
+ * so that every vector instruction doubles and sums the digit at the same position of all card numbers in the block.
+ * </p>
+ * <p>
+ * This class must only be loaded when the {@code jdk.incubator.vector} module is available,
+ * see {@link CreditCardBatchChecksum}.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+final class VectorLuhn {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int MIN_LANES = 4;
+    private static final int MAX_DIGITS = 32;
+    private static final int UNSUPPORTED = -1;
+
+    /**
+     * Private constructor for the VectorLuhn class
+     */
+    private VectorLuhn() {
+    }
+
+    /**
+     * Checks if the hardware has vectors wide enough to be worth transposing the card numbers.
+     *
+     * @return {@code true} if the vectorized check should be used, {@code false} otherwise.
+     */
+    static boolean isSupported() {
+        return SPECIES.length() >= MIN_LANES;
+    }
+
+    /**
+     * Validates every card number of the given array with the Luhn algorithm.
+     * The results are the same as the results of {@link CreditCardChecksum#isValid(CharSequence, int, int)}.
+     *
+     * @param numbers The card numbers to validate, {@code null} values are invalid.
+     * @param results The array that receives the result of every card number.
+     */
+    static void isValid(CharSequence[] numbers, boolean[] results) {
+        int lanes = SPECIES.length();
+        int[] digits = new int[MAX_DIGITS * lanes];
+        int[] counts = new int[lanes];
+        int[] sums = new int[lanes];
+
+        for (int block = 0; block < numbers.length; block += lanes) {
+            int size = Math.min(lanes, numbers.length - block);
+            int maxDigits = 0;
+            for (int lane = 0; lane < size; lane++) {
+                counts[lane] = transpose(numbers[block + lane], digits, lane, lanes);
+                maxDigits = Math.max(maxDigits, counts[lane]);
+            }
+
+            IntVector sum = IntVector.zero(SPECIES);
+            for (int position = 0; position < maxDigits; position++) {
+                IntVector digit = IntVector.fromArray(SPECIES, digits, position * lanes);
+                if ((position & 1) == 1) {
+                    digit = digit.add(digit);
+                    digit = digit.sub(9, digit.compare(VectorOperators.GT, 9));
+                }
+                sum = sum.add(digit);
+            }
+            sum.intoArray(sums, 0);
+
+            for (int lane = 0; lane < size; lane++) {
+                CharSequence number = numbers[block + lane];
+                if (counts[lane] == UNSUPPORTED) {
+                    results[block + lane] = number != null && CreditCardChecksum.getInstance().isValid(number, 0, number.length());
+                } else {
+                    results[block + lane] = counts[lane] > 1 && sums[lane] % 10 == 0;
+                }
+                clear(digits, lane, lanes, counts[lane]);
+            }
+        }
+    }
+
+    // Helper function to write the digits of a card number into its lane, starting from the check digit, or to count none if it has other characters than separators.
+    private static int transpose(CharSequence number, int[] digits, int lane, int lanes) {
+        if (number == null) {
+            return UNSUPPORTED;
+        }
+
+        int count = 0;
+        for (int i = number.length() - 1; i >= 0; i--) {
+            char c = number.charAt(i);
+            if (c == ' ' || c == '-') {
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                clear(digits, lane, lanes, count);
+                return 0;
+            }
+            if (count == MAX_DIGITS) {
+                clear(digits, lane, lanes, count);
+                return UNSUPPORTED;
+            }
+            digits[count++ * lanes + lane] = c - '0';
+        }
+        return count;
+    }
+
+    // Helper function to reset the digits of a lane, so that the buffer can be reused for the next block.
+    private static void clear(int[] digits, int lane, int lanes, int count) {
+        for (int position = 0; position < count; position++) {
+            digits[position * lanes + lane] = 0;
+        }
+    }
+
+}
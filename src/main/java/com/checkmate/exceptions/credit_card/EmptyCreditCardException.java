@@ -8,6 +8,13 @@ package com.checkmate.exceptions.credit_card;
 
 public class EmptyCreditCardException extends RuntimeException {
 
+    /**
+     * The shared instance thrown by {@link com.checkmate.validation.credit_card.CreditCardValidator#getStacklessInstance()}.
+     *
+     * @since 1.2.0
+     */
+    public static final EmptyCreditCardException STACKLESS = new EmptyCreditCardException("The credit card cannot be an empty string", false);
+
     /**
      * Constructs a new {@code EmptyCreditCardException} with the specified detail message.
      *
@@ -16,4 +23,15 @@ public class EmptyCreditCardException extends RuntimeException {
     public EmptyCreditCardException(String message) {
         super(message);
     }
+
+    /**
+     * Constructs a new {@code EmptyCreditCardException} with the specified detail message, with or without a stack trace.
+     *
+     * @param message            the detail message.
+     * @param writableStackTrace whether the stack trace should be filled in.
+     * @since 1.2.0
+     */
+    public EmptyCreditCardException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
\ No newline at end of file
@@ -7,6 +7,13 @@ package com.checkmate.exceptions.credit_card;
  */
 public class NullCreditCardException extends RuntimeException {
 
+    /**
+     * The shared instance thrown by {@link com.checkmate.validation.credit_card.CreditCardValidator#getStacklessInstance()}.
+     *
+     * @since 1.2.0
+     */
+    public static final NullCreditCardException STACKLESS = new NullCreditCardException("The credit card number cannot be null", false);
+
     /**
      * Constructs a new {@code NullCreditCardException} with the specified detail message.
      *
@@ -15,4 +22,15 @@ public class NullCreditCardException extends RuntimeException {
     public NullCreditCardException(String message) {
         super(message);
     }
+
+    /**
+     * Constructs a new {@code NullCreditCardException} with the specified detail message, with or without a stack trace.
+     *
+     * @param message            the detail message.
+     * @param writableStackTrace whether the stack trace should be filled in.
+     * @since 1.2.0
+     */
+    public NullCreditCardException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
\ No newline at end of file
@@ -7,6 +7,13 @@ package com.checkmate.exceptions.email;
  */
 public class EmptyEmailException extends RuntimeException {
 
+    /**
+     * The shared instance thrown by {@link com.checkmate.validation.email.EmailValidator#getStacklessInstance()}.
+     *
+     * @since 1.2.0
+     */
+    public static final EmptyEmailException STACKLESS = new EmptyEmailException("Email cannot be an empty string", false);
+
     /**
      * Constructs a new {@code EmptyEmailException} with the specified detail message.
      *
@@ -15,4 +22,15 @@ public class EmptyEmailException extends RuntimeException {
     public EmptyEmailException(String message) {
         super(message);
     }
+
+    /**
+     * Constructs a new {@code EmptyEmailException} with the specified detail message, with or without a stack trace.
+     *
+     * @param message            the detail message.
+     * @param writableStackTrace whether the stack trace should be filled in.
+     * @since 1.2.0
+     */
+    public EmptyEmailException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
\ No newline at end of file
@@ -7,6 +7,13 @@ package com.checkmate.exceptions.iban;
  */
 public class EmptyIBANException extends RuntimeException {
 
+    /**
+     * The shared instance thrown by {@link com.checkmate.validation.iban.IBANValidator#getStacklessInstance()}.
+     *
+     * @since 1.2.0
+     */
+    public static final EmptyIBANException STACKLESS = new EmptyIBANException("The IBAN cannot be an empty string", false);
+
     /**
      * Constructs a new {@code EmptyIBANException} with the specified detail message.
      *
@@ -15,4 +22,15 @@ public class EmptyIBANException extends RuntimeException {
     public EmptyIBANException(String message) {
         super(message);
     }
+
+    /**
+     * Constructs a new {@code EmptyIBANException} with the specified detail message, with or without a stack trace.
+     *
+     * @param message            the detail message.
+     * @param writableStackTrace whether the stack trace should be filled in.
+     * @since 1.2.0
+     */
+    public EmptyIBANException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
\ No newline at end of file
@@ -7,6 +7,13 @@ package com.checkmate.exceptions.iban;
  */
 public class NullIBANException extends RuntimeException {
 
+    /**
+     * The shared instance thrown by {@link com.checkmate.validation.iban.IBANValidator#getStacklessInstance()}.
+     *
+     * @since 1.2.0
+     */
+    public static final NullIBANException STACKLESS = new NullIBANException("The IBAN cannot be null", false);
+
     /**
      * Constructs a new {@code NullIBANException} with the specified detail message.
      *
@@ -15,4 +22,15 @@ public class NullIBANException extends RuntimeException {
     public NullIBANException(String message) {
         super(message);
     }
+
+    /**
+     * Constructs a new {@code NullIBANException} with the specified detail message, with or without a stack trace.
+     *
+     * @param message            the detail message.
+     * @param writableStackTrace whether the stack trace should be filled in.
+     * @since 1.2.0
+     */
+    public NullIBANException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
\ No newline at end of file
@@ -6,6 +6,14 @@ package com.checkmate.exceptions.isbn;
  * @since 1.1.0-alpha
  */
 public class EmptyISBNException extends RuntimeException {
+
+    /**
+     * The shared instance thrown by {@link com.checkmate.validation.isbn.ISBNValidator#getStacklessInstance()}.
+     *
+     * @since 1.2.0
+     */
+    public static final EmptyISBNException STACKLESS = new EmptyISBNException("The ISBN cannot be an empty string", false);
+
     /**
      * Constructs a new {@code EmptyISBNException} with the specified detail message.
      *
@@ -14,4 +22,15 @@ public class EmptyISBNException extends RuntimeException {
     public EmptyISBNException(String message) {
         super(message);
     }
+
+    /**
+     * Constructs a new {@code EmptyISBNException} with the specified detail message, with or without a stack trace.
+     *
+     * @param message            the detail message.
+     * @param writableStackTrace whether the stack trace should be filled in.
+     * @since 1.2.0
+     */
+    public EmptyISBNException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
\ No newline at end of file
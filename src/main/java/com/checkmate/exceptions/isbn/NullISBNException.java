@@ -7,6 +7,13 @@ package com.checkmate.exceptions.isbn;
  */
 public class NullISBNException extends RuntimeException {
 
+    /**
+     * The shared instance thrown by {@link com.checkmate.validation.isbn.ISBNValidator#getStacklessInstance()}.
+     *
+     * @since 1.2.0
+     */
+    public static final NullISBNException STACKLESS = new NullISBNException("The ISBN cannot be null", false);
+
     /**
      * Constructs a new {@code NullISBNException} with the specified detail message.
      *
@@ -15,4 +22,15 @@ public class NullISBNException extends RuntimeException {
     public NullISBNException(String message) {
         super(message);
     }
+
+    /**
+     * Constructs a new {@code NullISBNException} with the specified detail message, with or without a stack trace.
+     *
+     * @param message            the detail message.
+     * @param writableStackTrace whether the stack trace should be filled in.
+     * @since 1.2.0
+     */
+    public NullISBNException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
\ No newline at end of file
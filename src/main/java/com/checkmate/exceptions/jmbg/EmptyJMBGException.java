@@ -6,6 +6,14 @@ package com.checkmate.exceptions.jmbg;
  * @since 1.1.0-alpha
  */
 public class EmptyJMBGException extends RuntimeException {
+
+    /**
+     * The shared instance thrown by {@link com.checkmate.validation.jmbg.JMBGValidator#getStacklessInstance()}.
+     *
+     * @since 1.2.0
+     */
+    public static final EmptyJMBGException STACKLESS = new EmptyJMBGException("JMBG cannot be empty", false);
+
     /**
      * Constructs a new {@code EmptyJMBGException} with the specified detail message.
      *
@@ -14,4 +22,15 @@ public class EmptyJMBGException extends RuntimeException {
     public EmptyJMBGException(String message) {
         super(message);
     }
+
+    /**
+     * Constructs a new {@code EmptyJMBGException} with the specified detail message, with or without a stack trace.
+     *
+     * @param message            the detail message.
+     * @param writableStackTrace whether the stack trace should be filled in.
+     * @since 1.2.0
+     */
+    public EmptyJMBGException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
\ No newline at end of file
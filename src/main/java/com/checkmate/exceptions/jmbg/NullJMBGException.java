@@ -7,6 +7,13 @@ package com.checkmate.exceptions.jmbg;
  */
 public class NullJMBGException extends RuntimeException {
 
+    /**
+     * The shared instance thrown by {@link com.checkmate.validation.jmbg.JMBGValidator#getStacklessInstance()}.
+     *
+     * @since 1.2.0
+     */
+    public static final NullJMBGException STACKLESS = new NullJMBGException("JMBG cannot be null", false);
+
     /**
      * Constructs a new {@code NullJMBGException} with the specified detail message.
      *
@@ -15,4 +22,15 @@ public class NullJMBGException extends RuntimeException {
     public NullJMBGException(String message) {
         super(message);
     }
+
+    /**
+     * Constructs a new {@code NullJMBGException} with the specified detail message, with or without a stack trace.
+     *
+     * @param message            the detail message.
+     * @param writableStackTrace whether the stack trace should be filled in.
+     * @since 1.2.0
+     */
+    public NullJMBGException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
\ No newline at end of file
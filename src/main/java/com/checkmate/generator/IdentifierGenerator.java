@@ -0,0 +1,562 @@
+package com.checkmate.generator;
+
+import com.checkmate.checksum.CreditCardChecksum;
+import com.checkmate.checksum.IBANChecksum;
+import com.checkmate.checksum.ISBN10Checksum;
+import com.checkmate.checksum.ISBN13Checksum;
+import com.checkmate.checksum.JMBGChecksum;
+import com.checkmate.validation.iban.IBANValidator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>
+ * The IdentifierGenerator class generates random IBANs, credit card numbers, ISBNs and JMBGs for load tests.
+ * The values pass the validators of this library, because their check digits are calculated by the same
+ * {@link com.checkmate.checksum.Checksum} classes, and IBANs follow the national structure that {@link IBANValidator} checks.
+ * </p>
+ * <p>
+ * A share of the values can be made invalid on purpose, with a wrong check digit, two transposed characters or a bad length.
+ * The kind of error injected into the last value is reported by {@link #getLastError()}.
+ * </p>
+ * <p>
+ * Values are drawn from a {@link SplittableRandom}, so a generator with a fixed seed always generates the same values.
+ * A generator is not thread-safe, but it can be {@linkplain #split() split} into independent generators,
+ * one per thread, and its {@linkplain #stream(long) streams} split themselves when they run in parallel.
+ * </p>
+ *
+ * <pre>{@code
+ * IdentifierGenerator generator = IdentifierGenerator.builder(IdentifierGenerator.Type.IBAN)
+ *         .seed(42)
+ *         .countries("DE", "RS")
+ *         .errorRate(IdentifierGenerator.ErrorKind.WRONG_CHECK_DIGIT, 0.01)
+ *         .build();
+ * generator.writeTo(path, 1_000_000);
+ * }</pre>
+ *
+ * @since 1.2.0
+ */
+public final class IdentifierGenerator {
+
+    private static final String DIGITS = "0123456789";
+    private static final String LETTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final String ISBN10_CHECK_CHARACTERS = "0123456789X";
+    private static final int COUNTRY_CODE_LENGTH = 2;
+    private static final int REARRANGED_LENGTH = 4;
+    private static final int MAX_TRANSPOSITION_ATTEMPTS = 16;
+    private static final int MIN_BIRTH_YEAR = 1930;
+    private static final int MAX_BIRTH_YEAR = 2019;
+    private static final int REGIONS = 100;
+    private static final int SERIALS = 1000;
+    private static final ErrorKind[] ERROR_KINDS = ErrorKind.values();
+
+    // Prefixes of the generated card numbers and their lengths, so that a single digit less is a length the brand doesn't issue
+    private static final String[] CARD_PREFIXES = {"4", "51", "55", "2221", "2720", "34", "37", "6011", "65", "3528", "3589", "36", "62", "2200"};
+    private static final int[] CARD_LENGTHS = {16, 16, 16, 16, 16, 15, 15, 16, 16, 16, 16, 14, 16, 16};
+    private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private final Type type;
+    private final String[] countries;
+    private final String[] structures;
+    private final double[] errorThresholds;
+    private final SplittableRandom random;
+    private ErrorKind lastError;
+
+    /**
+     * Private constructor for the IdentifierGenerator class
+     */
+    private IdentifierGenerator(Type type, String[] countries, String[] structures, double[] errorThresholds, SplittableRandom random) {
+        this.type = type;
+        this.countries = countries;
+        this.structures = structures;
+        this.errorThresholds = errorThresholds;
+        this.random = random;
+    }
+
+    /**
+     * Creates a builder for a generator of the given type of identifiers.
+     *
+     * @param type The type of the generated identifiers.
+     * @return A new builder.
+     */
+    public static Builder builder(Type type) {
+        return new Builder(type);
+    }
+
+    /**
+     * Generates the next identifier.
+     *
+     * @return A valid identifier, or an invalid one if an error was injected into it.
+     */
+    public String next() {
+        char[] value = switch (type) {
+            case IBAN -> iban();
+            case CREDIT_CARD -> creditCard();
+            case ISBN_10 -> ISBN10Checksum.getInstance().calculate(digits(new StringBuilder(9), 9).toString()).toCharArray();
+            case ISBN_13 -> isbn13();
+            case JMBG -> jmbg();
+        };
+
+        lastError = nextError();
+        if (lastError != null) {
+            value = inject(value, lastError);
+        }
+        return new String(value);
+    }
+
+    /**
+     * Gets the kind of error that was injected into the last generated identifier.
+     *
+     * @return The kind of error, or {@code null} if the last identifier is valid or no identifier was generated yet.
+     */
+    public ErrorKind getLastError() {
+        return lastError;
+    }
+
+    /**
+     * Splits off a new generator with the same configuration, which generates values independently of this one.
+     * This generator is changed by the split.
+     *
+     * @return A new generator.
+     */
+    public IdentifierGenerator split() {
+        return new IdentifierGenerator(type, countries, structures, errorThresholds, random.split());
+    }
+
+    /**
+     * Creates a stream of the given number of identifiers. When the stream runs in parallel,
+     * it is split into parts that are generated by {@linkplain #split() split} generators.
+     * The stream uses this generator, which must not be used anywhere else until the stream is consumed.
+     *
+     * @param count The number of identifiers.
+     * @return A stream of identifiers.
+     */
+    public Stream<String> stream(long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("The count cannot be negative");
+        }
+        return StreamSupport.stream(new IdentifierSpliterator(this, count), false);
+    }
+
+    /**
+     * Writes the given number of identifiers into a file, one per line.
+     *
+     * @param file  The file to write, which is created or replaced.
+     * @param count The number of identifiers.
+     * @throws IOException if the file cannot be written.
+     */
+    public void writeTo(Path file, long count) throws IOException {
+        if (count < 0) {
+            throw new IllegalArgumentException("The count cannot be negative");
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+            for (long i = 0; i < count; i++) {
+                writer.write(next());
+                writer.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Writes the given number of identifiers into each of the given files, one per line. Every file is written
+     * in parallel by its own {@linkplain #split() split} generator, so the content of each file is reproducible.
+     *
+     * @param files        The files to write, which are created or replaced.
+     * @param countPerFile The number of identifiers per file.
+     * @throws IOException if one of the files cannot be written.
+     */
+    public void writeTo(List<Path> files, long countPerFile) throws IOException {
+        IdentifierGenerator[] generators = new IdentifierGenerator[files.size()];
+        for (int i = 0; i < generators.length; i++) {
+            generators[i] = split();
+        }
+
+        try {
+            IntStream.range(0, generators.length).parallel().forEach(i -> {
+                try {
+                    generators[i].writeTo(files.get(i), countPerFile);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // Helper function to generate an IBAN of one of the configured countries.
+    private char[] iban() {
+        int country = random.nextInt(countries.length);
+        String structure = structures[country];
+
+        // The check digits are calculated over the rearranged IBAN: the account part first, then the country code.
+        StringBuilder rearranged = new StringBuilder(structure.length() + COUNTRY_CODE_LENGTH);
+        for (int i = REARRANGED_LENGTH - COUNTRY_CODE_LENGTH; i < structure.length(); i++) {
+            rearranged.append(switch (structure.charAt(i)) {
+                case 'n' -> randomOf(DIGITS);
+                case 'a' -> randomOf(LETTERS);
+                default -> random.nextBoolean() ? randomOf(DIGITS) : randomOf(LETTERS);
+            });
+        }
+        String calculated = IBANChecksum.getInstance().calculate(rearranged.append(countries[country]).toString());
+
+        int account = calculated.length() - REARRANGED_LENGTH;
+        char[] iban = new char[calculated.length()];
+        calculated.getChars(account, calculated.length(), iban, 0);
+        calculated.getChars(0, account, iban, REARRANGED_LENGTH);
+        return iban;
+    }
+
+    // Helper function to generate a card number of one of the major brands.
+    private char[] creditCard() {
+        int brand = random.nextInt(CARD_PREFIXES.length);
+        StringBuilder number = digits(new StringBuilder(CARD_LENGTHS[brand]).append(CARD_PREFIXES[brand]), CARD_LENGTHS[brand] - 1);
+        return CreditCardChecksum.getInstance().getAlgorithm().calculate(number).toCharArray();
+    }
+
+    // Helper function to generate an ISBN-13 with one of the prefixes of books.
+    private char[] isbn13() {
+        StringBuilder digits = new StringBuilder(12).append(random.nextBoolean() ? "978" : "979");
+        return ISBN13Checksum.getInstance().calculate(digits(digits, 12).toString()).toCharArray();
+    }
+
+    // Helper function to generate a JMBG with an existing date of birth.
+    private char[] jmbg() {
+        int year = random.nextInt(MIN_BIRTH_YEAR, MAX_BIRTH_YEAR + 1);
+        int month = random.nextInt(1, 13);
+        boolean leap = year % 4 == 0 && (year % 100 != 0 || year % 400 == 0);
+        int day = random.nextInt(1, DAYS_IN_MONTH[month - 1] + (leap && month == 2 ? 1 : 0) + 1);
+
+        StringBuilder digits = new StringBuilder(12);
+        append(digits, day, 2);
+        append(digits, month, 2);
+        append(digits, year % 1000, 3);
+        append(digits, random.nextInt(REGIONS), 2);
+        append(digits, random.nextInt(SERIALS), 3);
+        return JMBGChecksum.getInstance().calculate(digits.toString()).toCharArray();
+    }
+
+    // Helper function to pick the kind of error for the next value, if any.
+    private ErrorKind nextError() {
+        if (errorThresholds[errorThresholds.length - 1] == 0) {
+            return null;
+        }
+
+        double draw = random.nextDouble();
+        for (int i = 0; i < errorThresholds.length; i++) {
+            if (draw < errorThresholds[i]) {
+                return ERROR_KINDS[i];
+            }
+        }
+        return null;
+    }
+
+    // Helper function to inject an error into a valid value.
+    private char[] inject(char[] value, ErrorKind error) {
+        return switch (error) {
+            case WRONG_CHECK_DIGIT -> replaceCheckCharacter(value);
+            case TRANSPOSITION -> transpose(value);
+            case BAD_LENGTH -> changeLength(value);
+        };
+    }
+
+    // Helper function to replace a check character with a different one.
+    private char[] replaceCheckCharacter(char[] value) {
+        int position = type == Type.IBAN ? REARRANGED_LENGTH - 1 : value.length - 1;
+        String alphabet = type == Type.ISBN_10 ? ISBN10_CHECK_CHARACTERS : DIGITS;
+        int current = alphabet.indexOf(value[position]);
+        value[position] = alphabet.charAt((current + 1 + random.nextInt(alphabet.length() - 1)) % alphabet.length());
+        return value;
+    }
+
+    // Helper function to swap two adjacent characters of the same kind so that the checksum detects it.
+    private char[] transpose(char[] value) {
+        int start = type == Type.IBAN ? REARRANGED_LENGTH : 0;
+        for (int attempt = 0; attempt < MAX_TRANSPOSITION_ATTEMPTS; attempt++) {
+            int i = random.nextInt(start, value.length - 1);
+            char first = value[i];
+            char second = value[i + 1];
+            if (first == second || Character.isDigit(first) != Character.isDigit(second)) {
+                continue;
+            }
+
+            value[i] = second;
+            value[i + 1] = first;
+            if (!hasValidChecksum(value)) {
+                return value;
+            }
+            value[i] = first;
+            value[i + 1] = second;
+        }
+
+        // Some transpositions aren't detected by every checksum, e.g. 09 and 90 by Luhn.
+        lastError = ErrorKind.WRONG_CHECK_DIGIT;
+        return replaceCheckCharacter(value);
+    }
+
+    // Helper function to drop the last character or to append another one of the same kind.
+    private char[] changeLength(char[] value) {
+        // An X check digit of an ISBN-10 is only allowed at the end, so it is dropped instead.
+        char last = value[value.length - 1];
+        if (type == Type.CREDIT_CARD || last == 'X' || random.nextBoolean()) {
+            char[] shorter = new char[value.length - 1];
+            System.arraycopy(value, 0, shorter, 0, shorter.length);
+            // A shorter card number may still have a length that some brand issues, so it must fail the Luhn check too.
+            return type == Type.CREDIT_CARD && hasValidChecksum(shorter) ? replaceCheckCharacter(shorter) : shorter;
+        }
+
+        char[] longer = new char[value.length + 1];
+        System.arraycopy(value, 0, longer, 0, value.length);
+        longer[value.length] = Character.isDigit(last) ? randomOf(DIGITS) : randomOf(LETTERS);
+        return longer;
+    }
+
+    // Helper function to check if a value still passes its checksum.
+    private boolean hasValidChecksum(char[] value) {
+        CharBuffer chars = CharBuffer.wrap(value);
+        return switch (type) {
+            case IBAN -> IBANChecksum.getInstance().isValid(chars);
+            case CREDIT_CARD -> CreditCardChecksum.getInstance().isValid(chars, 0, value.length);
+            case ISBN_10 -> ISBN10Checksum.getInstance().getAlgorithm().isValid(chars);
+            case ISBN_13 -> ISBN13Checksum.getInstance().getAlgorithm().isValid(chars);
+            case JMBG -> JMBGChecksum.getInstance().isValid(chars, 0, value.length);
+        };
+    }
+
+    // Helper function to append random digits until the builder has the given length.
+    private StringBuilder digits(StringBuilder builder, int length) {
+        while (builder.length() < length) {
+            builder.append(randomOf(DIGITS));
+        }
+        return builder;
+    }
+
+    // Helper function to pick a random character of an alphabet.
+    private char randomOf(String alphabet) {
+        return alphabet.charAt(random.nextInt(alphabet.length()));
+    }
+
+    // Helper function to append a number padded with leading zeros.
+    private static void append(StringBuilder builder, int value, int width) {
+        for (int divisor = (int) Math.pow(10, width - 1); divisor > 0; divisor /= 10) {
+            builder.append((char) ('0' + value / divisor % 10));
+        }
+    }
+
+    /**
+     * The types of identifiers that can be generated.
+     */
+    public enum Type {
+        /**
+         * International Bank Account Numbers of the countries supported by {@link IBANValidator}.
+         */
+        IBAN,
+        /**
+         * Card numbers of the major brands, with a Luhn check digit.
+         */
+        CREDIT_CARD,
+        /**
+         * ISBN-10 numbers.
+         */
+        ISBN_10,
+        /**
+         * ISBN-13 numbers with the 978 or 979 prefix.
+         */
+        ISBN_13,
+        /**
+         * JMBGs of people born between 1930 and 2019.
+         */
+        JMBG
+    }
+
+    /**
+     * The kinds of errors that can be injected into the generated identifiers.
+     */
+    public enum ErrorKind {
+        /**
+         * A check character is replaced with a different one, e.g. the second check digit of an IBAN.
+         */
+        WRONG_CHECK_DIGIT,
+        /**
+         * Two different adjacent characters are swapped. When the checksum cannot detect any of the transpositions
+         * of a value, a wrong check digit is injected instead.
+         */
+        TRANSPOSITION,
+        /**
+         * The last character is dropped or another one is appended, so the length doesn't match the format.
+         * Card numbers are always shortened, to a length that their brand doesn't issue.
+         */
+        BAD_LENGTH
+    }
+
+    /**
+     * A spliterator that generates a fixed number of identifiers and hands half of them to a split generator when it is split.
+     */
+    private static final class IdentifierSpliterator implements Spliterator<String> {
+
+        private final IdentifierGenerator generator;
+        private long remaining;
+
+        private IdentifierSpliterator(IdentifierGenerator generator, long remaining) {
+            this.generator = generator;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super String> action) {
+            if (remaining == 0) {
+                return false;
+            }
+            remaining--;
+            action.accept(generator.next());
+            return true;
+        }
+
+        @Override
+        public Spliterator<String> trySplit() {
+            if (remaining < 2) {
+                return null;
+            }
+            long half = remaining / 2;
+            remaining -= half;
+            return new IdentifierSpliterator(generator.split(), half);
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+
+    }
+
+    /**
+     * The Builder class configures and creates {@link IdentifierGenerator}s.
+     */
+    public static final class Builder {
+
+        private final Type type;
+        private final Map<ErrorKind, Double> errorRates = new EnumMap<>(ErrorKind.class);
+        private List<String> countries = IBANValidator.getInstance().getSupportedCountries();
+        private SplittableRandom random;
+
+        /**
+         * Private constructor for the Builder class
+         */
+        private Builder(Type type) {
+            this.type = Objects.requireNonNull(type, "The type cannot be null");
+        }
+
+        /**
+         * Sets the seed of the generator, so that it generates the same values every time. Defaults to a random seed.
+         *
+         * @param seed The seed.
+         * @return This builder.
+         */
+        public Builder seed(long seed) {
+            this.random = new SplittableRandom(seed);
+            return this;
+        }
+
+        /**
+         * Sets the countries of the generated IBANs. Defaults to every country supported by {@link IBANValidator}.
+         * Ignored for other types of identifiers.
+         *
+         * @param countryCodes The two-letter country codes.
+         * @return This builder.
+         * @throws IllegalArgumentException if no country is given or a country isn't supported.
+         */
+        public Builder countries(String... countryCodes) {
+            if (countryCodes.length == 0) {
+                throw new IllegalArgumentException("At least one country is required");
+            }
+            for (String countryCode : countryCodes) {
+                if (IBANValidator.getInstance().getStructure(countryCode) == null) {
+                    throw new IllegalArgumentException("Unsupported IBAN country: " + countryCode);
+                }
+            }
+            this.countries = List.of(countryCodes);
+            return this;
+        }
+
+        /**
+         * Sets the share of the generated identifiers into which the given kind of error is injected. Defaults to {@code 0}.
+         *
+         * @param error The kind of error.
+         * @param rate  The share of the identifiers, from 0 to 1.
+         * @return This builder.
+         * @throws IllegalArgumentException if the rate is not between 0 and 1.
+         */
+        public Builder errorRate(ErrorKind error, double rate) {
+            if (!(rate >= 0 && rate <= 1)) {
+                throw new IllegalArgumentException("The error rate must be between 0 and 1");
+            }
+            errorRates.put(Objects.requireNonNull(error, "The error cannot be null"), rate);
+            return this;
+        }
+
+        /**
+         * Creates an IdentifierGenerator with the current configuration.
+         *
+         * @return A new IdentifierGenerator.
+         * @throws IllegalArgumentException if the error rates add up to more than 1.
+         */
+        public IdentifierGenerator build() {
+            ErrorKind[] errors = ERROR_KINDS;
+            double[] thresholds = new double[errors.length];
+            double total = 0;
+            for (int i = 0; i < errors.length; i++) {
+                total += errorRates.getOrDefault(errors[i], 0.0);
+                thresholds[i] = total;
+            }
+            if (total > 1) {
+                throw new IllegalArgumentException("The error rates add up to more than 1");
+            }
+
+            String[] codes = countries.toArray(String[]::new);
+            String[] structures = new String[codes.length];
+            for (int i = 0; i < codes.length; i++) {
+                structures[i] = expand(IBANValidator.getInstance().getStructure(codes[i]));
+            }
+            return new IdentifierGenerator(type, codes, structures, thresholds, random != null ? random : new SplittableRandom());
+        }
+
+        // Helper function to expand a structure such as 2n4a into one character class per position, e.g. nnaaaa.
+        private static String expand(String structure) {
+            StringBuilder expanded = new StringBuilder();
+            int count = 0;
+            for (int i = 0; i < structure.length(); i++) {
+                char c = structure.charAt(i);
+                if (c >= '0' && c <= '9') {
+                    count = count * 10 + (c - '0');
+                } else {
+                    expanded.append(String.valueOf(c).repeat(count));
+                    count = 0;
+                }
+            }
+            return expanded.toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,484 @@
+package com.checkmate.server;
+
+import com.checkmate.validation.ValidationResult;
+import com.checkmate.validation.Validator;
+import com.checkmate.validation.bytes.AsciiCharSequence;
+import com.checkmate.validation.credit_card.CardBrandValidator;
+import com.checkmate.validation.credit_card.CreditCardValidator;
+import com.checkmate.validation.email.EmailValidator;
+import com.checkmate.validation.iban.IBANValidator;
+import com.checkmate.validation.isbn.AssignedISBNValidator;
+import com.checkmate.validation.isbn.ISBNValidator;
+import com.checkmate.validation.jmbg.JMBGValidator;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * The ValidationServer class exposes validators over HTTP, so that services that don't run on the JVM can use them
+ * without a wrapper of their own. It is built on the HTTP server of the JDK and runs every request on its own virtual thread.
+ * </p>
+ * <p>
+ * Every validator is published under a name, e.g. {@code iban}, and accepts plain text {@code POST} requests:
+ * </p>
+ * <ul>
+ *     <li>{@code POST /validate/<name>} validates the body as a single value.</li>
+ *     <li>{@code POST /validate/<name>/batch} validates every line of the body, which may end with {@code \n} or {@code \r\n}.</li>
+ *     <li>{@code GET /validators} lists the names of the validators, one per line.</li>
+ * </ul>
+ * <p>
+ * The response is a {@link ValidationResult} per value, e.g. {@code VALID} or {@code BAD_CHECKSUM}, one per line and in request order.
+ * The bodies are validated straight from their bytes, which are read as ASCII.
+ * </p>
+ * <p>
+ * At most {@link Builder#maxConcurrentRequests(int)} requests are validated at the same time. Other requests wait for their turn
+ * in a bounded queue, and are rejected with {@code 503 Service Unavailable} and a {@code Retry-After} header when the queue is full
+ * or their turn doesn't come within the {@linkplain Builder#admissionTimeout(Duration) admission timeout}.
+ * Bodies and batches that are too large are rejected with {@code 413 Content Too Large} before they are validated.
+ * </p>
+ * <p>
+ * On most systems the HTTP server of the JDK delays small responses by up to 40 ms, as Nagle's algorithm holds them back
+ * until the client acknowledges the previous segment. Start the JVM with {@code -Dsun.net.httpserver.nodelay=true}
+ * to send them at once; the property applies to every HTTP server of the JDK in the process.
+ * </p>
+ *
+ * <pre>{@code
+ * try (ValidationServer server = ValidationServer.builder().port(8080).build()) {
+ *     server.start();
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @since 1.2.0
+ */
+public final class ValidationServer implements AutoCloseable {
+
+    private static final String VALIDATE_PATH = "/validate/";
+    private static final String VALIDATORS_PATH = "/validators";
+    private static final String BATCH_SUFFIX = "/batch";
+    private static final String TEXT = "text/plain; charset=US-ASCII";
+    private static final Pattern NAME = Pattern.compile("[a-z0-9][a-z0-9-]*");
+    private static final byte NEW_LINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final int OK = 200;
+    private static final int NOT_FOUND = 404;
+    private static final int METHOD_NOT_ALLOWED = 405;
+    private static final int CONTENT_TOO_LARGE = 413;
+    private static final int SERVICE_UNAVAILABLE = 503;
+    private static final int STOP_DELAY_SECONDS = 1;
+    private static final byte[][] RESULT_LINES = new byte[ValidationResult.values().length][];
+
+    static {
+        for (ValidationResult result : ValidationResult.values()) {
+            RESULT_LINES[result.ordinal()] = (result.name() + '\n').getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, Validator<?>> validators;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final int maxQueuedRequests;
+    private final long admissionTimeoutNanos;
+    private final String retryAfterSeconds;
+    private final int maxBodySize;
+    private final int maxBatchSize;
+
+    /**
+     * Private constructor for the ValidationServer class
+     */
+    private ValidationServer(Builder builder) throws IOException {
+        this.validators = Collections.unmodifiableMap(new LinkedHashMap<>(builder.validators));
+        this.permits = new Semaphore(builder.maxConcurrentRequests);
+        this.maxQueuedRequests = builder.maxQueuedRequests;
+        this.admissionTimeoutNanos = builder.admissionTimeout.toNanos();
+        this.retryAfterSeconds = Long.toString(Math.max(1, builder.admissionTimeout.toSeconds()));
+        this.maxBodySize = builder.maxBodySize;
+        this.maxBatchSize = builder.maxBatchSize;
+
+        this.server = HttpServer.create(builder.address, builder.backlog);
+        this.executor = newThreadPerRequestExecutor();
+        server.setExecutor(executor);
+        server.createContext(VALIDATE_PATH, this::validate);
+        server.createContext(VALIDATORS_PATH, this::listValidators);
+    }
+
+    /**
+     * Creates a builder for a ValidationServer that publishes every validator of this library.
+     *
+     * @return A new builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Gets the address the server is bound to, e.g. to find the port chosen by the system when the port was 0.
+     *
+     * @return The address of the server.
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * Gets the validators published by the server.
+     *
+     * @return The validators by their names.
+     */
+    public Map<String, Validator<?>> getValidators() {
+        return validators;
+    }
+
+    /**
+     * Stops accepting requests and waits up to a second for the requests in progress to complete.
+     */
+    @Override
+    public void close() {
+        server.stop(STOP_DELAY_SECONDS);
+        executor.shutdown();
+    }
+
+    // Helper function to handle a request to validate a single value or a batch of values.
+    private void validate(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            boolean batch = path.length() > VALIDATE_PATH.length() + BATCH_SUFFIX.length() && path.endsWith(BATCH_SUFFIX);
+            String name = path.substring(VALIDATE_PATH.length(), path.length() - (batch ? BATCH_SUFFIX.length() : 0));
+            Validator<?> validator = validators.get(name);
+
+            if (validator == null) {
+                respond(exchange, NOT_FOUND, "Unknown validator: " + name);
+            } else if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                respond(exchange, METHOD_NOT_ALLOWED, "Values must be sent with POST");
+            } else if (!admit()) {
+                exchange.getResponseHeaders().set("Retry-After", retryAfterSeconds);
+                respond(exchange, SERVICE_UNAVAILABLE, "Too many requests in progress");
+            } else {
+                try {
+                    validate(exchange, validator, batch);
+                } finally {
+                    permits.release();
+                }
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // Helper function to validate the body of an admitted request.
+    private void validate(HttpExchange exchange, Validator<?> validator, boolean batch) throws IOException {
+        byte[] body = readBody(exchange);
+        if (body == null) {
+            respond(exchange, CONTENT_TOO_LARGE, "The body is larger than " + maxBodySize + " bytes");
+            return;
+        }
+
+        AsciiCharSequence chars = AsciiCharSequence.of(body);
+        if (!batch) {
+            int end = body.length > 0 && body[body.length - 1] == NEW_LINE ? body.length - 1 : body.length;
+            respond(exchange, RESULT_LINES[validator.check(chars, 0, trimCarriageReturn(body, 0, end)).ordinal()]);
+            return;
+        }
+
+        ByteArrayOutputStream results = new ByteArrayOutputStream();
+        int values = 0;
+        int start = 0;
+        while (start < body.length) {
+            if (++values > maxBatchSize) {
+                respond(exchange, CONTENT_TOO_LARGE, "The batch has more than " + maxBatchSize + " values");
+                return;
+            }
+            int end = indexOf(body, NEW_LINE, start);
+            results.writeBytes(RESULT_LINES[validator.check(chars, start, trimCarriageReturn(body, start, end)).ordinal()]);
+            start = end + 1;
+        }
+        respond(exchange, results.toByteArray());
+    }
+
+    // Helper function to handle a request for the names of the validators.
+    private void listValidators(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                respond(exchange, METHOD_NOT_ALLOWED, "The validators must be listed with GET");
+                return;
+            }
+            respond(exchange, String.join("\n", validators.keySet()).concat("\n").getBytes(StandardCharsets.US_ASCII));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // Helper function to wait for a permit in the bounded queue, or to give up when the queue is full or the wait too long.
+    private boolean admit() {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        if (queued.incrementAndGet() > maxQueuedRequests) {
+            queued.decrementAndGet();
+            return false;
+        }
+
+        try {
+            return permits.tryAcquire(admissionTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    // Helper function to read the whole body, or to return null as soon as it is larger than allowed.
+    private byte[] readBody(HttpExchange exchange) throws IOException {
+        String contentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+        try {
+            if (contentLength != null && Long.parseLong(contentLength.trim()) > maxBodySize) {
+                return null;
+            }
+        } catch (NumberFormatException e) {
+            // The size is still checked while the body is read.
+        }
+
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readNBytes(maxBodySize + 1);
+            return body.length > maxBodySize ? null : body;
+        }
+    }
+
+    // Helper function to send the results of a validation.
+    private static void respond(HttpExchange exchange, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", TEXT);
+        exchange.sendResponseHeaders(OK, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    // Helper function to send an error message.
+    private static void respond(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] body = (message + '\n').getBytes(StandardCharsets.US_ASCII);
+        exchange.getResponseHeaders().set("Content-Type", TEXT);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    // Helper function to find the end of the line that starts at the given index.
+    private static int indexOf(byte[] bytes, byte value, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        return bytes.length;
+    }
+
+    // Helper function to drop the carriage return of a line that ends with \r\n.
+    private static int trimCarriageReturn(byte[] bytes, int start, int end) {
+        return end > start && bytes[end - 1] == CARRIAGE_RETURN ? end - 1 : end;
+    }
+
+    // Helper function to create an executor that runs every request on its own virtual thread.
+    // Virtual threads are a preview feature of Java 20, so platform threads are used when they aren't enabled.
+    private static ExecutorService newThreadPerRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * The Builder class configures and creates {@link ValidationServer}s.
+     */
+    public static final class Builder {
+
+        private static final int DEFAULT_PORT = 8080;
+        private static final int DEFAULT_MAX_QUEUED_REQUESTS = 1024;
+        private static final Duration DEFAULT_ADMISSION_TIMEOUT = Duration.ofSeconds(1);
+        private static final int DEFAULT_MAX_BODY_SIZE = 1024 * 1024;
+        private static final int DEFAULT_MAX_BATCH_SIZE = 10_000;
+
+        private final Map<String, Validator<?>> validators = new LinkedHashMap<>();
+        private InetSocketAddress address = new InetSocketAddress("localhost", DEFAULT_PORT);
+        private int backlog = 0;
+        private int maxConcurrentRequests = Runtime.getRuntime().availableProcessors();
+        private int maxQueuedRequests = DEFAULT_MAX_QUEUED_REQUESTS;
+        private Duration admissionTimeout = DEFAULT_ADMISSION_TIMEOUT;
+        private int maxBodySize = DEFAULT_MAX_BODY_SIZE;
+        private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+        /**
+         * Private constructor for the Builder class
+         */
+        private Builder() {
+            validators.put("iban", IBANValidator.getInstance());
+            validators.put("isbn", ISBNValidator.getInstance());
+            validators.put("assigned-isbn", AssignedISBNValidator.getInstance());
+            validators.put("email", EmailValidator.getInstance());
+            validators.put("jmbg", JMBGValidator.getInstance());
+            validators.put("credit-card", CreditCardValidator.getInstance());
+            validators.put("card-brand", CardBrandValidator.getInstance());
+        }
+
+        /**
+         * Publishes a validator under the given name, or replaces the validator published under it.
+         *
+         * @param name      The name, made of lower case letters, digits and hyphens.
+         * @param validator The validator.
+         * @return This builder.
+         * @throws IllegalArgumentException if the name is not valid.
+         */
+        public Builder validator(String name, Validator<?> validator) {
+            if (name == null || !NAME.matcher(name).matches()) {
+                throw new IllegalArgumentException("The name must be made of lower case letters, digits and hyphens: " + name);
+            }
+            validators.put(name, Objects.requireNonNull(validator, "The validator cannot be null"));
+            return this;
+        }
+
+        /**
+         * Sets the port of the server on the loopback interface. Defaults to {@code 8080}, {@code 0} picks a free port.
+         *
+         * @param port The port.
+         * @return This builder.
+         */
+        public Builder port(int port) {
+            return address(new InetSocketAddress("localhost", port));
+        }
+
+        /**
+         * Sets the address of the server. Defaults to port {@code 8080} on the loopback interface.
+         *
+         * @param address The address.
+         * @return This builder.
+         */
+        public Builder address(InetSocketAddress address) {
+            this.address = Objects.requireNonNull(address, "The address cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the number of connections the system queues before the server accepts them. Defaults to the system default.
+         *
+         * @param backlog The size of the backlog, or 0 for the system default.
+         * @return This builder.
+         */
+        public Builder backlog(int backlog) {
+            this.backlog = backlog;
+            return this;
+        }
+
+        /**
+         * Sets how many requests are validated at the same time. Defaults to the number of available processors.
+         *
+         * @param maxConcurrentRequests The maximum number of requests in progress.
+         * @return This builder.
+         */
+        public Builder maxConcurrentRequests(int maxConcurrentRequests) {
+            if (maxConcurrentRequests <= 0) {
+                throw new IllegalArgumentException("The number of concurrent requests must be positive");
+            }
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        /**
+         * Sets how many requests can wait for their turn before new ones are rejected. Defaults to {@code 1024}.
+         *
+         * @param maxQueuedRequests The maximum number of waiting requests, 0 to reject every request that can't start at once.
+         * @return This builder.
+         */
+        public Builder maxQueuedRequests(int maxQueuedRequests) {
+            if (maxQueuedRequests < 0) {
+                throw new IllegalArgumentException("The number of queued requests cannot be negative");
+            }
+            this.maxQueuedRequests = maxQueuedRequests;
+            return this;
+        }
+
+        /**
+         * Sets how long a request waits for its turn before it is rejected. Defaults to one second.
+         *
+         * @param admissionTimeout The maximum time a request waits.
+         * @return This builder.
+         */
+        public Builder admissionTimeout(Duration admissionTimeout) {
+            if (admissionTimeout.isNegative()) {
+                throw new IllegalArgumentException("The admission timeout cannot be negative");
+            }
+            this.admissionTimeout = admissionTimeout;
+            return this;
+        }
+
+        /**
+         * Sets the largest body that is accepted, in bytes. Defaults to 1 MB.
+         *
+         * @param maxBodySize The maximum size of a body.
+         * @return This builder.
+         */
+        public Builder maxBodySize(int maxBodySize) {
+            if (maxBodySize <= 0 || maxBodySize == Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("The body size must be positive and smaller than " + Integer.MAX_VALUE);
+            }
+            this.maxBodySize = maxBodySize;
+            return this;
+        }
+
+        /**
+         * Sets the largest number of values in a batch. Defaults to {@code 10000}.
+         *
+         * @param maxBatchSize The maximum number of values.
+         * @return This builder.
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+            if (maxBatchSize <= 0) {
+                throw new IllegalArgumentException("The batch size must be positive");
+            }
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Creates a ValidationServer with the current configuration. The server doesn't accept requests until it is started.
+         *
+         * @return A new ValidationServer.
+         * @throws IOException if the server cannot be bound to its address.
+         */
+        public ValidationServer build() throws IOException {
+            return new ValidationServer(this);
+        }
+
+    }
+
+}
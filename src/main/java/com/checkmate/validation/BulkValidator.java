@@ -0,0 +1,183 @@
+package com.checkmate.validation;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * The BulkValidator class validates whole batches of values with a single {@link Validator}. <br>
+ * The result of a batch is a {@link BitSet} in which the bit at index {@code i} is set if the value at index {@code i} is valid.
+ * </p>
+ * <p>
+ * Small batches are validated on the calling thread. Large batches are split into chunks and validated in parallel
+ * on a {@link ForkJoinPool}. The size of the chunks adapts to the parallelism of the pool and to how busy its workers are.
+ * </p>
+ * <p>
+ * Values are validated with {@link Validator#check(CharSequence)}, so {@code null} or blank values are reported as invalid
+ * instead of throwing an exception and a single missing value never fails the whole batch.
+ * </p>
+ *
+ * <pre>{@code
+ * BitSet valid = BulkValidator.of(IBANValidator.getInstance()).validate(ibans);
+ * }</pre>
+ *
+ * @since 1.2.0
+ */
+public final class BulkValidator {
+
+    private static final int SEQUENTIAL_THRESHOLD = 4096;
+    private static final int MIN_CHUNK_SIZE = 1024;
+    private static final int CHUNKS_PER_WORKER = 8;
+    private static final int MAX_SURPLUS_TASKS = 3;
+    private static final int BITS_PER_WORD = Long.SIZE;
+
+    private final Validator<?> validator;
+    private final ForkJoinPool pool;
+
+    /**
+     * Private constructor for the BulkValidator class
+     */
+    private BulkValidator(Validator<?> validator, ForkJoinPool pool) {
+        this.validator = validator;
+        this.pool = pool;
+    }
+
+    /**
+     * Creates a BulkValidator that validates large batches on the {@linkplain ForkJoinPool#commonPool() common pool}.
+     *
+     * @param validator The validator used for every value of a batch.
+     * @return A BulkValidator backed by the given validator.
+     */
+    public static BulkValidator of(Validator<?> validator) {
+        return of(validator, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a BulkValidator that validates large batches on the given pool.
+     *
+     * @param validator The validator used for every value of a batch.
+     * @param pool      The pool that runs the validation of large batches.
+     * @return A BulkValidator backed by the given validator.
+     */
+    public static BulkValidator of(Validator<?> validator, ForkJoinPool pool) {
+        return new BulkValidator(Objects.requireNonNull(validator, "The validator cannot be null"),
+                Objects.requireNonNull(pool, "The pool cannot be null"));
+    }
+
+    /**
+     * Validates every value of the given array.
+     *
+     * @param inputs The values to validate.
+     * @return A bit set in which the bit at index {@code i} is set if {@code inputs[i]} is valid.
+     */
+    public BitSet validate(CharSequence[] inputs) {
+        return validate(inputs.length, i -> inputs[i]);
+    }
+
+    /**
+     * Validates every value of the given list.
+     * The list should support fast random access, e.g. an {@link java.util.ArrayList}.
+     *
+     * @param inputs The values to validate.
+     * @return A bit set in which the bit at index {@code i} is set if {@code inputs.get(i)} is valid.
+     */
+    public BitSet validate(List<? extends CharSequence> inputs) {
+        return validate(inputs.size(), inputs::get);
+    }
+
+    /**
+     * Validates every value of the given stream, in encounter order.
+     *
+     * @param inputs The values to validate.
+     * @return A bit set in which the bit at index {@code i} is set if the {@code i}-th value of the stream is valid.
+     */
+    public BitSet validate(Stream<? extends CharSequence> inputs) {
+        return validate(inputs.toArray(CharSequence[]::new));
+    }
+
+    /**
+     * Validates every value of the given array and stores the results into the given array.
+     *
+     * @param inputs  The values to validate.
+     * @param results The array in which {@code results[i]} is set to the validity of {@code inputs[i]}.
+     * @throws IllegalArgumentException if the arrays don't have the same length.
+     */
+    public void validate(CharSequence[] inputs, boolean[] results) {
+        if (inputs.length != results.length) {
+            throw new IllegalArgumentException("The inputs and the results must have the same length");
+        }
+
+        BitSet valid = validate(inputs);
+        for (int i = 0; i < results.length; i++) {
+            results[i] = valid.get(i);
+        }
+    }
+
+    // Helper function to validate a batch of the given size, one word of results per 64 values.
+    private BitSet validate(int size, IntFunction<? extends CharSequence> inputs) {
+        long[] words = new long[(size + BITS_PER_WORD - 1) / BITS_PER_WORD];
+
+        if (size <= SEQUENTIAL_THRESHOLD || pool.getParallelism() == 1) {
+            validateRange(inputs, words, 0, size);
+        } else {
+            int chunkSize = Math.max(MIN_CHUNK_SIZE, size / (pool.getParallelism() * CHUNKS_PER_WORKER));
+            pool.invoke(new ValidationTask(inputs, words, 0, size, alignToWord(chunkSize)));
+        }
+
+        return BitSet.valueOf(words);
+    }
+
+    // Helper function to validate the values in the given range, which must start at the beginning of a word.
+    private void validateRange(IntFunction<? extends CharSequence> inputs, long[] words, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (validator.check(inputs.apply(i)).isValid()) {
+                words[i / BITS_PER_WORD] |= 1L << i;
+            }
+        }
+    }
+
+    // Helper function to round a number of values up to a whole number of words.
+    private static int alignToWord(int count) {
+        return (count + BITS_PER_WORD - 1) / BITS_PER_WORD * BITS_PER_WORD;
+    }
+
+    /**
+     * A task that splits its range in halves until the range is small enough or the other workers are busy.
+     * Ranges are always split on word boundaries, so no two tasks ever write to the same word.
+     */
+    private final class ValidationTask extends RecursiveAction {
+
+        private final IntFunction<? extends CharSequence> inputs;
+        private final long[] words;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        private ValidationTask(IntFunction<? extends CharSequence> inputs, long[] words, int from, int to, int chunkSize) {
+            this.inputs = inputs;
+            this.words = words;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize || getSurplusQueuedTaskCount() > MAX_SURPLUS_TASKS) {
+                validateRange(inputs, words, from, to);
+                return;
+            }
+
+            int middle = from + alignToWord((to - from) / 2);
+            invokeAll(new ValidationTask(inputs, words, from, middle, chunkSize),
+                    new ValidationTask(inputs, words, middle, to, chunkSize));
+        }
+
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.checkmate.validation;
+
+/**
+ * <p>
+ * The ValidationResult enum describes the outcome of a validation without throwing an exception. <br>
+ * It is returned by {@link Validator#check(CharSequence, int, int)}, which reports missing values as
+ * {@link #NULL} or {@link #EMPTY} instead of throwing the exceptions that {@link Validator#isValid(Object)} throws.
+ * </p>
+ *
+ * <pre>{@code
+ * switch (IBANValidator.getInstance().check(iban)) {
+ *     case VALID -> accept(iban);
+ *     case NULL, EMPTY -> skip();
+ *     default -> reject(iban);
+ * }
+ * }</pre>
+ *
+ * @since 1.2.0
+ */
+public enum ValidationResult {
+
+    /**
+     * The value is {@code null}.
+     */
+    NULL,
+
+    /**
+     * The value is empty or contains only whitespace.
+     */
+    EMPTY,
+
+    /**
+     * The value doesn't have the length required by its format.
+     */
+    BAD_LENGTH,
+
+    /**
+     * The value has the right length, but contains characters or fields that its format doesn't allow.
+     */
+    BAD_FORMAT,
+
+    /**
+     * The value is well-formed, but its check digits don't match.
+     */
+    BAD_CHECKSUM,
+
+    /**
+     * The value is valid.
+     */
+    VALID;
+
+    /**
+     * Checks if this result stands for a valid value.
+     *
+     * @return {@code true} if this result is {@link #VALID}, {@code false} otherwise.
+     */
+    public boolean isValid() {
+        return this == VALID;
+    }
+
+    /**
+     * Checks if this result stands for a missing value.
+     *
+     * @return {@code true} if this result is {@link #NULL} or {@link #EMPTY}, {@code false} otherwise.
+     */
+    public boolean isMissing() {
+        return this == NULL || this == EMPTY;
+    }
+
+}
@@ -1,6 +1,8 @@
 package com.checkmate.validation;
 
 import java.io.Serializable;
+import java.nio.CharBuffer;
+import java.util.Objects;
 
 /**
  * A generic interface for validating objects.
@@ -19,6 +21,79 @@ public interface Validator<T> extends Serializable {
      */
     boolean isValid(T input);
 
+    /**
+     * Validates the characters in the given range of a character sequence, without copying them.
+     * The default implementation copies the range into a {@link String} and passes it to {@link #isValid(Object)},
+     * so it only works for validators of strings; the validators of this library override it to avoid the copy,
+     * and validators of other types must override it.
+     *
+     * @param input The character sequence that contains the object to be validated.
+     * @param from  The index of the first character to validate (inclusive).
+     * @param to    The index of the last character to validate (exclusive).
+     * @return {@code true} if the characters in the range are considered valid, {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     * @since 1.2.0
+     */
+    @SuppressWarnings("unchecked")
+    default boolean isValid(CharSequence input, int from, int to) {
+        if (input == null) {
+            return isValid((T) null);
+        }
+        Objects.checkFromToIndex(from, to, input.length());
+        return isValid((T) input.subSequence(from, to).toString());
+    }
+
+    /**
+     * Validates the characters in the given range of a character array, without copying them.
+     *
+     * @param input  The character array that contains the object to be validated.
+     * @param offset The index of the first character to validate.
+     * @param length The number of characters to validate.
+     * @return {@code true} if the characters in the range are considered valid, {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character array.
+     * @since 1.2.0
+     */
+    default boolean isValid(char[] input, int offset, int length) {
+        return isValid(input == null ? null : CharBuffer.wrap(input), offset, offset + length);
+    }
+
+    /**
+     * Validates the given character sequence without throwing an exception for missing values.
+     *
+     * @param input The character sequence to be validated, can be {@code null}.
+     * @return The outcome of the validation, {@link ValidationResult#NULL} if the input is {@code null}.
+     * @since 1.2.0
+     */
+    default ValidationResult check(CharSequence input) {
+        return input == null ? ValidationResult.NULL : check(input, 0, input.length());
+    }
+
+    /**
+     * Validates the characters in the given range of a character sequence without throwing an exception for missing values.
+     * Implementations should override this method to tell the reason of a failure apart, the default implementation
+     * reports every failure of {@link #isValid(CharSequence, int, int)} as {@link ValidationResult#BAD_FORMAT}.
+     *
+     * @param input The character sequence that contains the object to be validated, can be {@code null}.
+     * @param from  The index of the first character to validate (inclusive).
+     * @param to    The index of the last character to validate (exclusive).
+     * @return The outcome of the validation, {@link ValidationResult#NULL} if the input is {@code null}
+     * and {@link ValidationResult#EMPTY} if the range contains only whitespace.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     * @since 1.2.0
+     */
+    default ValidationResult check(CharSequence input, int from, int to) {
+        if (input == null) {
+            return ValidationResult.NULL;
+        }
+        Objects.checkFromToIndex(from, to, input.length());
+        for (int i = from; i < to; i++) {
+            if (input.charAt(i) > ' ') {
+                return isValid(input, from, to) ? ValidationResult.VALID : ValidationResult.BAD_FORMAT;
+            }
+        }
+        return ValidationResult.EMPTY;
+    }
+
     /**
      * Checks if the given object is null or an empty string (in case of a String object).
      *
@@ -0,0 +1,91 @@
+package com.checkmate.validation.bytes;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * <p>
+ * The AsciiCharSequence class is a read-only {@link CharSequence} view over ASCII encoded bytes. <br>
+ * Every byte is read as a single character on demand, so the bytes are never decoded or copied.
+ * </p>
+ * <p>
+ * Bytes outside the ASCII range are read as the ISO-8859-1 character with the same value,
+ * which none of the validators in this library accept as a part of a number.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class AsciiCharSequence implements CharSequence {
+
+    private final byte[] array;
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    /**
+     * Private constructor for the AsciiCharSequence class
+     */
+    private AsciiCharSequence(byte[] array, ByteBuffer buffer, int offset, int length) {
+        this.array = array;
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Creates a view over the bytes of the given array.
+     *
+     * @param bytes The ASCII encoded bytes.
+     * @return A character sequence backed by the array.
+     */
+    public static AsciiCharSequence of(byte[] bytes) {
+        return new AsciiCharSequence(Objects.requireNonNull(bytes), null, 0, bytes.length);
+    }
+
+    /**
+     * Creates a view over the bytes of the given buffer, from index zero up to its limit.
+     * The position and the limit of the buffer are not changed by the view.
+     *
+     * @param buffer The heap or direct buffer that contains ASCII encoded bytes.
+     * @return A character sequence backed by the buffer.
+     */
+    public static AsciiCharSequence of(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return new AsciiCharSequence(buffer.array(), null, buffer.arrayOffset(), buffer.limit());
+        }
+        return new AsciiCharSequence(null, buffer, 0, buffer.limit());
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Objects.checkIndex(index, length);
+        if (array != null) {
+            return (char) (array[offset + index] & 0xFF);
+        }
+        return (char) (buffer.get(offset + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, length);
+        return new AsciiCharSequence(array, buffer, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        if (array != null) {
+            return new String(array, offset, length, StandardCharsets.ISO_8859_1);
+        }
+
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.checkmate.validation.bytes;
+
+import com.checkmate.validation.ValidationResult;
+import com.checkmate.validation.Validator;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * <p>
+ * The ByteValidator class runs any of the validators in this library directly over ASCII encoded bytes,
+ * without decoding them into a {@link String} first.
+ * </p>
+ * <p>
+ * Heap and direct {@link ByteBuffer}s are both supported. Memory-mapped files and
+ * {@code java.lang.foreign.MemorySegment}s can be validated through their {@code ByteBuffer} views,
+ * e.g. {@code segment.asByteBuffer()}, which share the memory instead of copying it.
+ * </p>
+ *
+ * <pre>{@code
+ * ByteValidator validator = ByteValidator.of(IBANValidator.getInstance());
+ * boolean valid = validator.isValid(record, ibanOffset, ibanLength);
+ * }</pre>
+ *
+ * @since 1.2.0
+ */
+public final class ByteValidator {
+
+    private final Validator<?> validator;
+
+    /**
+     * Private constructor for the ByteValidator class
+     */
+    private ByteValidator(Validator<?> validator) {
+        this.validator = validator;
+    }
+
+    /**
+     * Creates a ByteValidator that validates bytes with the given validator.
+     *
+     * @param validator The validator used for the validation.
+     * @return A ByteValidator backed by the given validator.
+     */
+    public static ByteValidator of(Validator<?> validator) {
+        return new ByteValidator(Objects.requireNonNull(validator, "The validator cannot be null"));
+    }
+
+    /**
+     * Validates the ASCII encoded value in the given range of a buffer.
+     * The position and the limit of the buffer are not changed.
+     *
+     * @param buffer The heap or direct buffer that contains the value.
+     * @param offset The index of the first byte of the value.
+     * @param length The number of bytes of the value.
+     * @return {@code true} if the value is valid, {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the buffer.
+     */
+    public boolean isValid(ByteBuffer buffer, int offset, int length) {
+        return validator.isValid(AsciiCharSequence.of(buffer), offset, offset + length);
+    }
+
+    /**
+     * Validates the ASCII encoded value in the given range of a byte array.
+     *
+     * @param bytes  The array that contains the value.
+     * @param offset The index of the first byte of the value.
+     * @param length The number of bytes of the value.
+     * @return {@code true} if the value is valid, {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the array.
+     */
+    public boolean isValid(byte[] bytes, int offset, int length) {
+        return validator.isValid(AsciiCharSequence.of(bytes), offset, offset + length);
+    }
+
+    /**
+     * Validates the ASCII encoded value in the given range of a buffer, without throwing an exception if it is blank.
+     * The position and the limit of the buffer are not changed.
+     *
+     * @param buffer The heap or direct buffer that contains the value.
+     * @param offset The index of the first byte of the value.
+     * @param length The number of bytes of the value.
+     * @return The outcome of the validation.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the buffer.
+     */
+    public ValidationResult check(ByteBuffer buffer, int offset, int length) {
+        return validator.check(AsciiCharSequence.of(buffer), offset, offset + length);
+    }
+
+    /**
+     * Validates the ASCII encoded value in the given range of a byte array, without throwing an exception if it is blank.
+     *
+     * @param bytes  The array that contains the value.
+     * @param offset The index of the first byte of the value.
+     * @param length The number of bytes of the value.
+     * @return The outcome of the validation.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the array.
+     */
+    public ValidationResult check(byte[] bytes, int offset, int length) {
+        return validator.check(AsciiCharSequence.of(bytes), offset, offset + length);
+    }
+
+}
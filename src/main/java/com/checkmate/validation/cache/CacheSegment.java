@@ -0,0 +1,230 @@
+package com.checkmate.validation.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p>
+ * The CacheSegment class is one lock stripe of a {@link CachingValidator}: a linear-probing hash table
+ * from keys to validation results with a fixed memory budget.
+ * </p>
+ * <p>
+ * Keys are stored as their Latin-1 bytes next to their 64-bit hash, results as a single byte.
+ * When the segment is full, a few resident keys are sampled and the least frequently used one is evicted,
+ * but only if the new key has been seen more often than it (TinyLFU admission), so one-off values
+ * never push out the values that keep coming back.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+final class CacheSegment {
+
+    /**
+     * The value returned by {@link #get(long, CharSequence, int, int)} when the key isn't cached.
+     */
+    static final byte ABSENT = -1;
+
+    private static final int SLOTS_PER_SKETCH_WORD = 2;
+    static final int SLOT_BYTES = Long.BYTES + Integer.BYTES + Byte.BYTES + Long.BYTES / SLOTS_PER_SKETCH_WORD;
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int EVICTION_SAMPLES = 8;
+
+    private final long[] hashes;
+    private final byte[][] keys;
+    private final byte[] results;
+    private final int mask;
+    private final int maxEntries;
+    private final long keyBudget;
+    private final FrequencySketch sketch;
+
+    private int size;
+    private long keyBytes;
+    private long evictions;
+
+    /**
+     * Constructs a segment.
+     *
+     * @param slots     The number of slots of the hash table, a power of two.
+     * @param keyBudget The number of bytes that the keys may use.
+     */
+    CacheSegment(int slots, long keyBudget) {
+        this.hashes = new long[slots];
+        this.keys = new byte[slots][];
+        this.results = new byte[slots];
+        this.mask = slots - 1;
+        this.maxEntries = slots / 4 * 3;
+        this.keyBudget = keyBudget;
+        this.sketch = new FrequencySketch(Math.max(1, slots / SLOTS_PER_SKETCH_WORD));
+    }
+
+    /**
+     * Looks up the result of a key and records the access.
+     *
+     * @param hash The hash of the key, never 0.
+     * @param key  The character sequence that contains the key.
+     * @param from The index of the first character of the key (inclusive).
+     * @param to   The index of the last character of the key (exclusive).
+     * @return The cached result, or {@link #ABSENT} if the key isn't cached.
+     */
+    synchronized byte get(long hash, CharSequence key, int from, int to) {
+        sketch.increment(hash);
+        int slot = find(hash, key, from, to);
+        return slot < 0 ? ABSENT : results[slot];
+    }
+
+    /**
+     * Caches the result of a key, if the key is worth the room it takes.
+     *
+     * @param hash   The hash of the key, never 0.
+     * @param key    The character sequence that contains the key, with Latin-1 characters only.
+     * @param from   The index of the first character of the key (inclusive).
+     * @param to     The index of the last character of the key (exclusive).
+     * @param result The result to cache.
+     */
+    synchronized void put(long hash, CharSequence key, int from, int to, byte result) {
+        if (find(hash, key, from, to) >= 0) {
+            return;
+        }
+
+        long weight = weightOf(to - from);
+        if (weight > keyBudget) {
+            return;
+        }
+        while (size >= maxEntries || keyBytes + weight > keyBudget) {
+            int victim = sampleVictim();
+            if (sketch.frequency(hashes[victim]) >= sketch.frequency(hash)) {
+                return;
+            }
+            remove(victim);
+            evictions++;
+        }
+
+        byte[] bytes = new byte[to - from];
+        for (int i = from; i < to; i++) {
+            bytes[i - from] = (byte) key.charAt(i);
+        }
+
+        int slot = (int) hash & mask;
+        while (hashes[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        hashes[slot] = hash;
+        keys[slot] = bytes;
+        results[slot] = result;
+        size++;
+        keyBytes += weight;
+    }
+
+    /**
+     * Gets the number of cached keys.
+     *
+     * @return The number of keys in this segment.
+     */
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of keys that were evicted to make room for others.
+     *
+     * @return The number of evictions from this segment.
+     */
+    synchronized long evictions() {
+        return evictions;
+    }
+
+    /**
+     * Gets the memory used by this segment.
+     *
+     * @return The estimated number of bytes used by the table, the frequency sketch and the keys.
+     */
+    synchronized long estimatedBytes() {
+        return (long) hashes.length * SLOT_BYTES + keyBytes;
+    }
+
+    /**
+     * Removes every key from this segment.
+     */
+    synchronized void clear() {
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = 0;
+            keys[i] = null;
+        }
+        size = 0;
+        keyBytes = 0;
+    }
+
+    /**
+     * Gets the memory used by a cached key.
+     *
+     * @param length The number of characters of the key.
+     * @return The estimated number of bytes used by the key.
+     */
+    static long weightOf(int length) {
+        return (ARRAY_HEADER_BYTES + length + 7) & ~7L;
+    }
+
+    // Helper function to find the slot of a key, or -1 if it isn't cached.
+    private int find(long hash, CharSequence key, int from, int to) {
+        int slot = (int) hash & mask;
+        while (hashes[slot] != 0) {
+            if (hashes[slot] == hash && keyEquals(keys[slot], key, from, to)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    // Helper function to compare a stored key with the characters of a key.
+    private static boolean keyEquals(byte[] bytes, CharSequence key, int from, int to) {
+        if (bytes.length != to - from) {
+            return false;
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            if ((bytes[i] & 0xFF) != key.charAt(from + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Helper function to pick the least frequently used of a few occupied slots, starting from a random one.
+    private int sampleVictim() {
+        int slot = ThreadLocalRandom.current().nextInt(hashes.length);
+        int victim = -1;
+        int victimFrequency = Integer.MAX_VALUE;
+
+        for (int samples = 0; samples < EVICTION_SAMPLES; slot = (slot + 1) & mask) {
+            if (hashes[slot] == 0) {
+                continue;
+            }
+            int frequency = sketch.frequency(hashes[slot]);
+            if (frequency < victimFrequency) {
+                victim = slot;
+                victimFrequency = frequency;
+            }
+            samples++;
+        }
+        return victim;
+    }
+
+    // Helper function to remove the key in a slot and shift the following keys back, so that no lookup loses its way.
+    private void remove(int slot) {
+        keyBytes -= weightOf(keys[slot].length);
+        size--;
+
+        int hole = slot;
+        for (int next = (hole + 1) & mask; hashes[next] != 0; next = (next + 1) & mask) {
+            int home = (int) hashes[next] & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                hashes[hole] = hashes[next];
+                keys[hole] = keys[next];
+                results[hole] = results[next];
+                hole = next;
+            }
+        }
+        hashes[hole] = 0;
+        keys[hole] = null;
+    }
+
+}
@@ -0,0 +1,297 @@
+package com.checkmate.validation.cache;
+
+import com.checkmate.validation.ValidationResult;
+import com.checkmate.validation.Validator;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * The CachingValidator class remembers the results of a validator, so that values that keep coming back,
+ * such as the IBANs of regular payees, are only validated once.
+ * </p>
+ * <p>
+ * The cache is split into independently locked segments and never grows beyond the memory given to it.
+ * Keys are stored as Latin-1 bytes instead of {@link String}s, and values with other characters or longer than
+ * {@value #MAX_KEY_LENGTH} characters are validated without being cached. When the cache is full, a new value only
+ * takes the place of a cached one if it has been seen more often recently (TinyLFU admission),
+ * so a burst of one-off values can't flush the values that are worth keeping.
+ * </p>
+ * <p>
+ * A CachingValidator behaves exactly like the validator it wraps, including the exceptions it throws.
+ * {@code null} and blank values are never cached.
+ * </p>
+ * <p>
+ * Only the wrapped validator and the memory limit are serialized, a deserialized CachingValidator starts with an empty cache.
+ * </p>
+ *
+ * <pre>{@code
+ * CachingValidator validator = CachingValidator.of(IBANValidator.getInstance(), 16 * 1024 * 1024);
+ * }</pre>
+ *
+ * @since 1.2.0
+ */
+public final class CachingValidator implements Validator<String> {
+
+    /**
+     * The maximum number of characters of a cached value.
+     */
+    public static final int MAX_KEY_LENGTH = 256;
+
+    private static final int SEGMENTS = 16;
+    private static final int SEGMENT_SHIFT = Long.SIZE - Integer.numberOfTrailingZeros(SEGMENTS);
+    private static final int BYTES_PER_SLOT_BUDGET = 40;
+    private static final int MIN_SLOTS = 16;
+    private static final ValidationResult[] RESULTS = ValidationResult.values();
+
+    private final Validator<String> validator;
+    private final long maximumBytes;
+    private final transient CacheSegment[] segments;
+    private final transient LongAdder hits = new LongAdder();
+    private final transient LongAdder misses = new LongAdder();
+
+    /**
+     * Private constructor for the CachingValidator class
+     */
+    private CachingValidator(Validator<String> validator, long maximumBytes, CacheSegment[] segments) {
+        this.validator = validator;
+        this.maximumBytes = maximumBytes;
+        this.segments = segments;
+    }
+
+    /**
+     * Wraps the given validator with a cache that uses at most about the given amount of memory.
+     * Up to half of the memory goes to the hash tables and the frequency sketches, the rest to the keys.
+     *
+     * @param validator    The validator whose results are cached.
+     * @param maximumBytes The memory the cache may use, in bytes.
+     * @return A validator that caches the results of the given one.
+     * @throws IllegalArgumentException if the memory is too small to hold a few keys per segment.
+     */
+    public static CachingValidator of(Validator<String> validator, long maximumBytes) {
+        Objects.requireNonNull(validator, "The validator cannot be null");
+
+        long segmentBytes = maximumBytes / SEGMENTS;
+        if (segmentBytes < (long) MIN_SLOTS * BYTES_PER_SLOT_BUDGET) {
+            throw new IllegalArgumentException("The cache needs at least " + SEGMENTS * MIN_SLOTS * BYTES_PER_SLOT_BUDGET + " bytes");
+        }
+
+        int slots = (int) Math.min(1 << 30, Long.highestOneBit(segmentBytes / BYTES_PER_SLOT_BUDGET));
+        long keyBudget = segmentBytes - (long) slots * CacheSegment.SLOT_BYTES;
+
+        CacheSegment[] segments = new CacheSegment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new CacheSegment(slots, keyBudget);
+        }
+        return new CachingValidator(validator, maximumBytes, segments);
+    }
+
+    /**
+     * Checks if the given value is valid, using the cached result if there is one.
+     *
+     * @param input The value to validate.
+     * @return {@code true} if the value is valid, {@code false} otherwise.
+     */
+    @Override
+    public boolean isValid(String input) {
+        ValidationResult result = check(input);
+        return result.isMissing() ? validator.isValid(input) : result.isValid();
+    }
+
+    /**
+     * Checks if the value in the given range of a character sequence is valid, using the cached result if there is one.
+     *
+     * @param input The character sequence that contains the value.
+     * @param from  The index of the first character of the value (inclusive).
+     * @param to    The index of the last character of the value (exclusive).
+     * @return {@code true} if the value is valid, {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     */
+    @Override
+    public boolean isValid(CharSequence input, int from, int to) {
+        ValidationResult result = check(input, from, to);
+        return result.isMissing() ? validator.isValid(input, from, to) : result.isValid();
+    }
+
+    /**
+     * Validates the value in the given range of a character sequence, using the cached result if there is one.
+     *
+     * @param input The character sequence that contains the value, can be {@code null}.
+     * @param from  The index of the first character of the value (inclusive).
+     * @param to    The index of the last character of the value (exclusive).
+     * @return The outcome of the validation.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     */
+    @Override
+    public ValidationResult check(CharSequence input, int from, int to) {
+        if (input == null) {
+            return ValidationResult.NULL;
+        }
+        Objects.checkFromToIndex(from, to, input.length());
+
+        long hash = hash(input, from, to);
+        if (hash == 0) {
+            misses.increment();
+            return validator.check(input, from, to);
+        }
+
+        CacheSegment segment = segments[(int) (hash >>> SEGMENT_SHIFT)];
+        byte cached = segment.get(hash, input, from, to);
+        if (cached != CacheSegment.ABSENT) {
+            hits.increment();
+            return RESULTS[cached];
+        }
+
+        misses.increment();
+        ValidationResult result = validator.check(input, from, to);
+        if (!result.isMissing()) {
+            segment.put(hash, input, from, to, (byte) result.ordinal());
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the given value is null or empty with the wrapped validator.
+     *
+     * @param input The value to check.
+     * @return {@code true} if the value is null or empty, {@code false} otherwise.
+     */
+    @Override
+    public boolean isNullOrEmpty(String input) {
+        return validator.isNullOrEmpty(input);
+    }
+
+    /**
+     * Gets the number of validations that were answered from the cache.
+     *
+     * @return The number of cache hits.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of validations that had to run the wrapped validator.
+     *
+     * @return The number of cache misses, values that can't be cached included.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the fraction of the validations that were answered from the cache.
+     *
+     * @return The hit rate, between 0 and 1, or 0 if nothing was validated yet.
+     */
+    public double getHitRate() {
+        long hitCount = getHitCount();
+        long total = hitCount + getMissCount();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Gets the number of cached values that were evicted to make room for others.
+     *
+     * @return The number of evictions.
+     */
+    public long getEvictionCount() {
+        long evictions = 0;
+        for (CacheSegment segment : segments) {
+            evictions += segment.evictions();
+        }
+        return evictions;
+    }
+
+    /**
+     * Gets the number of cached values.
+     *
+     * @return The number of values in the cache.
+     */
+    public long size() {
+        long size = 0;
+        for (CacheSegment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Gets the memory used by the cache.
+     *
+     * @return The estimated number of bytes used by the hash tables, the frequency sketches and the cached keys.
+     */
+    public long getEstimatedBytes() {
+        long bytes = 0;
+        for (CacheSegment segment : segments) {
+            bytes += segment.estimatedBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Removes every value from the cache and resets the statistics.
+     */
+    public void clear() {
+        for (CacheSegment segment : segments) {
+            segment.clear();
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    // Helper function to serialize the configuration of the cache instead of its content.
+    private Object writeReplace() {
+        return new SerializedForm(validator, maximumBytes);
+    }
+
+    // Helper function to reject streams that bypass the serialized form.
+    private void readObject(ObjectInputStream stream) throws InvalidObjectException {
+        throw new InvalidObjectException("A CachingValidator is deserialized from its serialized form");
+    }
+
+    // Helper function to hash a value, or return 0 if the value can't be cached.
+    private static long hash(CharSequence input, int from, int to) {
+        if (to - from > MAX_KEY_LENGTH) {
+            return 0;
+        }
+
+        long hash = 0xcbf29ce484222325L;
+        for (int i = from; i < to; i++) {
+            char c = input.charAt(i);
+            if (c > 0xFF) {
+                return 0;
+            }
+            hash = (hash ^ c) * 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash == 0 ? 1 : hash;
+    }
+
+    /**
+     * The serialized form of a CachingValidator: the wrapped validator and the memory limit, from which an empty cache is rebuilt.
+     */
+    private static final class SerializedForm implements Serializable {
+
+        private final Validator<String> validator;
+        private final long maximumBytes;
+
+        private SerializedForm(Validator<String> validator, long maximumBytes) {
+            this.validator = validator;
+            this.maximumBytes = maximumBytes;
+        }
+
+        private Object readResolve() {
+            return CachingValidator.of(validator, maximumBytes);
+        }
+
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.checkmate.validation.cache;
+
+/**
+ * <p>
+ * The FrequencySketch class estimates how often keys were seen recently, in a fixed amount of memory. <br>
+ * It is a count-min sketch of 4-bit counters, sixteen per {@code long}. Every key has one counter in each of four rows
+ * and its frequency is the smallest of them. Once the number of increments reaches ten times the number of counters
+ * per row, all counters are halved, so keys that stop showing up age out.
+ * </p>
+ * <p>
+ * This class is not thread-safe, it is always used under the lock of its {@link CacheSegment}.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+final class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final int COUNTERS_PER_ROW_PER_LONG = 16 / DEPTH;
+    private static final int MAX_COUNT = 15;
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+
+    private final long[] table;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * Constructs a sketch of the given size.
+     *
+     * @param size The number of {@code long}s of the sketch, a power of two.
+     */
+    FrequencySketch(int size) {
+        this.table = new long[size];
+        this.mask = size - 1;
+        this.sampleSize = 10 * COUNTERS_PER_ROW_PER_LONG * size;
+    }
+
+    /**
+     * Gets the estimated number of times the key was seen recently.
+     *
+     * @param hash The hash of the key.
+     * @return The estimated frequency, between 0 and 15.
+     */
+    int frequency(long hash) {
+        int frequency = MAX_COUNT;
+        for (int row = 0; row < DEPTH; row++) {
+            long rowHash = rehash(hash, row);
+            frequency = Math.min(frequency, (int) (table[index(rowHash)] >>> offset(rowHash, row)) & MAX_COUNT);
+        }
+        return frequency;
+    }
+
+    /**
+     * Records one more occurrence of the key.
+     *
+     * @param hash The hash of the key.
+     */
+    void increment(long hash) {
+        boolean added = false;
+        for (int row = 0; row < DEPTH; row++) {
+            long rowHash = rehash(hash, row);
+            int index = index(rowHash);
+            int offset = offset(rowHash, row);
+            if (((table[index] >>> offset) & MAX_COUNT) < MAX_COUNT) {
+                table[index] += 1L << offset;
+                added = true;
+            }
+        }
+
+        if (added && ++additions == sampleSize) {
+            reset();
+        }
+    }
+
+    // Helper function to halve every counter, so that old occurrences weigh less than recent ones.
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions /= 2;
+    }
+
+    // Helper function to derive an independent hash for every row of the sketch.
+    private static long rehash(long hash, int row) {
+        long h = (hash ^ SEEDS[row]) * 0x9e3779b97f4a7c15L;
+        return h ^ (h >>> 32);
+    }
+
+    // Helper function to get the word that holds the counter of a row.
+    private int index(long rowHash) {
+        return (int) rowHash & mask;
+    }
+
+    // Helper function to get the bit offset of the counter of a row inside its word; every row owns four of the sixteen counters.
+    private static int offset(long rowHash, int row) {
+        return ((row << 2) + (int) ((rowHash >>> 40) & 3)) << 2;
+    }
+
+}
@@ -0,0 +1,275 @@
+package com.checkmate.validation.credit_card;
+
+import com.checkmate.exceptions.credit_card.EmptyCreditCardException;
+import com.checkmate.exceptions.credit_card.NullCreditCardException;
+import com.checkmate.validation.ValidationResult;
+import com.checkmate.validation.Validator;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * <p>
+ * The CardBrandValidator class provides credit card number validations that, on top of the Luhn algorithm,
+ * require the number to start with the IIN of a known brand and to have a length that the brand issues.
+ * It also tells the brand of a card, e.g. to route a transaction.
+ * </p>
+ * <p>
+ * The brand, the length and the checksum are all checked in a single pass over the digits. Spaces and hyphens
+ * between the digits are ignored.
+ * </p>
+ *
+ * <pre>{@code
+ * String brand = CardBrandValidator.getInstance().getBrand("4111 1111 1111 1111"); // Visa
+ * }</pre>
+ *
+ * @since 1.2.0
+ */
+public final class CardBrandValidator implements Validator<String> {
+
+    private static final CardBrandValidator instance = new CardBrandValidator(IINRanges.getInstance());
+
+    private static final int MIN_CARD_NUMBER_LENGTH = 8;
+    private static final int MAX_CARD_NUMBER_LENGTH = 19;
+    private static final int[] DOUBLED = {0, 2, 4, 6, 8, 1, 3, 5, 7, 9};
+    private static final int INVALID_FORMAT = -1;
+    private static final int INVALID_LENGTH = -2;
+    private static final int INVALID_CHECKSUM = -3;
+
+    private final IINRanges ranges;
+
+    /**
+     * Private constructor for the CardBrandValidator class
+     */
+    private CardBrandValidator(IINRanges ranges) {
+        this.ranges = ranges;
+    }
+
+    /**
+     * Gets the singleton instance of the CardBrandValidator that uses the bundled IIN ranges.
+     *
+     * @return The singleton instance of the CardBrandValidator.
+     */
+    public static CardBrandValidator getInstance() {
+        return instance;
+    }
+
+    /**
+     * Creates a CardBrandValidator that uses the given IIN ranges, e.g. ranges loaded from a local file.
+     *
+     * @param ranges The IIN ranges of the brands.
+     * @return A CardBrandValidator backed by the given ranges.
+     */
+    public static CardBrandValidator of(IINRanges ranges) {
+        return new CardBrandValidator(Objects.requireNonNull(ranges, "The ranges cannot be null"));
+    }
+
+    /**
+     * Checks if the credit card number belongs to a known brand, has a length of that brand and a valid checksum.
+     *
+     * @param number The credit card number to validate.
+     * @return {@code true} if the credit card number is valid, {@code false} otherwise.
+     * @throws NullCreditCardException  if the credit card number is null.
+     * @throws EmptyCreditCardException if the credit card number is an empty string.
+     */
+    @Override
+    public boolean isValid(String number) {
+        if (isNullOrEmpty(number)) {
+            return false;
+        }
+
+        return scan(number, 0, number.length()) >= 0;
+    }
+
+    /**
+     * Checks if the credit card number in the given range of a character sequence belongs to a known brand,
+     * has a length of that brand and a valid checksum.
+     *
+     * @param number The character sequence that contains the credit card number.
+     * @param from   The index of the first character of the credit card number (inclusive).
+     * @param to     The index of the last character of the credit card number (exclusive).
+     * @return {@code true} if the credit card number is valid, {@code false} otherwise.
+     * @throws NullCreditCardException   if the credit card number is null.
+     * @throws EmptyCreditCardException  if the credit card number is an empty string.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     */
+    @Override
+    public boolean isValid(CharSequence number, int from, int to) {
+        if (isNullOrEmpty(number, from, to)) {
+            return false;
+        }
+
+        return scan(number, from, to) >= 0;
+    }
+
+    /**
+     * Checks the credit card number in the given range of a character sequence, without throwing an exception if it is missing.
+     *
+     * @param number The character sequence that contains the credit card number, can be {@code null}.
+     * @param from   The index of the first character of the credit card number (inclusive).
+     * @param to     The index of the last character of the credit card number (exclusive).
+     * @return The outcome of the validation, {@link ValidationResult#BAD_FORMAT} if the number doesn't belong to a known brand
+     * and {@link ValidationResult#BAD_LENGTH} if its brand doesn't issue numbers of its length.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     */
+    @Override
+    public ValidationResult check(CharSequence number, int from, int to) {
+        if (number == null) {
+            return ValidationResult.NULL;
+        }
+        Objects.checkFromToIndex(from, to, number.length());
+        if (isBlank(number, from, to)) {
+            return ValidationResult.EMPTY;
+        }
+
+        int result = scan(number, from, to);
+        return switch (result) {
+            case INVALID_FORMAT -> ValidationResult.BAD_FORMAT;
+            case INVALID_LENGTH -> ValidationResult.BAD_LENGTH;
+            case INVALID_CHECKSUM -> ValidationResult.BAD_CHECKSUM;
+            default -> ValidationResult.VALID;
+        };
+    }
+
+    /**
+     * Gets the brand of a valid credit card number.
+     *
+     * @param number The credit card number, can be {@code null}.
+     * @return The brand of the card, or {@code null} if the number is missing or invalid.
+     */
+    public String getBrand(CharSequence number) {
+        return number == null ? null : getBrand(number, 0, number.length());
+    }
+
+    /**
+     * Gets the brand of the valid credit card number in the given range of a character sequence.
+     *
+     * @param number The character sequence that contains the credit card number.
+     * @param from   The index of the first character of the credit card number (inclusive).
+     * @param to     The index of the last character of the credit card number (exclusive).
+     * @return The brand of the card, or {@code null} if the number is invalid.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     */
+    public String getBrand(CharSequence number, int from, int to) {
+        Objects.checkFromToIndex(from, to, number.length());
+        int result = scan(number, from, to);
+        return result >= 0 ? ranges.brandOf(result) : null;
+    }
+
+    /**
+     * Checks if the credit card number is null or an empty string.
+     *
+     * @param number The credit card number to check.
+     * @return {@code false} if the credit card number is neither null nor empty.
+     * @throws NullCreditCardException  if the credit card number is null.
+     * @throws EmptyCreditCardException if the credit card number is an empty string.
+     */
+    @Override
+    public boolean isNullOrEmpty(String number) {
+        return CreditCardValidator.getInstance().isNullOrEmpty(number);
+    }
+
+    // Helper function to check if the characters in the given range are null or blank.
+    private boolean isNullOrEmpty(CharSequence number, int from, int to) {
+        if (number == null) {
+            throw new NullCreditCardException("The credit card number cannot be null");
+        }
+        Objects.checkFromToIndex(from, to, number.length());
+        if (!isBlank(number, from, to)) {
+            return false;
+        }
+        throw new EmptyCreditCardException("The credit card cannot be an empty string");
+    }
+
+    // Helper function to check if the characters in the given range contain only whitespace.
+    private static boolean isBlank(CharSequence number, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (number.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Helper function to read the digits of a card number once, collecting its IIN and its Luhn sum.
+     * The Luhn algorithm doubles every second digit from the right, which is only known at the end,
+     * so the sums for both parities are kept. Returns the index of the IIN range of a valid number,
+     * or one of the negative INVALID_* codes that tells why it is invalid.
+     */
+    private int scan(CharSequence number, int from, int to) {
+        long iin = 0;
+        int digits = 0;
+        int evenSum = 0;
+        int oddSum = 0;
+
+        for (int i = from; i < to; i++) {
+            char c = number.charAt(i);
+            if (c == ' ' || c == '-') {
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                return INVALID_FORMAT;
+            }
+
+            int digit = c - '0';
+            if (digits < IINRanges.IIN_LENGTH) {
+                iin = iin * 10 + digit;
+            }
+            if ((digits & 1) == 0) {
+                evenSum += DOUBLED[digit];
+                oddSum += digit;
+            } else {
+                evenSum += digit;
+                oddSum += DOUBLED[digit];
+            }
+            digits++;
+        }
+
+        if (digits < MIN_CARD_NUMBER_LENGTH || digits > MAX_CARD_NUMBER_LENGTH) {
+            return INVALID_LENGTH;
+        }
+
+        int index = ranges.find(iin);
+        if (index < 0) {
+            return INVALID_FORMAT;
+        }
+        if (!ranges.allowsLength(index, digits)) {
+            return INVALID_LENGTH;
+        }
+
+        // With an even number of digits the first digit is doubled, with an odd number the second one
+        int sum = (digits & 1) == 0 ? evenSum : oddSum;
+        return sum % 10 == 0 ? index : INVALID_CHECKSUM;
+    }
+
+    // Helper function to serialize the ranges only when they are not the bundled ones.
+    private Object writeReplace() {
+        return new SerializedForm(this == instance ? null : ranges);
+    }
+
+    // Helper function to reject streams that bypass the serialized form.
+    private void readObject(ObjectInputStream stream) throws InvalidObjectException {
+        throw new InvalidObjectException("A CardBrandValidator is deserialized from its serialized form");
+    }
+
+    /**
+     * The serialized form of a CardBrandValidator: its IIN ranges, or none for the singleton, which stays the singleton when deserialized.
+     */
+    private static final class SerializedForm implements Serializable {
+
+        private final IINRanges ranges;
+
+        private SerializedForm(IINRanges ranges) {
+            this.ranges = ranges;
+        }
+
+        private Object readResolve() {
+            return ranges == null ? getInstance() : of(ranges);
+        }
+
+    }
+
+}
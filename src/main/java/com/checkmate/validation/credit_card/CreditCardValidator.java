@@ -3,8 +3,11 @@ package com.checkmate.validation.credit_card;
 import com.checkmate.checksum.CreditCardChecksum;
 import com.checkmate.exceptions.credit_card.EmptyCreditCardException;
 import com.checkmate.exceptions.credit_card.NullCreditCardException;
+import com.checkmate.validation.ValidationResult;
 import com.checkmate.validation.Validator;
 
+import java.util.Objects;
+
 /**
  * The CreditCardValidator class provides credit card number validations using the Luhn algorithm.
  *
@@ -12,14 +15,17 @@ import com.checkmate.validation.Validator;
  */
 public class CreditCardValidator implements Validator<String> {
 
-    private static final CreditCardValidator instance = new CreditCardValidator();
+    private static final CreditCardValidator instance = new CreditCardValidator(false);
+    private static final CreditCardValidator stacklessInstance = new CreditCardValidator(true);
+    private final boolean stackless;
     private static final int MIN_CARD_NUMBER_LENGTH = 8;
     private static final int MAX_CARD_NUMBER_LENGTH = 19;
 
     /**
      * Private constructor for the CreditCardValidator class
      */
-    private CreditCardValidator() {
+    private CreditCardValidator(boolean stackless) {
+        this.stackless = stackless;
     }
 
     /**
@@ -31,6 +37,17 @@ public class CreditCardValidator implements Validator<String> {
         return instance;
     }
 
+    /**
+     * Gets the instance of the CreditCardValidator that throws shared exceptions without a stack trace for null and empty values,
+     * for callers that expect many missing values and don't need to know where they were found.
+     *
+     * @return The stackless instance of the CreditCardValidator.
+     * @since 1.2.0
+     */
+    public static CreditCardValidator getStacklessInstance() {
+        return stacklessInstance;
+    }
+
     /**
      * Checks if the credit card number is valid.
      *
@@ -42,13 +59,55 @@ public class CreditCardValidator implements Validator<String> {
      */
     @Override
     public boolean isValid(String number) {
+        if (isNullOrEmpty(number)) {
+            return false;
+        }
+
+        return verify(number, 0, number.length()) == ValidationResult.VALID;
+    }
 
-        if (number.length() < MIN_CARD_NUMBER_LENGTH || number.length() > MAX_CARD_NUMBER_LENGTH) {
+    /**
+     * Checks if the credit card number in the given range of a character sequence is valid.
+     *
+     * @param number The character sequence that contains the credit card number.
+     * @param from   The index of the first character of the credit card number (inclusive).
+     * @param to     The index of the last character of the credit card number (exclusive).
+     * @return {@code true} if the credit card number is valid, {@code false} otherwise.
+     * @throws NullCreditCardException   if the credit card number is null.
+     * @throws EmptyCreditCardException  if the credit card number is an empty string.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     * @since 1.2.0
+     */
+    @Override
+    public boolean isValid(CharSequence number, int from, int to) {
+        if (isNullOrEmpty(number, from, to)) {
             return false;
         }
 
-        String cleanNumber = number.replaceAll("[^0-9]", "");
-        return CreditCardChecksum.getInstance().isValid(cleanNumber);
+        return verify(number, from, to) == ValidationResult.VALID;
+    }
+
+    /**
+     * Checks if the credit card number in the given range of a character sequence is valid, without throwing an exception if it is missing.
+     *
+     * @param number The character sequence that contains the credit card number, can be {@code null}.
+     * @param from   The index of the first character of the credit card number (inclusive).
+     * @param to     The index of the last character of the credit card number (exclusive).
+     * @return The outcome of the validation.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     * @since 1.2.0
+     */
+    @Override
+    public ValidationResult check(CharSequence number, int from, int to) {
+        if (number == null) {
+            return ValidationResult.NULL;
+        }
+        Objects.checkFromToIndex(from, to, number.length());
+        if (isBlank(number, from, to)) {
+            return ValidationResult.EMPTY;
+        }
+
+        return verify(number, from, to);
     }
 
     /**
@@ -63,12 +122,67 @@ public class CreditCardValidator implements Validator<String> {
     @Override
     public boolean isNullOrEmpty(String number) {
         if (number == null) {
-            throw new NullCreditCardException("The credit card number cannot be null");
+            throw nullException();
         }
         if (number.trim().isEmpty()) {
-            throw new EmptyCreditCardException("The credit card cannot be an empty string");
+            throw emptyException();
         }
         return false;
     }
 
-}
\ No newline at end of file
+    // Helper function to check if the characters in the given range are null or blank.
+    private boolean isNullOrEmpty(CharSequence number, int from, int to) {
+        if (number == null) {
+            throw nullException();
+        }
+        Objects.checkFromToIndex(from, to, number.length());
+        if (!isBlank(number, from, to)) {
+            return false;
+        }
+        throw emptyException();
+    }
+
+    // Helper function to check if the characters in the given range contain only whitespace.
+    private static boolean isBlank(CharSequence number, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (number.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Helper function to check the length, the characters and the checksum of a credit card number.
+    private ValidationResult verify(CharSequence number, int from, int to) {
+        if (to - from < MIN_CARD_NUMBER_LENGTH || to - from > MAX_CARD_NUMBER_LENGTH) {
+            return ValidationResult.BAD_LENGTH;
+        }
+
+        if (CreditCardChecksum.getInstance().isValid(number, from, to)) {
+            return ValidationResult.VALID;
+        }
+        return isWellFormed(number, from, to) ? ValidationResult.BAD_CHECKSUM : ValidationResult.BAD_FORMAT;
+    }
+
+    // Helper function to check if a credit card number contains only digits, spaces and hyphens.
+    private static boolean isWellFormed(CharSequence number, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = number.charAt(i);
+            if ((c < '0' || c > '9') && c != ' ' && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Helper function to create the exception thrown for a null credit card number.
+    private NullCreditCardException nullException() {
+        return stackless ? NullCreditCardException.STACKLESS : new NullCreditCardException("The credit card number cannot be null");
+    }
+
+    // Helper function to create the exception thrown for an empty credit card number.
+    private EmptyCreditCardException emptyException() {
+        return stackless ? EmptyCreditCardException.STACKLESS : new EmptyCreditCardException("The credit card cannot be an empty string");
+    }
+
+}
@@ -0,0 +1,265 @@
+package com.checkmate.validation.credit_card;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ * The IINRanges class maps issuer identification numbers (IINs), the leading digits of a card number,
+ * to card brands and the card number lengths that each brand issues.
+ * </p>
+ * <p>
+ * The ranges are compiled into a sorted array of disjoint intervals over the first eight digits of the card number,
+ * so finding the brand of a card is a binary search over primitive arrays that allocates nothing.
+ * The ranges of the major brands are bundled with the library. Issuers change often, so an up-to-date table can be
+ * loaded from a local file with {@link #load(Path)}. Every line of the file has the form
+ * {@code <brand>;<prefixes>;<lengths>}, e.g. {@code Mastercard;51-55,2221-2720;16}.
+ * Empty lines and lines starting with {@code #} are ignored.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class IINRanges implements Serializable {
+
+    /**
+     * The number of leading digits of a card number that the ranges are compared with.
+     */
+    public static final int IIN_LENGTH = 8;
+
+    private static final String RESOURCE = "iin-ranges.txt";
+    private static final int MAX_LENGTH = 19;
+    private static final long[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000};
+
+    private final long[] starts;
+    private final long[] ends;
+    private final int[] lengths;
+    private final String[] brands;
+
+    /**
+     * Private constructor for the IINRanges class
+     */
+    private IINRanges(List<Interval> intervals) {
+        this.starts = new long[intervals.size()];
+        this.ends = new long[intervals.size()];
+        this.lengths = new int[intervals.size()];
+        this.brands = new String[intervals.size()];
+
+        for (int i = 0; i < intervals.size(); i++) {
+            Interval interval = intervals.get(i);
+            starts[i] = interval.start;
+            ends[i] = interval.end;
+            lengths[i] = interval.lengths;
+            brands[i] = interval.brand;
+        }
+    }
+
+    /**
+     * Gets the ranges of the major card brands bundled with the library.
+     *
+     * @return The bundled ranges.
+     */
+    public static IINRanges getInstance() {
+        return Bundled.INSTANCE;
+    }
+
+    /**
+     * Reads the ranges of an IIN range file.
+     *
+     * @param file The path of the range file.
+     * @return The ranges of the file.
+     * @throws IOException if the file can't be read or isn't a valid range file.
+     */
+    public static IINRanges load(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return load(in);
+        }
+    }
+
+    /**
+     * Reads the ranges of an IIN range file. The stream is not closed.
+     *
+     * @param ranges The content of the range file, in UTF-8.
+     * @return The ranges of the file.
+     * @throws IOException if the stream can't be read or isn't a valid range file.
+     */
+    public static IINRanges load(InputStream ranges) throws IOException {
+        Objects.requireNonNull(ranges, "The ranges cannot be null");
+        BufferedReader reader = new BufferedReader(new InputStreamReader(ranges, StandardCharsets.UTF_8));
+        List<Interval> intervals = new ArrayList<>();
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            try {
+                parse(line, intervals);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Invalid IIN range on line " + lineNumber + ": " + line, e);
+            }
+        }
+
+        intervals.sort(Comparator.comparingLong(interval -> interval.start));
+        for (int i = 1; i < intervals.size(); i++) {
+            if (intervals.get(i).start <= intervals.get(i - 1).end) {
+                throw new IOException("The IIN ranges of " + intervals.get(i - 1).brand + " and "
+                        + intervals.get(i).brand + " overlap");
+            }
+        }
+        return new IINRanges(intervals);
+    }
+
+    /**
+     * Gets the brand of the card whose number starts with the given digits, without checking its length or checksum.
+     *
+     * @param iin The leading digits of the card number, at least as many as the longest prefix of its brand.
+     * @return The brand of the card, or {@code null} if the digits don't belong to a known range.
+     */
+    public String getBrand(CharSequence iin) {
+        long value = 0;
+        int digits = 0;
+        for (int i = 0; i < iin.length() && digits < IIN_LENGTH; i++) {
+            char c = iin.charAt(i);
+            if (c == ' ' || c == '-') {
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                return null;
+            }
+            value = value * 10 + (c - '0');
+            digits++;
+        }
+
+        if (digits == 0) {
+            return null;
+        }
+
+        // The digits stand for every IIN that starts with them, which must all belong to the same range
+        long scale = POWERS_OF_TEN[IIN_LENGTH - digits];
+        int index = find(value * scale);
+        return index >= 0 && ends[index] >= value * scale + scale - 1 ? brands[index] : null;
+    }
+
+    /**
+     * Finds the range that contains the given IIN.
+     *
+     * @param iin The first eight digits of a card number.
+     * @return The index of the range, or -1 if the IIN doesn't belong to a known range.
+     */
+    int find(long iin) {
+        int low = 0;
+        int high = starts.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (starts[middle] <= iin) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high >= 0 && iin <= ends[high] ? high : -1;
+    }
+
+    /**
+     * Gets the brand of a range.
+     *
+     * @param index The index of the range returned by {@link #find(long)}.
+     * @return The brand of the range.
+     */
+    String brandOf(int index) {
+        return brands[index];
+    }
+
+    /**
+     * Checks if the brand of a range issues card numbers of the given length.
+     *
+     * @param index  The index of the range returned by {@link #find(long)}.
+     * @param length The number of digits of the card number.
+     * @return {@code true} if the length is allowed, {@code false} otherwise.
+     */
+    boolean allowsLength(int index, int length) {
+        return length <= MAX_LENGTH && (lengths[index] & 1 << length) != 0;
+    }
+
+    // Helper function to compile a line of a range file into intervals.
+    private static void parse(String line, List<Interval> intervals) {
+        String[] columns = line.split(";", -1);
+        if (columns.length != 3 || columns[0].isBlank()) {
+            throw new IllegalArgumentException("Expected <brand>;<prefixes>;<lengths>");
+        }
+
+        String brand = columns[0].strip().intern();
+        int lengths = 0;
+        for (String length : columns[2].split(",")) {
+            int[] bounds = bounds(length, MAX_LENGTH);
+            for (int i = bounds[0]; i <= bounds[1]; i++) {
+                lengths |= 1 << i;
+            }
+        }
+
+        for (String prefix : columns[1].split(",")) {
+            String[] parts = prefix.strip().split("-", 2);
+            int digits = parts[0].length();
+            if (digits == 0 || digits > IIN_LENGTH || parts.length == 2 && parts[1].length() != digits) {
+                throw new IllegalArgumentException("Invalid prefix " + prefix);
+            }
+
+            int[] bounds = bounds(prefix, (int) POWERS_OF_TEN[digits] - 1);
+            long scale = POWERS_OF_TEN[IIN_LENGTH - digits];
+            intervals.add(new Interval(bounds[0] * scale, (bounds[1] + 1) * scale - 1, lengths, brand));
+        }
+    }
+
+    // Helper function to parse a single number or a range of numbers, e.g. "16" or "16-19".
+    private static int[] bounds(String range, int max) {
+        String[] parts = range.strip().split("-", 2);
+        int low = Integer.parseInt(parts[0]);
+        int high = parts.length == 2 ? Integer.parseInt(parts[1]) : low;
+        if (low < 0 || low > high || high > max) {
+            throw new IllegalArgumentException("Invalid range " + range);
+        }
+        return new int[]{low, high};
+    }
+
+    /**
+     * A range of IINs of a brand, as an interval over the first eight digits of the card number.
+     */
+    private record Interval(long start, long end, int lengths, String brand) {
+    }
+
+    /**
+     * Holder of the bundled ranges, read the first time they are needed.
+     */
+    private static final class Bundled {
+
+        private static final IINRanges INSTANCE = loadBundled();
+
+        // Helper function to read the range file bundled next to this class.
+        private static IINRanges loadBundled() {
+            try (InputStream in = IINRanges.class.getResourceAsStream(RESOURCE)) {
+                if (in == null) {
+                    throw new IllegalStateException("The bundled " + RESOURCE + " is missing");
+                }
+                return load(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+    }
+
+}
@@ -3,19 +3,29 @@ package com.checkmate.validation.email;
 
 import com.checkmate.exceptions.email.EmptyEmailException;
 import com.checkmate.exceptions.email.NullEmailException;
+import com.checkmate.validation.ValidationResult;
 import com.checkmate.validation.Validator;
 
-import java.util.regex.Pattern;
+import java.util.Objects;
 
 /**
  * The EmailValidator class provides email validations
  *
+ * <p>
+ * An email address is valid if it has a non-empty local part without line breaks, followed by an {@code @},
+ * a non-empty domain label without dots, a dot and a non-empty remainder without whitespace.
+ * The address may not be longer than 254 characters and its local part may not be longer than 64 characters,
+ * as required by RFC 5321. Addresses are checked in a single pass over their characters, without allocating anything.
+ * </p>
+ *
  * @since 1.1.0
  */
 public class EmailValidator implements Validator<String> {
-    private static final EmailValidator instance = new EmailValidator();
-    private static final String EMAIL_REGEX = "^(.+)@([^.]+)\\.(\\S+)$";
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL_REGEX);
+    private static final EmailValidator instance = new EmailValidator(false);
+    private static final EmailValidator stacklessInstance = new EmailValidator(true);
+    private final boolean stackless;
+    private static final int MAX_LENGTH = 254;
+    private static final int MAX_LOCAL_PART_LENGTH = 64;
 
     /**
      * Gets the singleton instance of the EmailValidator.
@@ -27,10 +37,21 @@ public class EmailValidator implements Validator<String> {
     }
 
     /**
-     * Private constructor for the EmailValidator class
+     * Gets the instance of the EmailValidator that throws shared exceptions without a stack trace for null and empty values,
+     * for callers that expect many missing values and don't need to know where they were found.
+     *
+     * @return The stackless instance of the EmailValidator.
+     * @since 1.2.0
      */
-    private EmailValidator() {
+    public static EmailValidator getStacklessInstance() {
+        return stacklessInstance;
+    }
 
+    /**
+     * Private constructor for the EmailValidator class
+     */
+    private EmailValidator(boolean stackless) {
+        this.stackless = stackless;
     }
 
     /**
@@ -48,7 +69,51 @@ public class EmailValidator implements Validator<String> {
             return false;
         }
 
-        return EMAIL_PATTERN.matcher(email).matches();
+        return verify(email, 0, email.length()) == ValidationResult.VALID;
+    }
+
+    /**
+     * Checks if the email address in the given range of a character sequence is valid.
+     *
+     * @param email The character sequence that contains the email address.
+     * @param from  The index of the first character of the email address (inclusive).
+     * @param to    The index of the last character of the email address (exclusive).
+     * @return {@code true} if the email address is valid, {@code false} otherwise.
+     * @throws NullEmailException        if the email is null.
+     * @throws EmptyEmailException       if the email is an empty string.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     * @since 1.2.0
+     */
+    @Override
+    public boolean isValid(CharSequence email, int from, int to) {
+        if (isNullOrEmpty(email, from, to)) {
+            return false;
+        }
+
+        return verify(email, from, to) == ValidationResult.VALID;
+    }
+
+    /**
+     * Checks if the email address in the given range of a character sequence is valid, without throwing an exception if it is missing.
+     *
+     * @param email The character sequence that contains the email address, can be {@code null}.
+     * @param from  The index of the first character of the email address (inclusive).
+     * @param to    The index of the last character of the email address (exclusive).
+     * @return The outcome of the validation.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     * @since 1.2.0
+     */
+    @Override
+    public ValidationResult check(CharSequence email, int from, int to) {
+        if (email == null) {
+            return ValidationResult.NULL;
+        }
+        Objects.checkFromToIndex(from, to, email.length());
+        if (isBlank(email, from, to)) {
+            return ValidationResult.EMPTY;
+        }
+
+        return verify(email, from, to);
     }
 
     /**
@@ -63,12 +128,91 @@ public class EmailValidator implements Validator<String> {
     @Override
     public boolean isNullOrEmpty(String email) {
         if (email == null) {
-            throw new NullEmailException("Email cannot be null");
+            throw nullException();
         }
         if (email.trim().isEmpty()) {
-            throw new EmptyEmailException("Email cannot be an empty string");
+            throw emptyException();
         }
         return false;
     }
 
-}
\ No newline at end of file
+    // Helper function to check if the characters in the given range are null or blank.
+    private boolean isNullOrEmpty(CharSequence email, int from, int to) {
+        if (email == null) {
+            throw nullException();
+        }
+        Objects.checkFromToIndex(from, to, email.length());
+        if (!isBlank(email, from, to)) {
+            return false;
+        }
+        throw emptyException();
+    }
+
+    // Helper function to check if the characters in the given range contain only whitespace.
+    private static boolean isBlank(CharSequence email, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (email.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Helper function to check the length and the structure of an email address in a single pass.
+    private ValidationResult verify(CharSequence email, int from, int to) {
+        if (to - from > MAX_LENGTH) {
+            return ValidationResult.BAD_LENGTH;
+        }
+
+        int localPartEnd = Math.min(to, from + MAX_LOCAL_PART_LENGTH);
+        int at = -1;
+        int dot = -1;
+        int whitespace = -1;
+
+        for (int i = from; i < to; i++) {
+            char c = email.charAt(i);
+            if (c == '@') {
+                // The first usable @ after the last dot, the local part before it can't be empty, too long or contain line breaks
+                if (at < 0 && i > from && i <= localPartEnd) {
+                    at = i;
+                }
+            } else if (c == '.') {
+                // The domain label between the @ and this dot can't be empty and the remainder after it can't be empty
+                if (at >= 0 && at < i - 1 && i < to - 1) {
+                    dot = i;
+                }
+                at = -1;
+            } else if (isWhitespace(c)) {
+                whitespace = i;
+                if (isLineTerminator(c)) {
+                    localPartEnd = Math.min(localPartEnd, i);
+                }
+            } else if (isLineTerminator(c)) {
+                localPartEnd = Math.min(localPartEnd, i);
+            }
+        }
+
+        return dot >= 0 && whitespace < dot ? ValidationResult.VALID : ValidationResult.BAD_FORMAT;
+    }
+
+    // Helper function to check if a character is whitespace, as in the \s class of regular expressions.
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
+    // Helper function to check if a character ends a line, as in the . class of regular expressions.
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    // Helper function to create the exception thrown for a null email address.
+    private NullEmailException nullException() {
+        return stackless ? NullEmailException.STACKLESS : new NullEmailException("Email cannot be null");
+    }
+
+    // Helper function to create the exception thrown for an empty email address.
+    private EmptyEmailException emptyException() {
+        return stackless ? EmptyEmailException.STACKLESS : new EmptyEmailException("Email cannot be an empty string");
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.checkmate.validation.file;
+
+/**
+ * The FileValidationSummary class holds the totals of a file validated by a {@link FileValidator}.
+ *
+ * @since 1.2.0
+ */
+public final class FileValidationSummary {
+
+    private final long lines;
+    private final long validLines;
+
+    /**
+     * Package-private constructor for the FileValidationSummary class
+     */
+    FileValidationSummary(long lines, long validLines) {
+        this.lines = lines;
+        this.validLines = validLines;
+    }
+
+    /**
+     * Gets the number of validated lines, not counting a skipped header.
+     *
+     * @return The number of validated lines.
+     */
+    public long getLines() {
+        return lines;
+    }
+
+    /**
+     * Gets the number of lines whose value is valid.
+     *
+     * @return The number of valid lines.
+     */
+    public long getValidLines() {
+        return validLines;
+    }
+
+    /**
+     * Gets the number of lines whose value is invalid or missing.
+     *
+     * @return The number of invalid lines.
+     */
+    public long getInvalidLines() {
+        return lines - validLines;
+    }
+
+    @Override
+    public String toString() {
+        return "FileValidationSummary{lines=" + lines + ", validLines=" + validLines + "}";
+    }
+
+}
@@ -0,0 +1,402 @@
+package com.checkmate.validation.file;
+
+import com.checkmate.validation.Validator;
+import com.checkmate.validation.bytes.AsciiCharSequence;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <p>
+ * The FileValidator class validates one value per line of large ASCII text files, such as newline-delimited lists
+ * or CSV exports, with any of the validators in this library.
+ * </p>
+ * <p>
+ * The file is memory-mapped in line-aligned chunks that are validated in parallel straight from the mapped bytes,
+ * without decoding them into {@link String}s. The results are reported line by line, in file order, on the calling thread.
+ * At most {@link Builder#maxChunksInFlight(int)} chunks are mapped at the same time, so the memory used does not depend
+ * on the size of the file.
+ * </p>
+ * <p>
+ * Lines may end with {@code \n} or {@code \r\n}. Fields are split on the delimiter and a field wrapped in double quotes
+ * is validated without them; delimiters inside quoted fields are not supported.
+ * A line with a missing, empty or blank field is reported as invalid.
+ * </p>
+ *
+ * <pre>{@code
+ * FileValidator validator = FileValidator.builder(IBANValidator.getInstance())
+ *         .column(3)
+ *         .skipHeader(true)
+ *         .build();
+ * FileValidationSummary summary = validator.validate(path, (line, valid) -> {
+ *     if (!valid) {
+ *         rejected.add(line);
+ *     }
+ * });
+ * }</pre>
+ *
+ * @since 1.2.0
+ */
+public final class FileValidator {
+
+    private static final byte NEW_LINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte QUOTE = '"';
+
+    private final Validator<?> validator;
+    private final int column;
+    private final byte delimiter;
+    private final boolean skipHeader;
+    private final int chunkSize;
+    private final int maxChunksInFlight;
+    private final Executor executor;
+
+    /**
+     * Private constructor for the FileValidator class
+     */
+    private FileValidator(Builder builder) {
+        this.validator = builder.validator;
+        this.column = builder.column;
+        this.delimiter = builder.delimiter;
+        this.skipHeader = builder.skipHeader;
+        this.chunkSize = builder.chunkSize;
+        this.maxChunksInFlight = builder.maxChunksInFlight;
+        this.executor = builder.executor;
+    }
+
+    /**
+     * Creates a builder for a FileValidator that validates values with the given validator.
+     *
+     * @param validator The validator used for the value of every line.
+     * @return A new builder.
+     */
+    public static Builder builder(Validator<?> validator) {
+        return new Builder(validator);
+    }
+
+    /**
+     * Validates every line of the given file.
+     *
+     * @param file The file to validate.
+     * @return The totals of the validated file.
+     * @throws IOException if the file cannot be read or contains a line longer than 2 GB.
+     */
+    public FileValidationSummary validate(Path file) throws IOException {
+        return validate(file, (line, valid) -> {
+        });
+    }
+
+    /**
+     * Validates every line of the given file and reports the result of each line, in file order.
+     *
+     * @param file     The file to validate.
+     * @param consumer The consumer that receives the result of every line, on the calling thread.
+     * @return The totals of the validated file.
+     * @throws IOException if the file cannot be read or contains a line longer than 2 GB.
+     */
+    public FileValidationSummary validate(Path file, LineResultConsumer consumer) throws IOException {
+        Objects.requireNonNull(consumer, "The consumer cannot be null");
+
+        Deque<CompletableFuture<ChunkResult>> pending = new ArrayDeque<>();
+        long lineNumber = skipHeader ? 2 : 1;
+        long lines = 0;
+        long validLines = 0;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+
+            while (position < size) {
+                MappedByteBuffer chunk = mapChunk(channel, position, size);
+                boolean first = position == 0;
+                position += chunk.limit();
+                pending.add(CompletableFuture.supplyAsync(() -> validateChunk(chunk, first && skipHeader), executor));
+
+                while (pending.size() >= maxChunksInFlight || (position >= size && !pending.isEmpty())) {
+                    ChunkResult result = await(pending.poll());
+                    for (int i = 0; i < result.lines; i++) {
+                        consumer.accept(lineNumber++, result.valid.get(i));
+                    }
+                    lines += result.lines;
+                    validLines += result.valid.cardinality();
+                }
+            }
+        } finally {
+            pending.forEach(future -> future.cancel(false));
+        }
+
+        return new FileValidationSummary(lines, validLines);
+    }
+
+    // Helper function to map the next chunk of the file, extended or trimmed so that it ends with a whole line.
+    private MappedByteBuffer mapChunk(FileChannel channel, long position, long size) throws IOException {
+        long length = Math.min(chunkSize, size - position);
+
+        while (true) {
+            MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            if (position + length == size) {
+                return chunk;
+            }
+
+            int end = lastIndexOf(chunk, NEW_LINE);
+            if (end >= 0) {
+                chunk.limit(end + 1);
+                return chunk;
+            }
+
+            if (length == Integer.MAX_VALUE) {
+                throw new IOException("The file contains a line longer than " + Integer.MAX_VALUE + " bytes");
+            }
+            length = Math.min(Math.min(length * 2, Integer.MAX_VALUE), size - position);
+        }
+    }
+
+    // Helper function to validate every line of a chunk.
+    private ChunkResult validateChunk(ByteBuffer chunk, boolean skipFirstLine) {
+        AsciiCharSequence chars = AsciiCharSequence.of(chunk);
+        int limit = chunk.limit();
+        BitSet valid = new BitSet();
+        int lines = 0;
+        int start = 0;
+
+        if (skipFirstLine) {
+            int end = indexOf(chunk, NEW_LINE, 0, limit);
+            start = end < 0 ? limit : end + 1;
+        }
+
+        while (start < limit) {
+            int end = indexOf(chunk, NEW_LINE, start, limit);
+            if (end < 0) {
+                end = limit;
+            }
+            int lineEnd = end > start && chunk.get(end - 1) == CARRIAGE_RETURN ? end - 1 : end;
+
+            if (isValidLine(chunk, chars, start, lineEnd)) {
+                valid.set(lines);
+            }
+            lines++;
+            start = end + 1;
+        }
+
+        return new ChunkResult(lines, valid);
+    }
+
+    // Helper function to find the value of a line and validate it.
+    private boolean isValidLine(ByteBuffer chunk, AsciiCharSequence chars, int start, int end) {
+        int from = start;
+        for (int i = 0; i < column; i++) {
+            int next = indexOf(chunk, delimiter, from, end);
+            if (next < 0) {
+                return false;
+            }
+            from = next + 1;
+        }
+
+        int to = indexOf(chunk, delimiter, from, end);
+        if (to < 0) {
+            to = end;
+        }
+        if (to - from >= 2 && chunk.get(from) == QUOTE && chunk.get(to - 1) == QUOTE) {
+            from++;
+            to--;
+        }
+
+        return validator.check(chars, from, to).isValid();
+    }
+
+    // Helper function to find the first occurrence of a byte in the given range.
+    private static int indexOf(ByteBuffer chunk, byte value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (chunk.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Helper function to find the last occurrence of a byte in a buffer.
+    private static int lastIndexOf(ByteBuffer chunk, byte value) {
+        for (int i = chunk.limit() - 1; i >= 0; i--) {
+            if (chunk.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Helper function to wait for the result of a chunk.
+    private static ChunkResult await(CompletableFuture<ChunkResult> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while validating the file");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * A consumer of the validation result of a single line.
+     */
+    @FunctionalInterface
+    public interface LineResultConsumer {
+
+        /**
+         * Receives the validation result of a single line.
+         *
+         * @param lineNumber The number of the line in the file, starting from 1.
+         * @param valid      {@code true} if the value of the line is valid, {@code false} otherwise.
+         */
+        void accept(long lineNumber, boolean valid);
+
+    }
+
+    /**
+     * The validation results of the lines of a single chunk.
+     */
+    private static final class ChunkResult {
+
+        private final int lines;
+        private final BitSet valid;
+
+        private ChunkResult(int lines, BitSet valid) {
+            this.lines = lines;
+            this.valid = valid;
+        }
+
+    }
+
+    /**
+     * The Builder class configures and creates {@link FileValidator}s.
+     */
+    public static final class Builder {
+
+        private static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+        private final Validator<?> validator;
+        private int column = 0;
+        private byte delimiter = ',';
+        private boolean skipHeader = false;
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+        private int maxChunksInFlight = 2 * Runtime.getRuntime().availableProcessors();
+        private Executor executor = ForkJoinPool.commonPool();
+
+        /**
+         * Private constructor for the Builder class
+         */
+        private Builder(Validator<?> validator) {
+            this.validator = Objects.requireNonNull(validator, "The validator cannot be null");
+        }
+
+        /**
+         * Sets the zero-based index of the field that is validated. Defaults to {@code 0}.
+         *
+         * @param column The index of the field.
+         * @return This builder.
+         */
+        public Builder column(int column) {
+            if (column < 0) {
+                throw new IllegalArgumentException("The column cannot be negative");
+            }
+            this.column = column;
+            return this;
+        }
+
+        /**
+         * Sets the ASCII character that separates the fields of a line. Defaults to {@code ','}.
+         *
+         * @param delimiter The field delimiter.
+         * @return This builder.
+         */
+        public Builder delimiter(char delimiter) {
+            if (delimiter > 0x7F || delimiter == NEW_LINE || delimiter == CARRIAGE_RETURN) {
+                throw new IllegalArgumentException("The delimiter must be an ASCII character other than a line break");
+            }
+            this.delimiter = (byte) delimiter;
+            return this;
+        }
+
+        /**
+         * Sets whether the first line of the file is a header that should not be validated. Defaults to {@code false}.
+         *
+         * @param skipHeader {@code true} to skip the first line.
+         * @return This builder.
+         */
+        public Builder skipHeader(boolean skipHeader) {
+            this.skipHeader = skipHeader;
+            return this;
+        }
+
+        /**
+         * Sets the number of bytes mapped per chunk. A chunk is extended when a single line is longer. Defaults to 8 MB.
+         *
+         * @param chunkSize The size of a chunk in bytes.
+         * @return This builder.
+         */
+        public Builder chunkSize(int chunkSize) {
+            if (chunkSize <= 0) {
+                throw new IllegalArgumentException("The chunk size must be positive");
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Sets how many chunks can be mapped and validated at the same time.
+         * Defaults to twice the number of available processors.
+         *
+         * @param maxChunksInFlight The maximum number of chunks in flight.
+         * @return This builder.
+         */
+        public Builder maxChunksInFlight(int maxChunksInFlight) {
+            if (maxChunksInFlight <= 0) {
+                throw new IllegalArgumentException("The number of chunks in flight must be positive");
+            }
+            this.maxChunksInFlight = maxChunksInFlight;
+            return this;
+        }
+
+        /**
+         * Sets the executor that validates the chunks. Defaults to the {@linkplain ForkJoinPool#commonPool() common pool}.
+         *
+         * @param executor The executor that validates the chunks.
+         * @return This builder.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "The executor cannot be null");
+            return this;
+        }
+
+        /**
+         * Creates a FileValidator with the current configuration.
+         *
+         * @return A new FileValidator.
+         */
+        public FileValidator build() {
+            return new FileValidator(this);
+        }
+
+    }
+
+}
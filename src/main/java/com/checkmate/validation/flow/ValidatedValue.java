@@ -0,0 +1,56 @@
+package com.checkmate.validation.flow;
+
+import com.checkmate.validation.ValidationResult;
+
+/**
+ * The ValidatedValue class holds a value together with the result of its validation by a {@link ValidationProcessor}.
+ *
+ * @param <T> The type of the value.
+ * @since 1.2.0
+ */
+public final class ValidatedValue<T extends CharSequence> {
+
+    private final T value;
+    private final ValidationResult result;
+
+    /**
+     * Package-private constructor for the ValidatedValue class
+     */
+    ValidatedValue(T value, ValidationResult result) {
+        this.value = value;
+        this.result = result;
+    }
+
+    /**
+     * Gets the validated value.
+     *
+     * @return The value, can be {@code null}.
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the result of the validation.
+     *
+     * @return The result of the validation.
+     */
+    public ValidationResult getResult() {
+        return result;
+    }
+
+    /**
+     * Checks if the value is valid.
+     *
+     * @return {@code true} if the value is valid, {@code false} otherwise.
+     */
+    public boolean isValid() {
+        return result.isValid();
+    }
+
+    @Override
+    public String toString() {
+        return "ValidatedValue{value=" + value + ", result=" + result + "}";
+    }
+
+}
@@ -0,0 +1,526 @@
+package com.checkmate.validation.flow;
+
+import com.checkmate.validation.ValidationResult;
+import com.checkmate.validation.Validator;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * The ValidationProcessor class is a {@link Flow.Processor} that validates the values of a reactive stream with any of
+ * the validators in this library and emits every value together with its {@link ValidationResult}.
+ * </p>
+ * <p>
+ * Values are never validated on the thread that delivers them. They are gathered into batches of at most
+ * {@link Builder#batchSize(int)} values, which are validated on the executor by up to {@link Builder#workers(int)}
+ * workers at the same time. A batch is handed to a worker as soon as one is idle, so batches stay small while the
+ * workers keep up with the stream and grow up to the batch size when they fall behind.
+ * </p>
+ * <p>
+ * At most {@link Builder#bufferSize(int)} values are requested from the upstream publisher ahead of the downstream
+ * subscriber, so a slow subscriber slows down the publisher instead of filling the memory.
+ * Results are emitted in the order of the values unless the processor is built with {@code ordered(false)},
+ * in which case the results of a batch are emitted as soon as it is validated.
+ * </p>
+ * <p>
+ * A ValidationProcessor subscribes to a single publisher and accepts a single subscriber, build one per stream.
+ * Errors, whether signalled by the publisher or thrown by the validator, are passed on to the subscriber as soon as
+ * they occur and the results that were not emitted yet are dropped.
+ * </p>
+ *
+ * <pre>{@code
+ * ValidationProcessor<String> processor = ValidationProcessor.builder(IBANValidator.getInstance())
+ *         .workers(4)
+ *         .build();
+ * publisher.subscribe(processor);
+ * processor.subscribe(subscriber);
+ * }</pre>
+ *
+ * @param <T> The type of the validated values.
+ * @since 1.2.0
+ */
+public final class ValidationProcessor<T extends CharSequence> implements Flow.Processor<T, ValidatedValue<T>> {
+
+    private static final Flow.Subscription CANCELLED = new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    };
+
+    private final Validator<?> validator;
+    private final int batchSize;
+    private final int workers;
+    private final boolean ordered;
+    private final int bufferSize;
+    private final Executor executor;
+
+    private final Object lock = new Object();
+    private final AtomicInteger drains = new AtomicInteger();
+    private final AtomicLong demand = new AtomicLong();
+    private volatile boolean subscribed;
+    private volatile boolean cancelled;
+
+    // Guarded by the lock
+    private Flow.Subscription upstream;
+    private Flow.Subscriber<? super ValidatedValue<T>> downstream;
+    private final ArrayDeque<Batch<T>> queued = new ArrayDeque<>();
+    private final Map<Long, Batch<T>> validated = new HashMap<>();
+    private final ArrayDeque<Batch<T>> ready = new ArrayDeque<>();
+    private Batch<T> filling;
+    private long nextSequence;
+    private long nextToEmit;
+    private int activeWorkers;
+    private boolean upstreamDone;
+    private Throwable error;
+
+    // Only accessed by the thread that drains the results
+    private Batch<T> emitting;
+    private int emitIndex;
+    private long unrequested;
+    private boolean terminated;
+
+    /**
+     * Private constructor for the ValidationProcessor class
+     */
+    private ValidationProcessor(Builder builder, int bufferSize) {
+        this.validator = builder.validator;
+        this.batchSize = builder.batchSize;
+        this.workers = builder.workers;
+        this.ordered = builder.ordered;
+        this.bufferSize = bufferSize;
+        this.executor = builder.executor;
+    }
+
+    /**
+     * Creates a builder for a ValidationProcessor that validates values with the given validator.
+     *
+     * @param validator The validator used for every value of the stream.
+     * @return A new builder.
+     */
+    public static Builder builder(Validator<?> validator) {
+        return new Builder(validator);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ValidatedValue<T>> subscriber) {
+        Objects.requireNonNull(subscriber, "The subscriber cannot be null");
+        boolean accepted;
+        synchronized (lock) {
+            accepted = downstream == null;
+            if (accepted) {
+                downstream = subscriber;
+            }
+        }
+
+        if (!accepted) {
+            subscriber.onSubscribe(CANCELLED);
+            subscriber.onError(new IllegalStateException("A ValidationProcessor accepts a single subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new Subscription());
+        subscribed = true;
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "The subscription cannot be null");
+        boolean accepted;
+        synchronized (lock) {
+            accepted = upstream == null && !cancelled;
+            if (accepted) {
+                upstream = subscription;
+            }
+        }
+
+        if (accepted) {
+            subscription.request(bufferSize);
+        } else {
+            subscription.cancel();
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        Objects.requireNonNull(item, "The item cannot be null");
+        Batch<T> batch;
+        synchronized (lock) {
+            if (upstreamDone) {
+                return;
+            }
+            if (filling == null) {
+                filling = new Batch<>(nextSequence++, batchSize);
+            }
+            filling.items[filling.size++] = item;
+            if (filling.size == batchSize) {
+                queued.add(filling);
+                filling = null;
+            }
+            batch = nextBatch();
+        }
+
+        if (batch != null) {
+            start(batch);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable, "The throwable cannot be null");
+        synchronized (lock) {
+            if (upstreamDone) {
+                return;
+            }
+            upstreamDone = true;
+            error = throwable;
+        }
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        synchronized (lock) {
+            upstreamDone = true;
+        }
+        drain();
+    }
+
+    // Helper function to take the next batch to validate if a worker is idle, the batch being filled is taken
+    // only when no full batch is waiting. Must be called while holding the lock.
+    private Batch<T> nextBatch() {
+        if (activeWorkers == workers || error != null) {
+            return null;
+        }
+        Batch<T> batch = queued.poll();
+        if (batch == null && filling != null) {
+            batch = filling;
+            filling = null;
+        }
+        if (batch != null) {
+            activeWorkers++;
+        }
+        return batch;
+    }
+
+    // Helper function to validate a batch on the executor.
+    private void start(Batch<T> batch) {
+        try {
+            executor.execute(() -> validate(batch));
+        } catch (RejectedExecutionException e) {
+            fail(e);
+        }
+    }
+
+    // Helper function to validate batches on a worker until no batch is waiting.
+    private void validate(Batch<T> first) {
+        Batch<T> batch = first;
+        while (batch != null) {
+            try {
+                for (int i = 0; i < batch.size; i++) {
+                    batch.results[i] = validator.check((CharSequence) batch.items[i]);
+                }
+            } catch (RuntimeException e) {
+                fail(e);
+                return;
+            }
+
+            synchronized (lock) {
+                activeWorkers--;
+                if (ordered) {
+                    validated.put(batch.sequence, batch);
+                    Batch<T> next;
+                    while ((next = validated.remove(nextToEmit)) != null) {
+                        ready.add(next);
+                        nextToEmit++;
+                    }
+                } else {
+                    ready.add(batch);
+                }
+                batch = nextBatch();
+            }
+            drain();
+        }
+    }
+
+    // Helper function to fail the stream and cancel the upstream subscription.
+    private void fail(Throwable throwable) {
+        Flow.Subscription subscription;
+        synchronized (lock) {
+            if (error == null) {
+                error = throwable;
+            }
+            upstreamDone = true;
+            subscription = upstream;
+        }
+        if (subscription != null) {
+            subscription.cancel();
+        }
+        drain();
+    }
+
+    // Helper function to emit the results on a single thread at a time, a thread that finds another one draining
+    // only makes it loop once more.
+    private void drain() {
+        if (drains.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        do {
+            if (cancelled) {
+                clear();
+            } else if (subscribed && !terminated) {
+                emit();
+            }
+            missed = drains.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    // Helper function to emit as many results as the subscriber requested and to pass on the end of the stream.
+    private void emit() {
+        Flow.Subscriber<? super ValidatedValue<T>> subscriber = downstream;
+        long requested = demand.get();
+        long emitted = 0;
+        while (!cancelled) {
+            Throwable failure;
+            boolean done;
+            synchronized (lock) {
+                failure = error;
+                if (emitting == null || emitIndex == emitting.size) {
+                    emitting = ready.poll();
+                    emitIndex = 0;
+                }
+                done = upstreamDone && emitting == null && activeWorkers == 0 && queued.isEmpty() && filling == null;
+            }
+
+            if (failure != null) {
+                terminated = true;
+                clear();
+                subscriber.onError(failure);
+                return;
+            }
+            if (emitting == null) {
+                if (done) {
+                    terminated = true;
+                    subscriber.onComplete();
+                }
+                break;
+            }
+            if (emitted == requested) {
+                break;
+            }
+
+            Batch<T> batch = emitting;
+            while (emitIndex < batch.size && emitted < requested && !cancelled) {
+                int i = emitIndex++;
+                @SuppressWarnings("unchecked")
+                T value = (T) batch.items[i];
+                subscriber.onNext(new ValidatedValue<>(value, batch.results[i]));
+                emitted++;
+            }
+        }
+
+        if (emitted > 0) {
+            if (requested != Long.MAX_VALUE) {
+                demand.addAndGet(-emitted);
+            }
+            replenish(emitted);
+        }
+    }
+
+    // Helper function to request as many values from the publisher as were emitted, once at least a batch worth.
+    private void replenish(long emitted) {
+        unrequested += emitted;
+        if (unrequested < batchSize) {
+            return;
+        }
+        Flow.Subscription subscription;
+        synchronized (lock) {
+            subscription = upstreamDone ? null : upstream;
+        }
+        if (subscription != null) {
+            subscription.request(unrequested);
+        }
+        unrequested = 0;
+    }
+
+    // Helper function to drop everything that was not emitted yet.
+    private void clear() {
+        synchronized (lock) {
+            queued.clear();
+            validated.clear();
+            ready.clear();
+            filling = null;
+        }
+        emitting = null;
+    }
+
+    /**
+     * The subscription handed to the downstream subscriber.
+     */
+    private final class Subscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("The number of requested items must be positive"));
+                return;
+            }
+            demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            Flow.Subscription subscription;
+            synchronized (lock) {
+                upstreamDone = true;
+                subscription = upstream;
+            }
+            if (subscription != null) {
+                subscription.cancel();
+            }
+            drain();
+        }
+
+    }
+
+    /**
+     * A batch of values and, once validated, their results.
+     */
+    private static final class Batch<T> {
+
+        private final long sequence;
+        private final Object[] items;
+        private final ValidationResult[] results;
+        private int size;
+
+        private Batch(long sequence, int capacity) {
+            this.sequence = sequence;
+            this.items = new Object[capacity];
+            this.results = new ValidationResult[capacity];
+        }
+
+    }
+
+    /**
+     * The Builder class configures and creates {@link ValidationProcessor}s.
+     */
+    public static final class Builder {
+
+        private static final int DEFAULT_BATCH_SIZE = 64;
+
+        private final Validator<?> validator;
+        private int batchSize = DEFAULT_BATCH_SIZE;
+        private int workers = Runtime.getRuntime().availableProcessors();
+        private boolean ordered = true;
+        private int bufferSize = 0;
+        private Executor executor = ForkJoinPool.commonPool();
+
+        /**
+         * Private constructor for the Builder class
+         */
+        private Builder(Validator<?> validator) {
+            this.validator = Objects.requireNonNull(validator, "The validator cannot be null");
+        }
+
+        /**
+         * Sets the maximum number of values validated by a worker in one go. Defaults to {@code 64}.
+         *
+         * @param batchSize The maximum size of a batch.
+         * @return This builder.
+         */
+        public Builder batchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("The batch size must be positive");
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets how many batches can be validated at the same time. Defaults to the number of available processors.
+         *
+         * @param workers The maximum number of workers.
+         * @return This builder.
+         */
+        public Builder workers(int workers) {
+            if (workers <= 0) {
+                throw new IllegalArgumentException("The number of workers must be positive");
+            }
+            this.workers = workers;
+            return this;
+        }
+
+        /**
+         * Sets whether the results are emitted in the order of the values. Defaults to {@code true}.
+         *
+         * @param ordered {@code false} to emit the results of a batch as soon as it is validated.
+         * @return This builder.
+         */
+        public Builder ordered(boolean ordered) {
+            this.ordered = ordered;
+            return this;
+        }
+
+        /**
+         * Sets how many values can be requested from the publisher ahead of the subscriber.
+         * Defaults to twice the batch size times the number of workers.
+         *
+         * @param bufferSize The maximum number of values in the processor, at least the batch size.
+         * @return This builder.
+         */
+        public Builder bufferSize(int bufferSize) {
+            if (bufferSize <= 0) {
+                throw new IllegalArgumentException("The buffer size must be positive");
+            }
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * Sets the executor that validates the batches. Defaults to the {@linkplain ForkJoinPool#commonPool() common pool}.
+         *
+         * @param executor The executor that validates the batches.
+         * @return This builder.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "The executor cannot be null");
+            return this;
+        }
+
+        /**
+         * Creates a ValidationProcessor with the current configuration.
+         *
+         * @param <T> The type of the validated values.
+         * @return A new ValidationProcessor.
+         * @throws IllegalArgumentException If the buffer size is smaller than the batch size.
+         */
+        public <T extends CharSequence> ValidationProcessor<T> build() {
+            if (bufferSize != 0 && bufferSize < batchSize) {
+                throw new IllegalArgumentException("The buffer size cannot be smaller than the batch size");
+            }
+            int size = bufferSize != 0 ? bufferSize : (int) Math.min(Integer.MAX_VALUE, 2L * batchSize * workers);
+            return new ValidationProcessor<>(this, size);
+        }
+
+    }
+
+}
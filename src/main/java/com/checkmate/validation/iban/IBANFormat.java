@@ -0,0 +1,303 @@
+package com.checkmate.validation.iban;
+
+import com.checkmate.validation.ValidationResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ * The IBANFormat class describes the national structure of an IBAN: its total length and the character class
+ * that is allowed at every position.
+ * </p>
+ * <p>
+ * All known formats are compiled once into a table indexed directly by the two-letter country code,
+ * so finding and checking the format of an IBAN takes a single lookup and a single pass over its characters.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+final class IBANFormat {
+
+    static final byte DIGIT = 1;
+    static final byte LETTER = 2;
+    static final byte ALPHANUMERIC = DIGIT | LETTER;
+
+    private static final int ALPHABET_SIZE = 26;
+    private static final int COUNTRY_CODE_LENGTH = 2;
+    private static final int MAX_LENGTH = 34;
+    private static final byte[] CHARACTER_CLASSES = new byte[128];
+    private static final IBANFormat[] FORMATS = new IBANFormat[ALPHABET_SIZE * ALPHABET_SIZE];
+
+    // Everything after the country code, written as <count><class> groups: n = digits, a = letters, c = both.
+    private static final String[] COUNTRY_LIST = new String[]{
+            "AD10n12c", // Andorra
+            "AE21n", // United Arab Emirates (The)
+            "AL10n16c", // Albania
+            "AT18n", // Austria
+            "AZ2n4a20c", // Azerbaijan
+            "BA18n", // Bosnia and Herzegovina
+            "BE14n", // Belgium
+            "BG2n4a6n8c", // Bulgaria
+            "BH2n4a14c", // Bahrain
+            "BI25n", // Burundi
+            "BR25n1a1c", // Brazil
+            "BY2n4c4n16c", // Republic of Belarus
+            "CH7n12c", // Switzerland
+            "CR20n", // Costa Rica
+            "CY10n16c", // Cyprus
+            "CZ22n", // Czechia
+            "DE20n", // Germany
+            "DJ25n", // Djibouti
+            "DK16n", // Denmark
+            "DO2n4c20n", // Dominican Republic
+            "EE18n", // Estonia
+            "EG27n", // Egypt
+            "ES22n", // Spain
+            "FI16n", // Finland
+            "AX16n", // Finland - Aland Islands
+            "FO16n", // Faroe Islands
+            "FR12n11c2n", // France
+            "BL12n11c2n", // France - Saint Barthelemy
+            "GF12n11c2n", // France - French Guiana
+            "GP12n11c2n", // France - Guadeloupe
+            "MF12n11c2n", // France - Saint Martin
+            "MQ12n11c2n", // France - Martinique
+            "NC12n11c2n", // France - New Caledonia
+            "PF12n11c2n", // France - French Polynesia
+            "PM12n11c2n", // France - Saint Pierre and Miquelon
+            "RE12n11c2n", // France - Reunion
+            "TF12n11c2n", // France - French Southern Territories
+            "WF12n11c2n", // France - Wallis and Futuna
+            "YT12n11c2n", // France - Mayotte
+            "GB2n4a14n", // United Kingdom
+            "GE2n2a16n", // Georgia
+            "GI2n4a15c", // Gibraltar
+            "GL16n", // Greenland
+            "GR9n16c", // Greece
+            "GT2n24c", // Guatemala
+            "HR19n", // Croatia
+            "HU26n", // Hungary
+            "IE2n4a14n", // Ireland
+            "IL21n", // Israel
+            "IQ2n4a15n", // Iraq
+            "IS24n", // Iceland
+            "IT2n1a10n12c", // Italy
+            "JO2n4a4n18c", // Jordan
+            "KW2n4a22c", // Kuwait
+            "KZ5n13c", // Kazakhstan
+            "LB6n20c", // Lebanon
+            "LC2n4a24c", // Saint Lucia
+            "LI7n12c", // Liechtenstein
+            "LT18n", // Lithuania
+            "LU5n13c", // Luxembourg
+            "LV2n4a13c", // Latvia
+            "LY23n", // Libya
+            "MC12n11c2n", // Monaco
+            "MD2n20c", // Moldova
+            "ME20n", // Montenegro
+            "MK5n10c2n", // Macedonia
+            "MR25n", // Mauritania
+            "MT2n4a5n18c", // Malta
+            "MU2n4a19n3a", // Mauritius
+            "NL2n4a10n", // Netherlands (The)
+            "NO13n", // Norway
+            "PK2n4a16c", // Pakistan
+            "PL26n", // Poland
+            "PS2n4a21c", // Palestine, State of
+            "PT23n", // Portugal
+            "QA2n4a21c", // Qatar
+            "RO2n4a16c", // Romania
+            "RS20n", // Serbia
+            "RU31n", // Russia
+            "SA4n18c", // Saudi Arabia
+            "SC2n4a20n3a", // Seychelles
+            "SD16n", // Sudan
+            "SE22n", // Sweden
+            "SI17n", // Slovenia
+            "SK22n", // Slovakia
+            "SM2n1a10n12c", // San Marino
+            "ST23n", // Sao Tome and Principe
+            "SV2n4a20n", // El Salvador
+            "TL21n", // Timor-Leste
+            "TN22n", // Tunisia
+            "TR8n16c", // Turkey
+            "UA8n19c", // Ukraine
+            "VA20n", // Vatican City State
+            "VG2n4a16n", // Virgin Islands
+            "XK18n" // Kosovo
+    };
+
+    static {
+        for (char c = '0'; c <= '9'; c++) {
+            CHARACTER_CLASSES[c] = DIGIT;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            CHARACTER_CLASSES[c] = LETTER;
+        }
+        for (String entry : COUNTRY_LIST) {
+            FORMATS[index(entry.charAt(0), entry.charAt(1))] = parse(entry);
+        }
+    }
+
+    private final String countryCode;
+    private final String structure;
+    private final byte[] classes;
+
+    /**
+     * Private constructor for the IBANFormat class
+     */
+    private IBANFormat(String countryCode, String structure, byte[] classes) {
+        this.countryCode = countryCode;
+        this.structure = structure;
+        this.classes = classes;
+    }
+
+    /**
+     * Gets the country codes of every supported country.
+     *
+     * @return The country codes, in alphabetical order.
+     */
+    static List<String> countryCodes() {
+        List<String> countryCodes = new ArrayList<>(COUNTRY_LIST.length);
+        for (IBANFormat format : FORMATS) {
+            if (format != null) {
+                countryCodes.add(format.countryCode);
+            }
+        }
+        return List.copyOf(countryCodes);
+    }
+
+    /**
+     * Gets the format registered for the given country code.
+     *
+     * @param first  The first letter of the country code.
+     * @param second The second letter of the country code.
+     * @return The format of the country, or {@code null} if the country doesn't use IBANs or isn't supported.
+     */
+    static IBANFormat forCountry(char first, char second) {
+        if (!isCountryLetter(first) || !isCountryLetter(second)) {
+            return null;
+        }
+        return FORMATS[index(first, second)];
+    }
+
+    /**
+     * Checks if the characters in the given range form an IBAN of a supported country with the correct
+     * length and character classes. Spaces are ignored.
+     *
+     * @param iban The characters to check.
+     * @param from The index of the first character (inclusive).
+     * @param to   The index of the last character (exclusive).
+     * @return {@link ValidationResult#VALID} if the IBAN matches the format of its country,
+     * {@link ValidationResult#BAD_LENGTH} if it is too short or too long for its country
+     * and {@link ValidationResult#BAD_FORMAT} otherwise.
+     */
+    static ValidationResult check(CharSequence iban, int from, int to) {
+        IBANFormat format = null;
+        char first = 0;
+        int position = 0;
+
+        for (int i = from; i < to; i++) {
+            char c = iban.charAt(i);
+            if (c == ' ') {
+                continue;
+            }
+
+            if (position == 0) {
+                first = c;
+            } else if (position == 1) {
+                format = forCountry(first, c);
+                if (format == null) {
+                    return ValidationResult.BAD_FORMAT;
+                }
+            } else if (position >= format.classes.length) {
+                return ValidationResult.BAD_LENGTH;
+            } else if ((classOf(c) & format.classes[position]) == 0) {
+                return ValidationResult.BAD_FORMAT;
+            }
+            position++;
+        }
+
+        if (format == null) {
+            return ValidationResult.BAD_FORMAT;
+        }
+        return position == format.classes.length ? ValidationResult.VALID : ValidationResult.BAD_LENGTH;
+    }
+
+    /**
+     * Gets the country code of this format.
+     *
+     * @return The two-letter country code.
+     */
+    String getCountryCode() {
+        return countryCode;
+    }
+
+    /**
+     * Gets the structure of the IBANs of this format after the country code, written as {@code <count><class>} groups
+     * where {@code n} stands for digits, {@code a} for letters and {@code c} for both, e.g. {@code 2n4a14n}.
+     *
+     * @return The structure of the IBAN, check digits included.
+     */
+    String getStructure() {
+        return structure;
+    }
+
+    /**
+     * Gets the length of the IBANs of this format, country code included.
+     *
+     * @return The length of the IBAN.
+     */
+    int getLength() {
+        return classes.length;
+    }
+
+    // Helper function to get the character class of a single character.
+    private static byte classOf(char c) {
+        return c < CHARACTER_CLASSES.length ? CHARACTER_CLASSES[c] : 0;
+    }
+
+    // Helper function to check if a character can be a part of a country code.
+    private static boolean isCountryLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    // Helper function to get the position of a country code in the format table.
+    private static int index(char first, char second) {
+        return (first - 'A') * ALPHABET_SIZE + (second - 'A');
+    }
+
+    // Helper function to compile a country list entry into a format.
+    private static IBANFormat parse(String entry) {
+        byte[] classes = new byte[MAX_LENGTH];
+        classes[0] = LETTER;
+        classes[1] = LETTER;
+
+        int length = COUNTRY_CODE_LENGTH;
+        int count = 0;
+        for (int i = COUNTRY_CODE_LENGTH; i < entry.length(); i++) {
+            char c = entry.charAt(i);
+            if (c >= '0' && c <= '9') {
+                count = count * 10 + (c - '0');
+                continue;
+            }
+
+            byte characterClass = switch (c) {
+                case 'n' -> DIGIT;
+                case 'a' -> LETTER;
+                case 'c' -> ALPHANUMERIC;
+                default -> throw new IllegalStateException("Unknown character class in IBAN format: " + entry);
+            };
+            for (int j = 0; j < count; j++) {
+                classes[length++] = characterClass;
+            }
+            count = 0;
+        }
+
+        return new IBANFormat(entry.substring(0, COUNTRY_CODE_LENGTH), entry.substring(COUNTRY_CODE_LENGTH),
+                Arrays.copyOf(classes, length));
+    }
+
+}
@@ -3,9 +3,11 @@ package com.checkmate.validation.iban;
 import com.checkmate.checksum.IBANChecksum;
 import com.checkmate.exceptions.iban.EmptyIBANException;
 import com.checkmate.exceptions.iban.NullIBANException;
+import com.checkmate.validation.ValidationResult;
 import com.checkmate.validation.Validator;
 
-import java.util.regex.Pattern;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * <p>
@@ -20,101 +22,19 @@ import java.util.regex.Pattern;
  * @since 1.1.0
  */
 public class IBANValidator implements Validator<String> {
-    private static final IBANValidator instance = new IBANValidator();
+    private static final IBANValidator instance = new IBANValidator(false);
+    private static final IBANValidator stacklessInstance = new IBANValidator(true);
+    private final boolean stackless;
 
     /**
      * Private constructor for the IBANValidator class
      */
-    private IBANValidator() {
+    private IBANValidator(boolean stackless) {
+        this.stackless = stackless;
     }
 
     private static final int MIN_LENGTH = 8;
     private static final int MAX_LENGTH = 34;
-    private static final String[] COUNTRY_LIST = new String[]{
-            "AD\\d{10}[A-Z0-9]{12}",
-            "AD\\d{10}[A-Z0-9]{12}", // Andorra
-            "AE\\d{21}", // United Arab Emirates (The)
-            "AL\\d{10}[A-Z0-9]{16}", // Albania
-            "AT\\d{18}", // Austria
-            "AZ\\d{2}[A-Z]{4}[A-Z0-9]{20}", // Azerbaijan
-            "BA\\d{18}", // Bosnia and Herzegovina
-            "BE\\d{14}", // Belgium
-            "BG\\d{2}[A-Z]{4}\\d{6}[A-Z0-9]{8}", // Bulgaria
-            "BH\\d{2}[A-Z]{4}[A-Z0-9]{14}", // Bahrain
-            "BI\\d{25}", // Burundi
-            "BR\\d{25}[A-Z]{1}[A-Z0-9]{1}", // Brazil
-            "BY\\d{2}[A-Z0-9]{4}\\d{4}[A-Z0-9]{16}", // Republic of Belarus
-            "CH\\d{7}[A-Z0-9]{12}", // Switzerland
-            "CR\\d{20}", // Costa Rica
-            "CY\\d{10}[A-Z0-9]{16}", // Cyprus
-            "CZ\\d{22}", // Czechia
-            "DE\\d{20}", // Germany
-            "DJ\\d{25}", // Djibouti
-            "DK\\d{16}", // Denmark
-            "DO\\d{2}[A-Z0-9]{4}\\d{20}", // Dominican Republic
-            "EE\\d{18}", // Estonia
-            "EG\\d{27}", // Egypt
-            "ES\\d{22}", // Spain
-            "(FI|AX)\\d{16}", // Finland & Associates.
-            "FO\\d{16}", // Faroe Islands
-            "(FR|BL|GF|GP|MF|MQ|NC|PF|PM|RE|TF|WF|YT)\\d{12}[A-Z0-9]{11}\\d{2}", // France & Associates.
-            "GB\\d{2}[A-Z]{4}\\d{14}", // United Kingdom
-            "GE\\d{2}[A-Z]{2}\\d{16}", // Georgia
-            "GI\\d{2}[A-Z]{4}[A-Z0-9]{15}", // Gibraltar
-            "GL\\d{16}", // Greenland
-            "GR\\d{9}[A-Z0-9]{16}", // Greece
-            "GT\\d{2}[A-Z0-9]{24}", // Guatemala
-            "HR\\d{19}", // Croatia
-            "HU\\d{26}", // Hungary
-            "IE\\d{2}[A-Z]{4}\\d{14}", // Ireland
-            "IL\\d{21}", // Israel
-            "IQ\\d{2}[A-Z]{4}\\d{15}", // Iraq
-            "IS\\d{24}", // Iceland
-            "IT\\d{2}[A-Z]{1}\\d{10}[A-Z0-9]{12}", // Italy
-            "JO\\d{2}[A-Z]{4}\\d{4}[A-Z0-9]{18}", // Jordan
-            "KW\\d{2}[A-Z]{4}[A-Z0-9]{22}", // Kuwait
-            "KZ\\d{5}[A-Z0-9]{13}", // Kazakhstan
-            "LB\\d{6}[A-Z0-9]{20}", // Lebanon
-            "LC\\d{2}[A-Z]{4}[A-Z0-9]{24}", // Saint Lucia
-            "LI\\d{7}[A-Z0-9]{12}", // Liechtenstein
-            "LT\\d{18}", // Lithuania
-            "LU\\d{5}[A-Z0-9]{13}", // Luxembourg
-            "LV\\d{2}[A-Z]{4}[A-Z0-9]{13}", // Latvia
-            "LY\\d{23}", // Libya
-            "MC\\d{12}[A-Z0-9]{11}\\d{2}", // Monaco
-            "MD\\d{2}[A-Z0-9]{20}", // Moldova
-            "ME\\d{20}", // Montenegro
-            "MK\\d{5}[A-Z0-9]{10}\\d{2}", // Macedonia
-            "MR\\d{25}", // Mauritania
-            "MT\\d{2}[A-Z]{4}\\d{5}[A-Z0-9]{18}", // Malta
-            "MU\\d{2}[A-Z]{4}\\d{19}[A-Z]{3}", // Mauritius
-            "NL\\d{2}[A-Z]{4}\\d{10}", // Netherlands (The)
-            "NO\\d{13}", // Norway
-            "PK\\d{2}[A-Z]{4}[A-Z0-9]{16}", // Pakistan
-            "PL\\d{26}", // Poland
-            "PS\\d{2}[A-Z]{4}[A-Z0-9]{21}", // Palestine, State of
-            "PT\\d{23}", // Portugal
-            "QA\\d{2}[A-Z]{4}[A-Z0-9]{21}", // Qatar
-            "RO\\d{2}[A-Z]{4}[A-Z0-9]{16}", // Romania
-            "RS\\d{20}", // Serbia
-            "RU\\d{31}", // Russia
-            "SA\\d{4}[A-Z0-9]{18}", // Saudi Arabia
-            "SC\\d{2}[A-Z]{4}\\d{20}[A-Z]{3}", // Seychelles
-            "SD\\d{16}", // Sudan
-            "SE\\d{22}", // Sweden
-            "SI\\d{17}", // Slovenia
-            "SK\\d{22}", // Slovakia
-            "SM\\d{2}[A-Z]{1}\\d{10}[A-Z0-9]{12}", // San Marino
-            "ST\\d{23}", // Sao Tome and Principe
-            "SV\\d{2}[A-Z]{4}\\d{20}", // El Salvador
-            "TL\\d{21}", // Timor-Leste
-            "TN\\d{22}", // Tunisia
-            "TR\\d{8}[A-Z0-9]{16}", // Turkey
-            "UA\\d{8}[A-Z0-9]{19}", // Ukraine
-            "VA\\d{20}", // Vatican City State
-            "VG\\d{2}[A-Z]{4}\\d{16}", // Virgin Islands
-            "XK\\d{18}" // Kosovo
-    };
 
     /**
      * Gets the singleton instance of the IBANValidator.
@@ -125,6 +45,17 @@ public class IBANValidator implements Validator<String> {
         return instance;
     }
 
+    /**
+     * Gets the instance of the IBANValidator that throws shared exceptions without a stack trace for null and empty values,
+     * for callers that expect many missing values and don't need to know where they were found.
+     *
+     * @return The stackless instance of the IBANValidator.
+     * @since 1.2.0
+     */
+    public static IBANValidator getStacklessInstance() {
+        return stacklessInstance;
+    }
+
 
     /**
      * Checks if the given IBAN is valid. <br>
@@ -140,18 +71,79 @@ public class IBANValidator implements Validator<String> {
         if (isNullOrEmpty(iban)) {
             return false;
         }
-        if (iban.length() < MIN_LENGTH || iban.length() > MAX_LENGTH) {
+
+        return verify(iban, 0, iban.length()) == ValidationResult.VALID;
+    }
+
+    /**
+     * Checks if the IBAN in the given range of a character sequence is valid. <br>
+     *
+     * @param iban The character sequence that contains the IBAN.
+     * @param from The index of the first character of the IBAN (inclusive).
+     * @param to   The index of the last character of the IBAN (exclusive).
+     * @return {@code true} if the IBAN is valid, {@code false} otherwise.
+     * @throws NullIBANException         if the input IBAN is null.
+     * @throws EmptyIBANException        if the input IBAN is an empty string.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     * @since 1.2.0
+     */
+    @Override
+    public boolean isValid(CharSequence iban, int from, int to) {
+        if (isNullOrEmpty(iban, from, to)) {
             return false;
         }
-        for (String countryRegex : COUNTRY_LIST) {
-            iban = iban.replaceAll(" ", "");
-            Pattern pattern = Pattern.compile(countryRegex);
-            if (pattern.matcher(iban).matches()) {
-                return IBANChecksum.getInstance().isValid(iban);
-            }
+
+        return verify(iban, from, to) == ValidationResult.VALID;
+    }
+
+    /**
+     * Checks if the IBAN in the given range of a character sequence is valid, without throwing an exception if it is missing. <br>
+     *
+     * @param iban The character sequence that contains the IBAN, can be {@code null}.
+     * @param from The index of the first character of the IBAN (inclusive).
+     * @param to   The index of the last character of the IBAN (exclusive).
+     * @return The outcome of the validation.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     * @since 1.2.0
+     */
+    @Override
+    public ValidationResult check(CharSequence iban, int from, int to) {
+        if (iban == null) {
+            return ValidationResult.NULL;
+        }
+        Objects.checkFromToIndex(from, to, iban.length());
+        if (isBlank(iban, from, to)) {
+            return ValidationResult.EMPTY;
         }
 
-        return false;
+        return verify(iban, from, to);
+    }
+
+    /**
+     * Gets the country codes of every country whose IBANs can be validated.
+     *
+     * @return The two-letter country codes, in alphabetical order.
+     * @since 1.2.0
+     */
+    public List<String> getSupportedCountries() {
+        return IBANFormat.countryCodes();
+    }
+
+    /**
+     * Gets the national structure of the IBANs of the given country, written as {@code <count><class>} groups
+     * after the country code, where {@code n} stands for digits, {@code a} for upper case letters and {@code c} for both.
+     * The check digits are included, e.g. the structure of British IBANs is {@code 2n4a14n}.
+     *
+     * @param countryCode The two-letter country code.
+     * @return The structure of the IBANs of the country, or {@code null} if the country isn't supported.
+     * @since 1.2.0
+     */
+    public String getStructure(String countryCode) {
+        if (countryCode == null || countryCode.length() != 2) {
+            return null;
+        }
+        IBANFormat format = IBANFormat.forCountry(countryCode.charAt(0), countryCode.charAt(1));
+        return format == null ? null : format.getStructure();
     }
 
     /**
@@ -166,12 +158,58 @@ public class IBANValidator implements Validator<String> {
     @Override
     public boolean isNullOrEmpty(String iban) {
         if (iban == null) {
-            throw new NullIBANException("The IBAN cannot be null");
+            throw nullException();
         }
         if (iban.trim().isEmpty()) {
-            throw new EmptyIBANException("The IBAN cannot be an empty string");
+            throw emptyException();
         }
         return false;
     }
 
-}
\ No newline at end of file
+    // Helper function to check if the characters in the given range are null or blank.
+    private boolean isNullOrEmpty(CharSequence iban, int from, int to) {
+        if (iban == null) {
+            throw nullException();
+        }
+        Objects.checkFromToIndex(from, to, iban.length());
+        if (!isBlank(iban, from, to)) {
+            return false;
+        }
+        throw emptyException();
+    }
+
+    // Helper function to check if the characters in the given range contain only whitespace.
+    private static boolean isBlank(CharSequence iban, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (iban.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Helper function to check the length, the national format and the checksum of an IBAN.
+    private ValidationResult verify(CharSequence iban, int from, int to) {
+        if (to - from < MIN_LENGTH || to - from > MAX_LENGTH) {
+            return ValidationResult.BAD_LENGTH;
+        }
+
+        ValidationResult format = IBANFormat.check(iban, from, to);
+        if (format != ValidationResult.VALID) {
+            return format;
+        }
+
+        return IBANChecksum.getInstance().isValid(iban, from, to) ? ValidationResult.VALID : ValidationResult.BAD_CHECKSUM;
+    }
+
+    // Helper function to create the exception thrown for a null IBAN.
+    private NullIBANException nullException() {
+        return stackless ? NullIBANException.STACKLESS : new NullIBANException("The IBAN cannot be null");
+    }
+
+    // Helper function to create the exception thrown for an empty IBAN.
+    private EmptyIBANException emptyException() {
+        return stackless ? EmptyIBANException.STACKLESS : new EmptyIBANException("The IBAN cannot be an empty string");
+    }
+
+}
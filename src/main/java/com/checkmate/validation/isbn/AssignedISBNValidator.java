@@ -0,0 +1,154 @@
+package com.checkmate.validation.isbn;
+
+import com.checkmate.exceptions.isbn.EmptyISBNException;
+import com.checkmate.exceptions.isbn.NullISBNException;
+import com.checkmate.validation.ValidationResult;
+import com.checkmate.validation.Validator;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * The AssignedISBNValidator class provides validations for ISBN-10 and ISBN-13 numbers that, on top of the checks of
+ * {@link ISBNValidator}, reject ISBNs outside the ranges assigned to registrants by the International ISBN Agency.
+ *
+ * <p>
+ * A well-formed ISBN with a correct check digit in an unassigned range is reported as {@link ValidationResult#BAD_FORMAT}.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class AssignedISBNValidator implements Validator<String> {
+
+    private static final AssignedISBNValidator instance = new AssignedISBNValidator(ISBNRanges.getInstance());
+
+    private final ISBNRanges ranges;
+
+    /**
+     * Private constructor for the AssignedISBNValidator class
+     */
+    private AssignedISBNValidator(ISBNRanges ranges) {
+        this.ranges = ranges;
+    }
+
+    /**
+     * Gets the singleton instance of the AssignedISBNValidator that uses the bundled ranges.
+     *
+     * @return The singleton instance of the AssignedISBNValidator.
+     */
+    public static AssignedISBNValidator getInstance() {
+        return instance;
+    }
+
+    /**
+     * Creates an AssignedISBNValidator that uses the given ranges, e.g. ranges loaded from a newer range file.
+     *
+     * @param ranges The assigned ranges.
+     * @return An AssignedISBNValidator backed by the given ranges.
+     */
+    public static AssignedISBNValidator of(ISBNRanges ranges) {
+        return new AssignedISBNValidator(Objects.requireNonNull(ranges, "The ranges cannot be null"));
+    }
+
+    /**
+     * Checks if the given ISBN is a valid ISBN-10 or ISBN-13 number in an assigned range. <br>
+     *
+     * @param isbn The ISBN to validate.
+     * @return {@code true} if the ISBN is valid and assigned, {@code false} otherwise.
+     * @throws NullISBNException  if the input ISBN is null.
+     * @throws EmptyISBNException if the input ISBN is an empty string.
+     */
+    @Override
+    public boolean isValid(String isbn) {
+        if (isNullOrEmpty(isbn)) {
+            return false;
+        }
+
+        return ranges.isAssigned(isbn, 0, isbn.length());
+    }
+
+    /**
+     * Checks if the ISBN in the given range of a character sequence is a valid ISBN-10 or ISBN-13 number
+     * in an assigned range. <br>
+     *
+     * @param isbn The character sequence that contains the ISBN.
+     * @param from The index of the first character of the ISBN (inclusive).
+     * @param to   The index of the last character of the ISBN (exclusive).
+     * @return {@code true} if the ISBN is valid and assigned, {@code false} otherwise.
+     * @throws NullISBNException         if the input ISBN is null.
+     * @throws EmptyISBNException        if the input ISBN is an empty string.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     */
+    @Override
+    public boolean isValid(CharSequence isbn, int from, int to) {
+        ValidationResult result = check(isbn, from, to);
+        if (result.isMissing()) {
+            return ISBNValidator.getInstance().isValid(isbn, from, to);
+        }
+
+        return result.isValid();
+    }
+
+    /**
+     * Checks if the ISBN in the given range of a character sequence is a valid ISBN-10 or ISBN-13 number
+     * in an assigned range, without throwing an exception if it is missing. <br>
+     *
+     * @param isbn The character sequence that contains the ISBN, can be {@code null}.
+     * @param from The index of the first character of the ISBN (inclusive).
+     * @param to   The index of the last character of the ISBN (exclusive).
+     * @return The outcome of the validation, {@link ValidationResult#BAD_FORMAT} for a valid ISBN in an unassigned range.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     */
+    @Override
+    public ValidationResult check(CharSequence isbn, int from, int to) {
+        ValidationResult result = ISBNValidator.getInstance().check(isbn, from, to);
+        if (result != ValidationResult.VALID || ranges.isAssigned(isbn, from, to)) {
+            return result;
+        }
+
+        return ValidationResult.BAD_FORMAT;
+    }
+
+    /**
+     * Checks if the given ISBN is null or empty.
+     *
+     * @param isbn The ISBN to check.
+     * @return {@code false} if the ISBN is neither null nor empty.
+     * @throws NullISBNException  if the input ISBN is null.
+     * @throws EmptyISBNException if the input ISBN is an empty string.
+     */
+    @Override
+    public boolean isNullOrEmpty(String isbn) {
+        return ISBNValidator.getInstance().isNullOrEmpty(isbn);
+    }
+
+    // Helper function to serialize the ranges only when they are not the bundled ones.
+    private Object writeReplace() {
+        return new SerializedForm(this == instance ? null : ranges);
+    }
+
+    // Helper function to reject streams that bypass the serialized form.
+    private void readObject(ObjectInputStream stream) throws InvalidObjectException {
+        throw new InvalidObjectException("A AssignedISBNValidator is deserialized from its serialized form");
+    }
+
+    /**
+     * The serialized form of a AssignedISBNValidator: its ranges, or none for the singleton, which stays the singleton when deserialized.
+     */
+    private static final class SerializedForm implements Serializable {
+
+        private final ISBNRanges ranges;
+
+        private SerializedForm(ISBNRanges ranges) {
+            this.ranges = ranges;
+        }
+
+        private Object readResolve() {
+            return ranges == null ? getInstance() : of(ranges);
+        }
+
+    }
+
+}
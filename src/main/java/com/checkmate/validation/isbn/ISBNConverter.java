@@ -0,0 +1,348 @@
+package com.checkmate.validation.isbn;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.Objects;
+
+/**
+ * <p>
+ * The ISBNConverter class converts valid ISBN-10 numbers into ISBN-13 numbers and back. <br>
+ * An ISBN-10 becomes an ISBN-13 by prefixing it with 978 and recomputing the check digit.
+ * Only ISBN-13 numbers with the 978 prefix have an ISBN-10 counterpart.
+ * </p>
+ * <p>
+ * The input is read the same way as by {@link ISBNValidator}: an optional "ISBN-10" or "ISBN-13" prefix and
+ * any separators are ignored, and only valid numbers are converted. The output is written without separators into
+ * a buffer supplied by the caller, so converting a number allocates nothing. Besides single numbers, whole arrays
+ * and newline-delimited character streams can be converted.
+ * </p>
+ *
+ * <pre>{@code
+ * char[] isbn13 = new char[ISBNConverter.ISBN13_LENGTH];
+ * if (ISBNConverter.getInstance().toISBN13("0-596-52068-9", isbn13, 0) > 0) {
+ *     // isbn13 contains 9780596520687
+ * }
+ * }</pre>
+ *
+ * @since 1.2.0
+ */
+public final class ISBNConverter {
+
+    /**
+     * The number of characters written for an ISBN-10.
+     */
+    public static final int ISBN10_LENGTH = 10;
+
+    /**
+     * The number of characters written for an ISBN-13.
+     */
+    public static final int ISBN13_LENGTH = 13;
+
+    /**
+     * The maximum number of characters of a line read from a stream, line break excluded. Longer lines are written as empty lines.
+     */
+    public static final int MAX_LINE_LENGTH = 64;
+
+    private static final ISBNConverter instance = new ISBNConverter();
+    private static final String BOOKLAND_PREFIX = "978";
+    // The weighted ISBN-13 sum of the 978 prefix: 9 * 1 + 7 * 3 + 8 * 1
+    private static final int BOOKLAND_SUM = 38;
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Private constructor for the ISBNConverter class
+     */
+    private ISBNConverter() {
+    }
+
+    /**
+     * Gets the singleton instance of the ISBNConverter.
+     *
+     * @return The singleton instance of the ISBNConverter.
+     */
+    public static ISBNConverter getInstance() {
+        return instance;
+    }
+
+    /**
+     * Converts an ISBN-10 into an ISBN-13.
+     *
+     * @param isbn10 The ISBN-10 to convert.
+     * @param out    The array that receives the 13 characters of the ISBN-13.
+     * @param offset The index of the first character to write.
+     * @return {@value #ISBN13_LENGTH}, or -1 if the input isn't a valid ISBN-10, in which case the content of the
+     * output range is unspecified.
+     * @throws IndexOutOfBoundsException if the output array is too small.
+     */
+    public int toISBN13(CharSequence isbn10, char[] out, int offset) {
+        return toISBN13(isbn10, 0, isbn10.length(), out, offset);
+    }
+
+    /**
+     * Converts the ISBN-10 in the given range of a character sequence into an ISBN-13.
+     *
+     * @param isbn10 The character sequence that contains the ISBN-10.
+     * @param from   The index of the first character of the ISBN-10 (inclusive).
+     * @param to     The index of the last character of the ISBN-10 (exclusive).
+     * @param out    The array that receives the 13 characters of the ISBN-13.
+     * @param offset The index of the first character to write.
+     * @return {@value #ISBN13_LENGTH}, or -1 if the input isn't a valid ISBN-10, in which case the content of the
+     * output range is unspecified.
+     * @throws IndexOutOfBoundsException if the input range is out of bounds or the output array is too small.
+     */
+    public int toISBN13(CharSequence isbn10, int from, int to, char[] out, int offset) {
+        Objects.checkFromToIndex(from, to, isbn10.length());
+        Objects.checkFromIndexSize(offset, ISBN13_LENGTH, out.length);
+
+        BOOKLAND_PREFIX.getChars(0, BOOKLAND_PREFIX.length(), out, offset);
+        int count = 0;
+        int sum10 = 0;
+        int sum13 = BOOKLAND_SUM;
+
+        for (int i = ISBNValidator.skipPrefix(isbn10, from, to); i < to; i++) {
+            char c = isbn10.charAt(i);
+            int value;
+            if (c >= '0' && c <= '9') {
+                value = c - '0';
+            } else if (c == 'X' && count == ISBN10_LENGTH - 1) {
+                value = 10;
+            } else if (c == 'X') {
+                return -1;
+            } else {
+                continue;
+            }
+
+            if (count == ISBN10_LENGTH) {
+                return -1;
+            }
+            if (count < ISBN10_LENGTH - 1) {
+                out[offset + BOOKLAND_PREFIX.length() + count] = c;
+                sum13 += value * (count % 2 == 0 ? 3 : 1);
+            }
+            sum10 += value * (ISBN10_LENGTH - count);
+            count++;
+        }
+
+        if (count != ISBN10_LENGTH || sum10 % 11 != 0) {
+            return -1;
+        }
+        out[offset + ISBN13_LENGTH - 1] = (char) ('0' + (10 - sum13 % 10) % 10);
+        return ISBN13_LENGTH;
+    }
+
+    /**
+     * Converts an ISBN-13 with the 978 prefix into an ISBN-10.
+     *
+     * @param isbn13 The ISBN-13 to convert.
+     * @param out    The array that receives the 10 characters of the ISBN-10.
+     * @param offset The index of the first character to write.
+     * @return {@value #ISBN10_LENGTH}, or -1 if the input isn't a valid ISBN-13 with the 978 prefix, in which case
+     * the content of the output range is unspecified.
+     * @throws IndexOutOfBoundsException if the output array is too small.
+     */
+    public int toISBN10(CharSequence isbn13, char[] out, int offset) {
+        return toISBN10(isbn13, 0, isbn13.length(), out, offset);
+    }
+
+    /**
+     * Converts the ISBN-13 with the 978 prefix in the given range of a character sequence into an ISBN-10.
+     *
+     * @param isbn13 The character sequence that contains the ISBN-13.
+     * @param from   The index of the first character of the ISBN-13 (inclusive).
+     * @param to     The index of the last character of the ISBN-13 (exclusive).
+     * @param out    The array that receives the 10 characters of the ISBN-10.
+     * @param offset The index of the first character to write.
+     * @return {@value #ISBN10_LENGTH}, or -1 if the input isn't a valid ISBN-13 with the 978 prefix, in which case
+     * the content of the output range is unspecified.
+     * @throws IndexOutOfBoundsException if the input range is out of bounds or the output array is too small.
+     */
+    public int toISBN10(CharSequence isbn13, int from, int to, char[] out, int offset) {
+        Objects.checkFromToIndex(from, to, isbn13.length());
+        Objects.checkFromIndexSize(offset, ISBN10_LENGTH, out.length);
+
+        int prefixLength = BOOKLAND_PREFIX.length();
+        int count = 0;
+        int sum10 = 0;
+        int sum13 = 0;
+
+        for (int i = ISBNValidator.skipPrefix(isbn13, from, to); i < to; i++) {
+            char c = isbn13.charAt(i);
+            if (c == 'X') {
+                return -1;
+            }
+            if (c < '0' || c > '9') {
+                continue;
+            }
+
+            int value = c - '0';
+            if (count == ISBN13_LENGTH) {
+                return -1;
+            }
+            if (count < prefixLength) {
+                if (c != BOOKLAND_PREFIX.charAt(count)) {
+                    return -1;
+                }
+            } else if (count < ISBN13_LENGTH - 1) {
+                out[offset + count - prefixLength] = c;
+                sum10 += value * (ISBN13_LENGTH - count);
+            }
+            sum13 += value * (count % 2 == 0 ? 1 : 3);
+            count++;
+        }
+
+        if (count != ISBN13_LENGTH || sum13 % 10 != 0) {
+            return -1;
+        }
+        int check = (11 - sum10 % 11) % 11;
+        out[offset + ISBN10_LENGTH - 1] = check == 10 ? 'X' : (char) ('0' + check);
+        return ISBN10_LENGTH;
+    }
+
+    /**
+     * Converts every ISBN-10 of the given array into an ISBN-13.
+     * The ISBN-13 of {@code isbns10[i]} is written at index {@code i * 13} of the output array.
+     *
+     * @param isbns10   The ISBN-10 numbers to convert, {@code null} values are not converted.
+     * @param out       The array that receives the ISBN-13 numbers, at least 13 times as long as the input array.
+     * @param converted The array in which {@code converted[i]} is set to whether {@code isbns10[i]} was converted.
+     * @return The number of converted ISBNs.
+     * @throws IllegalArgumentException if the output arrays are too small.
+     */
+    public int toISBN13(CharSequence[] isbns10, char[] out, boolean[] converted) {
+        checkBatch(isbns10, out, converted, ISBN13_LENGTH);
+
+        int count = 0;
+        for (int i = 0; i < isbns10.length; i++) {
+            CharSequence isbn = isbns10[i];
+            converted[i] = isbn != null && toISBN13(isbn, 0, isbn.length(), out, i * ISBN13_LENGTH) > 0;
+            count += converted[i] ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Converts every ISBN-13 of the given array into an ISBN-10.
+     * The ISBN-10 of {@code isbns13[i]} is written at index {@code i * 10} of the output array.
+     *
+     * @param isbns13   The ISBN-13 numbers to convert, {@code null} values are not converted.
+     * @param out       The array that receives the ISBN-10 numbers, at least 10 times as long as the input array.
+     * @param converted The array in which {@code converted[i]} is set to whether {@code isbns13[i]} was converted.
+     * @return The number of converted ISBNs.
+     * @throws IllegalArgumentException if the output arrays are too small.
+     */
+    public int toISBN10(CharSequence[] isbns13, char[] out, boolean[] converted) {
+        checkBatch(isbns13, out, converted, ISBN10_LENGTH);
+
+        int count = 0;
+        for (int i = 0; i < isbns13.length; i++) {
+            CharSequence isbn = isbns13[i];
+            converted[i] = isbn != null && toISBN10(isbn, 0, isbn.length(), out, i * ISBN10_LENGTH) > 0;
+            count += converted[i] ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Converts a stream of ISBN-10 numbers, one per line, into ISBN-13 numbers, one per line.
+     * A line that isn't a valid ISBN-10 or is longer than {@value #MAX_LINE_LENGTH} characters is written as an empty line,
+     * so that the output lines match the input lines. Neither stream is closed.
+     *
+     * @param in  The ISBN-10 numbers, separated by {@code \n} or {@code \r\n}.
+     * @param out The stream that receives the ISBN-13 numbers.
+     * @return The number of converted ISBNs.
+     * @throws IOException if reading or writing fails.
+     */
+    public long toISBN13(Reader in, Writer out) throws IOException {
+        return convert(in, out, true);
+    }
+
+    /**
+     * Converts a stream of ISBN-13 numbers, one per line, into ISBN-10 numbers, one per line.
+     * A line that isn't a valid ISBN-13 with the 978 prefix or is longer than {@value #MAX_LINE_LENGTH} characters is
+     * written as an empty line, so that the output lines match the input lines. Neither stream is closed.
+     *
+     * @param in  The ISBN-13 numbers, separated by {@code \n} or {@code \r\n}.
+     * @param out The stream that receives the ISBN-10 numbers.
+     * @return The number of converted ISBNs.
+     * @throws IOException if reading or writing fails.
+     */
+    public long toISBN10(Reader in, Writer out) throws IOException {
+        return convert(in, out, false);
+    }
+
+    // Helper function to check that the output arrays of a batch are large enough.
+    private static void checkBatch(CharSequence[] isbns, char[] out, boolean[] converted, int length) {
+        if (out.length / length < isbns.length) {
+            throw new IllegalArgumentException("The output array must hold " + length + " characters per ISBN");
+        }
+        if (converted.length < isbns.length) {
+            throw new IllegalArgumentException("The converted array must be as long as the ISBN array");
+        }
+    }
+
+    // Helper function to convert a stream line by line, reusing the same buffers for every line.
+    // A line that grows beyond the maximum length is written as an empty line at once and the rest of it is skipped.
+    private long convert(Reader in, Writer out, boolean toISBN13) throws IOException {
+        char[] buffer = new char[BUFFER_SIZE];
+        CharBuffer chars = CharBuffer.wrap(buffer);
+        char[] line = new char[ISBN13_LENGTH + 1];
+        int start = 0;
+        int scanned = 0;
+        int end = 0;
+        boolean skipping = false;
+        long count = 0;
+
+        while (true) {
+            int read = in.read(buffer, end, buffer.length - end);
+            if (read < 0) {
+                if (start < end && !skipping) {
+                    count += convertLine(chars, start, end, line, out, toISBN13);
+                }
+                return count;
+            }
+            end += read;
+
+            for (; scanned < end; scanned++) {
+                if (buffer[scanned] == '\n') {
+                    if (!skipping) {
+                        count += convertLine(chars, start, scanned, line, out, toISBN13);
+                    }
+                    skipping = false;
+                    start = scanned + 1;
+                }
+            }
+
+            // One more character than the maximum may be the carriage return of a line that ends in the next read
+            if (!skipping && end - start > MAX_LINE_LENGTH + 1) {
+                out.write('\n');
+                skipping = true;
+            }
+            if (skipping) {
+                start = end;
+            }
+
+            System.arraycopy(buffer, start, buffer, 0, end - start);
+            end -= start;
+            scanned -= start;
+            start = 0;
+        }
+    }
+
+    // Helper function to convert a single line, and write the result followed by a line break.
+    private int convertLine(CharSequence chars, int start, int end, char[] line, Writer out, boolean toISBN13) throws IOException {
+        if (end > start && chars.charAt(end - 1) == '\r') {
+            end--;
+        }
+
+        int length = start == end || end - start > MAX_LINE_LENGTH ? -1 : toISBN13
+                ? toISBN13(chars, start, end, line, 0)
+                : toISBN10(chars, start, end, line, 0);
+        int written = Math.max(0, length);
+        line[written] = '\n';
+        out.write(line, 0, written + 1);
+        return length > 0 ? 1 : 0;
+    }
+
+}
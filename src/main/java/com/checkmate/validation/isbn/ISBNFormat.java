@@ -0,0 +1,26 @@
+package com.checkmate.validation.isbn;
+
+/**
+ * The ISBNFormat enum tells which of the ISBN standards a number matches,
+ * as reported by {@link ISBNValidator#getFormat(String)}.
+ *
+ * @since 1.2.0
+ */
+public enum ISBNFormat {
+
+    /**
+     * A valid 10-digit ISBN, in use until 2007.
+     */
+    ISBN_10,
+
+    /**
+     * A valid 13-digit ISBN, starting with 978 or 979.
+     */
+    ISBN_13,
+
+    /**
+     * A number that is neither a valid ISBN-10 nor a valid ISBN-13.
+     */
+    INVALID
+
+}
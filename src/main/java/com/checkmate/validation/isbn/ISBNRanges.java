@@ -0,0 +1,399 @@
+package com.checkmate.validation.isbn;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ * The ISBNRanges class knows which ranges of ISBNs the International ISBN Agency has assigned to registration groups
+ * and registrants. It splits ISBNs into their elements (EAN prefix, registration group, registrant, publication and
+ * check digit), hyphenates them and tells whether they fall into an assigned range.
+ * </p>
+ * <p>
+ * The ranges are read from the standard {@code RangeMessage.xml} published by the
+ * <a href="https://www.isbn-international.org/range_file_generation">International ISBN Agency</a>.
+ * A copy is bundled with the library and an up-to-date file can be loaded with {@link #load(InputStream)}.
+ * The ranges are compiled into a sorted array of disjoint intervals over the first twelve digits of the ISBN-13,
+ * so a lookup is a binary search over primitive arrays that allocates nothing.
+ * </p>
+ *
+ * <pre>{@code
+ * char[] hyphenated = new char[ISBNRanges.MAX_HYPHENATED_LENGTH];
+ * int length = ISBNRanges.getInstance().hyphenate("9780596520687", hyphenated, 0); // 978-0-596-52068-7
+ * }</pre>
+ *
+ * @since 1.2.0
+ */
+public final class ISBNRanges implements Serializable {
+
+    /**
+     * The length of a hyphenated ISBN-13, the longest output of {@link #hyphenate(CharSequence, int, int, char[], int)}.
+     */
+    public static final int MAX_HYPHENATED_LENGTH = 17;
+
+    /**
+     * The index of the length of the EAN prefix in the array filled by {@link #split(CharSequence, int, int, int[])}.
+     */
+    public static final int PREFIX = 0;
+
+    /**
+     * The index of the length of the registration group in the array filled by {@link #split(CharSequence, int, int, int[])}.
+     */
+    public static final int GROUP = 1;
+
+    /**
+     * The index of the length of the registrant in the array filled by {@link #split(CharSequence, int, int, int[])}.
+     */
+    public static final int REGISTRANT = 2;
+
+    /**
+     * The index of the length of the publication in the array filled by {@link #split(CharSequence, int, int, int[])}.
+     */
+    public static final int PUBLICATION = 3;
+
+    /**
+     * The index of the length of the check digit in the array filled by {@link #split(CharSequence, int, int, int[])}.
+     */
+    public static final int CHECK_DIGIT = 4;
+
+    private static final String RESOURCE = "RangeMessage.xml";
+    private static final int EAN_LENGTH = 3;
+    private static final int BODY_LENGTH = 12;
+    private static final int RANGE_DIGITS = 7;
+    private static final long[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000};
+
+    private final String messageDate;
+    private final long[] starts;
+    private final long[] ends;
+    private final byte[] groupLengths;
+    private final byte[] registrantLengths;
+    private final String[] agencies;
+
+    /**
+     * Private constructor for the ISBNRanges class
+     */
+    private ISBNRanges(String messageDate, List<Interval> intervals) {
+        this.messageDate = messageDate;
+        this.starts = new long[intervals.size()];
+        this.ends = new long[intervals.size()];
+        this.groupLengths = new byte[intervals.size()];
+        this.registrantLengths = new byte[intervals.size()];
+        this.agencies = new String[intervals.size()];
+
+        for (int i = 0; i < intervals.size(); i++) {
+            Interval interval = intervals.get(i);
+            starts[i] = interval.start;
+            ends[i] = interval.end;
+            groupLengths[i] = (byte) interval.groupLength;
+            registrantLengths[i] = (byte) interval.registrantLength;
+            agencies[i] = interval.agency;
+        }
+    }
+
+    /**
+     * Gets the ranges of the {@code RangeMessage.xml} bundled with the library.
+     *
+     * @return The bundled ranges.
+     */
+    public static ISBNRanges getInstance() {
+        return Bundled.INSTANCE;
+    }
+
+    /**
+     * Reads the ranges of a {@code RangeMessage.xml} file. The stream is not closed.
+     *
+     * @param rangeMessage The content of the range file.
+     * @return The ranges of the file.
+     * @throws IOException if the stream can't be read or isn't a valid range file.
+     */
+    public static ISBNRanges load(InputStream rangeMessage) throws IOException {
+        Objects.requireNonNull(rangeMessage, "The range message cannot be null");
+        try {
+            return parse(rangeMessage);
+        } catch (XMLStreamException | IllegalArgumentException e) {
+            throw new IOException("Invalid ISBN range message", e);
+        }
+    }
+
+    /**
+     * Gets the date of the range file that these ranges were read from.
+     *
+     * @return The date of the range file, as written in the file.
+     */
+    public String getMessageDate() {
+        return messageDate;
+    }
+
+    /**
+     * Checks if the given ISBN is valid and falls into a range that is assigned to a registrant.
+     *
+     * @param isbn The ISBN-10 or ISBN-13 to check, in any notation accepted by {@link ISBNValidator}.
+     * @return {@code true} if the ISBN is valid and assigned, {@code false} otherwise.
+     */
+    public boolean isAssigned(CharSequence isbn) {
+        return isAssigned(isbn, 0, isbn.length());
+    }
+
+    /**
+     * Checks if the ISBN in the given range of a character sequence is valid and falls into a range that is assigned
+     * to a registrant.
+     *
+     * @param isbn The character sequence that contains the ISBN-10 or ISBN-13.
+     * @param from The index of the first character of the ISBN (inclusive).
+     * @param to   The index of the last character of the ISBN (exclusive).
+     * @return {@code true} if the ISBN is valid and assigned, {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     */
+    public boolean isAssigned(CharSequence isbn, int from, int to) {
+        return find(isbn, from, to) >= 0;
+    }
+
+    /**
+     * Gets the name of the registration group of the ISBN in the given range of a character sequence,
+     * usually a language or a country.
+     *
+     * @param isbn The character sequence that contains the ISBN-10 or ISBN-13.
+     * @param from The index of the first character of the ISBN (inclusive).
+     * @param to   The index of the last character of the ISBN (exclusive).
+     * @return The name of the registration group, or {@code null} if the ISBN is invalid or unassigned.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     */
+    public String getAgency(CharSequence isbn, int from, int to) {
+        int index = find(isbn, from, to);
+        return index < 0 ? null : agencies[index];
+    }
+
+    /**
+     * Splits the ISBN in the given range of a character sequence into its elements.
+     * The lengths of the elements are stored at the indexes {@link #PREFIX}, {@link #GROUP}, {@link #REGISTRANT},
+     * {@link #PUBLICATION} and {@link #CHECK_DIGIT} of the given array. The length of the prefix of an ISBN-10 is 0.
+     *
+     * @param isbn    The character sequence that contains the ISBN-10 or ISBN-13.
+     * @param from    The index of the first character of the ISBN (inclusive).
+     * @param to      The index of the last character of the ISBN (exclusive).
+     * @param lengths The array that receives the lengths of the elements, at least 5 long.
+     * @return {@code true} if the ISBN is valid and assigned, {@code false} otherwise, in which case the array isn't changed.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence or the array is too small.
+     */
+    public boolean split(CharSequence isbn, int from, int to, int[] lengths) {
+        Objects.checkIndex(CHECK_DIGIT, lengths.length);
+        int index = find(isbn, from, to);
+        if (index < 0) {
+            return false;
+        }
+
+        lengths[PREFIX] = isISBN13(isbn, from, to) ? EAN_LENGTH : 0;
+        lengths[GROUP] = groupLengths[index];
+        lengths[REGISTRANT] = registrantLengths[index];
+        lengths[PUBLICATION] = BODY_LENGTH - EAN_LENGTH - groupLengths[index] - registrantLengths[index];
+        lengths[CHECK_DIGIT] = 1;
+        return true;
+    }
+
+    /**
+     * Hyphenates an ISBN, e.g. {@code 9780596520687} becomes {@code 978-0-596-52068-7}.
+     *
+     * @param isbn   The ISBN-10 or ISBN-13 to hyphenate.
+     * @param out    The array that receives the hyphenated ISBN, an ISBN-10 stays an ISBN-10.
+     * @param offset The index of the first character to write.
+     * @return The number of characters written, or -1 if the ISBN is invalid or unassigned.
+     * @throws IndexOutOfBoundsException if the output array is too small.
+     */
+    public int hyphenate(CharSequence isbn, char[] out, int offset) {
+        return hyphenate(isbn, 0, isbn.length(), out, offset);
+    }
+
+    /**
+     * Hyphenates the ISBN in the given range of a character sequence, e.g. {@code 9780596520687} becomes
+     * {@code 978-0-596-52068-7}.
+     *
+     * @param isbn   The character sequence that contains the ISBN-10 or ISBN-13.
+     * @param from   The index of the first character of the ISBN (inclusive).
+     * @param to     The index of the last character of the ISBN (exclusive).
+     * @param out    The array that receives the hyphenated ISBN, an ISBN-10 stays an ISBN-10.
+     * @param offset The index of the first character to write.
+     * @return The number of characters written, or -1 if the ISBN is invalid or unassigned.
+     * @throws IndexOutOfBoundsException if the input range is out of bounds or the output array is too small.
+     */
+    public int hyphenate(CharSequence isbn, int from, int to, char[] out, int offset) {
+        int index = find(isbn, from, to);
+        if (index < 0) {
+            return -1;
+        }
+
+        boolean isbn13 = isISBN13(isbn, from, to);
+        int length = isbn13 ? MAX_HYPHENATED_LENGTH : MAX_HYPHENATED_LENGTH - EAN_LENGTH - 1;
+        Objects.checkFromIndexSize(offset, length, out.length);
+
+        int groupEnd = EAN_LENGTH + groupLengths[index];
+        int registrantEnd = groupEnd + registrantLengths[index];
+        int position = offset;
+        int digits = isbn13 ? 0 : EAN_LENGTH;
+
+        for (int i = ISBNValidator.skipPrefix(isbn, from, to); i < to; i++) {
+            char c = isbn.charAt(i);
+            if ((c < '0' || c > '9') && c != 'X') {
+                continue;
+            }
+            if (digits == EAN_LENGTH && isbn13 || digits == groupEnd || digits == registrantEnd || digits == BODY_LENGTH) {
+                out[position++] = '-';
+            }
+            out[position++] = c;
+            digits++;
+        }
+        return length;
+    }
+
+    // Helper function to find the interval of an ISBN, or -1 if the ISBN is invalid or unassigned.
+    private int find(CharSequence isbn, int from, int to) {
+        Objects.checkFromToIndex(from, to, isbn.length());
+        ISBNFormat format = ISBNValidator.formatOf(isbn, from, to);
+        if (format == ISBNFormat.INVALID) {
+            return -1;
+        }
+
+        long body = format == ISBNFormat.ISBN_10 ? 978 : 0;
+        int digits = format == ISBNFormat.ISBN_10 ? EAN_LENGTH : 0;
+        for (int i = ISBNValidator.skipPrefix(isbn, from, to); i < to && digits < BODY_LENGTH; i++) {
+            char c = isbn.charAt(i);
+            if (c >= '0' && c <= '9') {
+                body = body * 10 + (c - '0');
+                digits++;
+            }
+        }
+
+        int low = 0;
+        int high = starts.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (starts[middle] <= body) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high >= 0 && body <= ends[high] ? high : -1;
+    }
+
+    // Helper function to check if a valid ISBN is an ISBN-13.
+    private static boolean isISBN13(CharSequence isbn, int from, int to) {
+        return ISBNValidator.formatOf(isbn, from, to) == ISBNFormat.ISBN_13;
+    }
+
+    // Helper function to read the registration groups of a range file and compile their rules into sorted intervals.
+    private static ISBNRanges parse(InputStream rangeMessage) throws XMLStreamException {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        XMLStreamReader reader = factory.createXMLStreamReader(rangeMessage);
+
+        List<Interval> intervals = new ArrayList<>();
+        String messageDate = null;
+        String prefix = null;
+        String agency = null;
+        String range = null;
+        boolean inGroup = false;
+
+        try {
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    switch (reader.getLocalName()) {
+                        case "Group" -> inGroup = true;
+                        case "MessageDate" -> messageDate = reader.getElementText().trim();
+                        case "Prefix" -> prefix = reader.getElementText().trim();
+                        case "Agency" -> agency = reader.getElementText().trim().intern();
+                        case "Range" -> range = reader.getElementText().trim();
+                        case "Length" -> {
+                            int length = Integer.parseInt(reader.getElementText().trim());
+                            if (inGroup && length > 0) {
+                                intervals.add(Interval.of(prefix, agency, range, length));
+                            }
+                        }
+                        default -> {
+                        }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && reader.getLocalName().equals("Group")) {
+                    inGroup = false;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+
+        intervals.sort(Comparator.comparingLong(interval -> interval.start));
+        for (int i = 1; i < intervals.size(); i++) {
+            if (intervals.get(i).start <= intervals.get(i - 1).end) {
+                throw new IllegalArgumentException("Overlapping ISBN ranges in group " + intervals.get(i).agency);
+            }
+        }
+        return new ISBNRanges(messageDate, intervals);
+    }
+
+    /**
+     * A range of registrants of a registration group, as an interval over the first twelve digits of the ISBN-13.
+     */
+    private record Interval(long start, long end, int groupLength, int registrantLength, String agency) {
+
+        // Helper function to convert a rule of a registration group, e.g. "978-0", "0000000-1999999" and 2.
+        private static Interval of(String prefix, String agency, String range, int registrantLength) {
+            int separator = prefix.indexOf('-');
+            int groupLength = prefix.length() - separator - 1;
+            int remaining = BODY_LENGTH - EAN_LENGTH - groupLength;
+            if (separator != EAN_LENGTH || registrantLength >= remaining || range.length() != 2 * RANGE_DIGITS + 1) {
+                throw new IllegalArgumentException("Invalid ISBN range " + prefix + " " + range);
+            }
+
+            long group = Long.parseLong(prefix.substring(0, separator) + prefix.substring(separator + 1));
+            long low = Long.parseLong(range.substring(0, RANGE_DIGITS));
+            long high = Long.parseLong(range.substring(RANGE_DIGITS + 1));
+
+            // The rules always use seven digits, scale them to the number of digits left after the group
+            if (remaining >= RANGE_DIGITS) {
+                long scale = POWERS_OF_TEN[remaining - RANGE_DIGITS];
+                low *= scale;
+                high = high * scale + scale - 1;
+            } else {
+                long scale = POWERS_OF_TEN[RANGE_DIGITS - remaining];
+                low /= scale;
+                high /= scale;
+            }
+
+            long base = group * POWERS_OF_TEN[remaining];
+            return new Interval(base + low, base + high, groupLength, registrantLength, agency);
+        }
+
+    }
+
+    /**
+     * Holder of the bundled ranges, read the first time they are needed.
+     */
+    private static final class Bundled {
+
+        private static final ISBNRanges INSTANCE = loadBundled();
+
+        // Helper function to read the range file bundled next to this class.
+        private static ISBNRanges loadBundled() {
+            try (InputStream in = ISBNRanges.class.getResourceAsStream(RESOURCE)) {
+                if (in == null) {
+                    throw new IllegalStateException("The bundled " + RESOURCE + " is missing");
+                }
+                return load(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+    }
+
+}
@@ -4,9 +4,10 @@ import com.checkmate.checksum.ISBN10Checksum;
 import com.checkmate.checksum.ISBN13Checksum;
 import com.checkmate.exceptions.isbn.EmptyISBNException;
 import com.checkmate.exceptions.isbn.NullISBNException;
+import com.checkmate.validation.ValidationResult;
 import com.checkmate.validation.Validator;
 
-import java.util.regex.Pattern;
+import java.util.Objects;
 
 /**
  * The ISBNValidator class provides validations for ISBN-10 and ISBN-13 numbers.
@@ -20,18 +21,25 @@ import java.util.regex.Pattern;
  */
 public class ISBNValidator implements Validator<String> {
 
-    private static final ISBNValidator instance = new ISBNValidator();
+    private static final ISBNValidator instance = new ISBNValidator(false);
+    private static final ISBNValidator stacklessInstance = new ISBNValidator(true);
+    private final boolean stackless;
 
     /**
      * Private constructor for the ISBNValidator class
      */
-    private ISBNValidator() {
+    private ISBNValidator(boolean stackless) {
+        this.stackless = stackless;
     }
 
-    private static final String ISBN10_REGEX = "^(?:ISBN(?:-10)?:?|-)?(?=[0-9X]{10}$|(?=(?:[0-9]+[-]){3})[-0-9X]{13}$)[0-9]{1,5}[-]?[0-9]+[-]?[0-9]+[-]?[0-9X]$";
-    private static final String ISBN13_REGEX = "^(?:ISBN(?:-13)?:?|-)?(?=[0-9]{13}$|(?=(?:[0-9]+[-]){4})[-0-9]{17}$)97[89][-]?[0-9]{1,5}[-]?[0-9]+[-]?[0-9]+[-]?[0-9]$";
-    private static final Pattern ISBN10_PATTERN = Pattern.compile(ISBN10_REGEX);
-    private static final Pattern ISBN13_PATTERN = Pattern.compile(ISBN13_REGEX);
+    private static final String PREFIX = "ISBN-1";
+    private static final int ISBN10_LENGTH = 10;
+    private static final int ISBN13_LENGTH = 13;
+    private static final int ISBN13_PREFIX_LENGTH = 3;
+    // Failure codes of a scan, from the least to the most specific
+    private static final int INVALID_LENGTH = -1;
+    private static final int INVALID_FORMAT = -2;
+    private static final int INVALID_CHECKSUM = -3;
 
     /**
      * Gets the singleton instance of the ISBNValidator.
@@ -42,6 +50,17 @@ public class ISBNValidator implements Validator<String> {
         return instance;
     }
 
+    /**
+     * Gets the instance of the ISBNValidator that throws shared exceptions without a stack trace for null and empty values,
+     * for callers that expect many missing values and don't need to know where they were found.
+     *
+     * @return The stackless instance of the ISBNValidator.
+     * @since 1.2.0
+     */
+    public static ISBNValidator getStacklessInstance() {
+        return stacklessInstance;
+    }
+
     /**
      * Checks if the given ISBN matches either the ISBN-10 or ISBN-13 standard. <br>
      *
@@ -53,7 +72,95 @@ public class ISBNValidator implements Validator<String> {
      */
     @Override
     public boolean isValid(String isbn) {
-        return isValidISBN10(isbn) || isValidISBN13(isbn);
+        if (isNullOrEmpty(isbn)) {
+            return false;
+        }
+
+        return scan(isbn, 0, isbn.length()) > 0;
+    }
+
+    /**
+     * Checks if the ISBN in the given range of a character sequence matches either the ISBN-10 or ISBN-13 standard. <br>
+     *
+     * @param isbn The character sequence that contains the ISBN.
+     * @param from The index of the first character of the ISBN (inclusive).
+     * @param to   The index of the last character of the ISBN (exclusive).
+     * @return {@code true} if the ISBN is valid, {@code false} otherwise.
+     * @throws NullISBNException         if the input ISBN is null.
+     * @throws EmptyISBNException        if the input ISBN is an empty string.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     * @since 1.2.0
+     */
+    @Override
+    public boolean isValid(CharSequence isbn, int from, int to) {
+        if (isNullOrEmpty(isbn, from, to)) {
+            return false;
+        }
+
+        return scan(isbn, from, to) > 0;
+    }
+
+    /**
+     * Determines whether the given ISBN is a valid ISBN-10 or ISBN-13 number, reading it only once. <br>
+     *
+     * @param isbn The ISBN to check.
+     * @return The standard that the ISBN matches, or {@link ISBNFormat#INVALID} if it matches neither.
+     * @throws NullISBNException  if the input ISBN is null.
+     * @throws EmptyISBNException if the input ISBN is an empty string.
+     * @since 1.2.0
+     */
+    public ISBNFormat getFormat(String isbn) {
+        if (isNullOrEmpty(isbn)) {
+            return ISBNFormat.INVALID;
+        }
+
+        return formatOf(scan(isbn, 0, isbn.length()));
+    }
+
+    /**
+     * Determines whether the ISBN in the given range of a character sequence is a valid ISBN-10 or ISBN-13 number,
+     * reading it only once. <br>
+     *
+     * @param isbn The character sequence that contains the ISBN.
+     * @param from The index of the first character of the ISBN (inclusive).
+     * @param to   The index of the last character of the ISBN (exclusive).
+     * @return The standard that the ISBN matches, or {@link ISBNFormat#INVALID} if it matches neither.
+     * @throws NullISBNException         if the input ISBN is null.
+     * @throws EmptyISBNException        if the input ISBN is an empty string.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     * @since 1.2.0
+     */
+    public ISBNFormat getFormat(CharSequence isbn, int from, int to) {
+        if (isNullOrEmpty(isbn, from, to)) {
+            return ISBNFormat.INVALID;
+        }
+
+        return formatOf(scan(isbn, from, to));
+    }
+
+    /**
+     * Checks if the ISBN in the given range of a character sequence matches either the ISBN-10 or ISBN-13 standard,
+     * without throwing an exception if it is missing. <br>
+     * When the ISBN matches neither standard, the result describes the standard that it is closer to.
+     *
+     * @param isbn The character sequence that contains the ISBN, can be {@code null}.
+     * @param from The index of the first character of the ISBN (inclusive).
+     * @param to   The index of the last character of the ISBN (exclusive).
+     * @return The outcome of the validation.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     * @since 1.2.0
+     */
+    @Override
+    public ValidationResult check(CharSequence isbn, int from, int to) {
+        if (isbn == null) {
+            return ValidationResult.NULL;
+        }
+        Objects.checkFromToIndex(from, to, isbn.length());
+        if (isBlank(isbn, from, to)) {
+            return ValidationResult.EMPTY;
+        }
+
+        return verify(isbn, from, to);
     }
 
     /**
@@ -66,13 +173,11 @@ public class ISBNValidator implements Validator<String> {
      * @since 1.1.0
      */
     public boolean isValidISBN10(String isbn) {
-        if (validateISBN10(isbn) == null) {
+        if (isNullOrEmpty(isbn)) {
             return false;
         }
 
-        isbn = generateCleanISBN(isbn);
-
-        return isbn.equals(ISBN10Checksum.getInstance().calculate(isbn.substring(0, 9)));
+        return scan(isbn, 0, isbn.length()) == ISBN10_LENGTH;
     }
 
     /**
@@ -85,13 +190,11 @@ public class ISBNValidator implements Validator<String> {
      * @since 1.1.0
      */
     public boolean isValidISBN13(String isbn) {
-        if (validateISBN13(isbn) == null) {
+        if (isNullOrEmpty(isbn)) {
             return false;
         }
 
-        isbn = generateCleanISBN(isbn);
-
-        return isbn.equals(ISBN13Checksum.getInstance().calculate(isbn.substring(0, 12)));
+        return scan(isbn, 0, isbn.length()) == ISBN13_LENGTH;
     }
 
     /**
@@ -114,9 +217,7 @@ public class ISBNValidator implements Validator<String> {
             return null;
         }
 
-        String cleanISBN = generateCleanISBN(isbn);
-
-        if (!ISBN10_PATTERN.matcher(cleanISBN).matches()) {
+        if (!isWellFormed(isbn, ISBN10_LENGTH)) {
             return null;
         }
 
@@ -143,9 +244,7 @@ public class ISBNValidator implements Validator<String> {
             return null;
         }
 
-        String cleanISBN = generateCleanISBN(isbn);
-
-        if (!ISBN13_PATTERN.matcher(cleanISBN).matches()) {
+        if (!isWellFormed(isbn, ISBN13_LENGTH)) {
             return null;
         }
 
@@ -154,15 +253,17 @@ public class ISBNValidator implements Validator<String> {
 
     // Helper function to replace the last character of the ISBN with the valid checksum digit.
     private String replaceWithValidChecksum(String isbn, int format) {
-        String cleanIsbn = isbn.replaceAll("[^0-9]", "");
-        String valid;
-
-        if (format == 10) {
-            valid = ISBN10Checksum.getInstance().calculate(cleanIsbn.substring(0, cleanIsbn.length() - 1));
-        } else {
-            valid = ISBN13Checksum.getInstance().calculate(cleanIsbn.substring(0, cleanIsbn.length() - 1));
+        StringBuilder payload = new StringBuilder(format - 1);
+        for (int i = skipPrefix(isbn, 0, isbn.length()); i < isbn.length() && payload.length() < format - 1; i++) {
+            char c = isbn.charAt(i);
+            if (c >= '0' && c <= '9') {
+                payload.append(c);
+            }
         }
 
+        String valid = format == 10 ? ISBN10Checksum.getInstance().calculate(payload.toString())
+                : ISBN13Checksum.getInstance().calculate(payload.toString());
+
         if (lastChar(valid) == lastChar(isbn)) {
             return isbn;
         }
@@ -181,10 +282,10 @@ public class ISBNValidator implements Validator<String> {
     @Override
     public boolean isNullOrEmpty(String isbn) {
         if (isbn == null) {
-            throw new NullISBNException("The ISBN cannot be null");
+            throw nullException();
         }
         if (isbn.trim().isEmpty()) {
-            throw new EmptyISBNException("The ISBN cannot be an empty string");
+            throw emptyException();
         }
 
         return false;
@@ -195,17 +296,177 @@ public class ISBNValidator implements Validator<String> {
         return input.charAt(input.length() - 1);
     }
 
-    // Helper function to remove anything other than digits and generate a clean isbn.
-    private String generateCleanISBN(String isbn) {
-        String cleanISBN;
-        if (isbn.toUpperCase().startsWith("ISBN-10") || isbn.toUpperCase().startsWith("ISBN-13")) {
-            cleanISBN = isbn.substring(7);
+    // Helper function to check if the characters in the given range are null or blank.
+    private boolean isNullOrEmpty(CharSequence isbn, int from, int to) {
+        if (isbn == null) {
+            throw nullException();
+        }
+        Objects.checkFromToIndex(from, to, isbn.length());
+        if (!isBlank(isbn, from, to)) {
+            return false;
+        }
+        throw emptyException();
+    }
+
+    // Helper function to check if the characters in the given range contain only whitespace.
+    private static boolean isBlank(CharSequence isbn, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (isbn.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Determines the standard that the ISBN in the given range matches, without checking for {@code null} or blank input.
+     *
+     * @param isbn The character sequence that contains the ISBN.
+     * @param from The index of the first character of the ISBN (inclusive).
+     * @param to   The index of the last character of the ISBN (exclusive).
+     * @return The standard that the ISBN matches, or {@link ISBNFormat#INVALID} if it matches neither.
+     */
+    static ISBNFormat formatOf(CharSequence isbn, int from, int to) {
+        return formatOf(scan(isbn, from, to));
+    }
+
+    // Helper function to get the standard that matches the result of the scan of an ISBN.
+    private static ISBNFormat formatOf(int scan) {
+        return switch (scan) {
+            case ISBN10_LENGTH -> ISBNFormat.ISBN_10;
+            case ISBN13_LENGTH -> ISBNFormat.ISBN_13;
+            default -> ISBNFormat.INVALID;
+        };
+    }
+
+    // Helper function to check the result of the scan of an ISBN.
+    private static ValidationResult verify(CharSequence isbn, int from, int to) {
+        int scan = scan(isbn, from, to);
+        return switch (scan) {
+            case INVALID_LENGTH -> ValidationResult.BAD_LENGTH;
+            case INVALID_FORMAT -> ValidationResult.BAD_FORMAT;
+            case INVALID_CHECKSUM -> ValidationResult.BAD_CHECKSUM;
+            default -> ValidationResult.VALID;
+        };
+    }
+
+    // Helper function to read an ISBN once, ignoring anything other than digits and X, and check it against both standards.
+    // Returns the length of the standard that the ISBN matches, or the code of the most specific failure of both standards.
+    private static int scan(CharSequence isbn, int from, int to) {
+        int count = 0;
+        int sum10 = 0;
+        int sum13 = 0;
+        int prefix = 0;
+        boolean misplacedX = false;
+        boolean anyX = false;
+
+        for (int i = skipPrefix(isbn, from, to); i < to; i++) {
+            char c = isbn.charAt(i);
+            int value;
+            if (c >= '0' && c <= '9') {
+                value = c - '0';
+            } else if (c == 'X') {
+                // Only the check digit of an ISBN-10 can be an X, an X after its 11th character is a length error
+                misplacedX |= count != ISBN10_LENGTH - 1 && count <= ISBN10_LENGTH;
+                anyX = true;
+                value = 10;
+            } else {
+                continue;
+            }
+
+            if (count < ISBN10_LENGTH) {
+                sum10 += value * (ISBN10_LENGTH - count);
+            }
+            if (count < ISBN13_LENGTH) {
+                sum13 += value * ((count % 2 == 0) ? 1 : 3);
+            }
+            if (count < ISBN13_PREFIX_LENGTH) {
+                prefix = prefix * 10 + value;
+            }
+            count++;
+        }
+
+        int isbn10;
+        if (misplacedX) {
+            isbn10 = INVALID_FORMAT;
+        } else if (count != ISBN10_LENGTH) {
+            isbn10 = INVALID_LENGTH;
+        } else if (sum10 % 11 != 0) {
+            isbn10 = INVALID_CHECKSUM;
+        } else {
+            return ISBN10_LENGTH;
+        }
+
+        int isbn13;
+        if (anyX) {
+            isbn13 = INVALID_FORMAT;
+        } else if (count != ISBN13_LENGTH) {
+            isbn13 = INVALID_LENGTH;
+        } else if (prefix != 978 && prefix != 979) {
+            isbn13 = INVALID_FORMAT;
+        } else if (sum13 % 10 != 0) {
+            isbn13 = INVALID_CHECKSUM;
         } else {
-            cleanISBN = isbn;
+            return ISBN13_LENGTH;
+        }
+
+        return Math.min(isbn10, isbn13);
+    }
+
+    // Helper function to check if an ISBN has the digits of the given standard, whatever its check digit.
+    private static boolean isWellFormed(CharSequence isbn, int length) {
+        int count = 0;
+        int prefix = 0;
+
+        for (int i = skipPrefix(isbn, 0, isbn.length()); i < isbn.length(); i++) {
+            char c = isbn.charAt(i);
+            if (c == 'X' && (length != ISBN10_LENGTH || count != ISBN10_LENGTH - 1)) {
+                return false;
+            }
+            if ((c < '0' || c > '9') && c != 'X') {
+                continue;
+            }
+
+            if (count < ISBN13_PREFIX_LENGTH) {
+                prefix = prefix * 10 + (c - '0');
+            }
+            count++;
         }
 
-        cleanISBN = cleanISBN.replaceAll("[^0-9X]", "");
-        return cleanISBN;
+        return count == length && (length == ISBN10_LENGTH || prefix == 978 || prefix == 979);
+    }
+
+    /**
+     * Skips the "ISBN-10" or "ISBN-13" prefix of an ISBN, if there is one.
+     *
+     * @param isbn The character sequence that contains the ISBN.
+     * @param from The index of the first character of the ISBN (inclusive).
+     * @param to   The index of the last character of the ISBN (exclusive).
+     * @return The index of the first character after the prefix, or {@code from} if there is no prefix.
+     */
+    static int skipPrefix(CharSequence isbn, int from, int to) {
+        int end = from + PREFIX.length();
+        if (end >= to) {
+            return from;
+        }
+        for (int i = 0; i < PREFIX.length(); i++) {
+            if (Character.toUpperCase(isbn.charAt(from + i)) != PREFIX.charAt(i)) {
+                return from;
+            }
+        }
+
+        char last = isbn.charAt(end);
+        return last == '0' || last == '3' ? end + 1 : from;
+    }
+
+    // Helper function to create the exception thrown for a null ISBN.
+    private NullISBNException nullException() {
+        return stackless ? NullISBNException.STACKLESS : new NullISBNException("The ISBN cannot be null");
+    }
+
+    // Helper function to create the exception thrown for an empty ISBN.
+    private EmptyISBNException emptyException() {
+        return stackless ? EmptyISBNException.STACKLESS : new EmptyISBNException("The ISBN cannot be an empty string");
     }
 
-}
\ No newline at end of file
+}
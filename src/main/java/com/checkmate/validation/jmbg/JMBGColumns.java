@@ -0,0 +1,111 @@
+package com.checkmate.validation.jmbg;
+
+/**
+ * <p>
+ * The JMBGColumns class holds the fields of a batch of JMBGs decoded by {@link JMBGDecoder#decode(CharSequence[], JMBGColumns)}
+ * in parallel primitive arrays, one array per field and one row per JMBG.
+ * </p>
+ * <p>
+ * The getters return the arrays themselves, not copies, so they can be scanned directly by analytics code
+ * and the same columns can be reused for many batches. The fields of an invalid JMBG are all set to 0,
+ * which is never a valid date of birth.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class JMBGColumns {
+
+    private final int[] birthDates;
+    private final byte[] regions;
+    private final short[] serials;
+    private final byte[] controlDigits;
+
+    /**
+     * Private constructor for the JMBGColumns class
+     */
+    private JMBGColumns(int size) {
+        this.birthDates = new int[size];
+        this.regions = new byte[size];
+        this.serials = new short[size];
+        this.controlDigits = new byte[size];
+    }
+
+    /**
+     * Creates columns with the given number of rows.
+     *
+     * @param size The number of rows.
+     * @return New columns with every row set to 0.
+     * @throws IllegalArgumentException if the size is negative.
+     */
+    public static JMBGColumns of(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The size cannot be negative");
+        }
+        return new JMBGColumns(size);
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return The number of rows.
+     */
+    public int size() {
+        return birthDates.length;
+    }
+
+    /**
+     * Gets the dates of birth, as numbers of the form {@code yyyymmdd}, or 0 for invalid JMBGs.
+     *
+     * @return The column of the dates of birth.
+     */
+    public int[] getBirthDates() {
+        return birthDates;
+    }
+
+    /**
+     * Gets the political regions of birth (0 - 99).
+     *
+     * @return The column of the political regions.
+     */
+    public byte[] getRegions() {
+        return regions;
+    }
+
+    /**
+     * Gets the serial numbers (0 - 999). Serial numbers below 500 belong to males, the others to females.
+     *
+     * @return The column of the serial numbers.
+     */
+    public short[] getSerials() {
+        return serials;
+    }
+
+    /**
+     * Gets the control digits (0 - 9).
+     *
+     * @return The column of the control digits.
+     */
+    public byte[] getControlDigits() {
+        return controlDigits;
+    }
+
+    /**
+     * Checks if the JMBG of the given row was valid.
+     *
+     * @param row The index of the row.
+     * @return {@code true} if the JMBG of the row was valid, {@code false} otherwise.
+     */
+    public boolean isValid(int row) {
+        return birthDates[row] != 0;
+    }
+
+    // Helper function to store the fields of a decoded JMBG into a row.
+    void set(int row, long decoded) {
+        boolean valid = JMBGDecoder.isValid(decoded);
+        birthDates[row] = valid ? JMBGDecoder.getBirthDate(decoded) : 0;
+        regions[row] = valid ? (byte) JMBGDecoder.getRegion(decoded) : 0;
+        serials[row] = valid ? (short) JMBGDecoder.getSerial(decoded) : 0;
+        controlDigits[row] = valid ? (byte) JMBGDecoder.getControlDigit(decoded) : 0;
+    }
+
+}
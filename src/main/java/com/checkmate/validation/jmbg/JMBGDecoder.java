@@ -0,0 +1,287 @@
+package com.checkmate.validation.jmbg;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * <p>
+ * The JMBGDecoder class extracts the fields of valid JMBG numbers: the date of birth, the political region,
+ * the sex, the serial number and the control digit.
+ * </p>
+ * <p>
+ * A decoded JMBG is packed into a single non-negative {@code long} that is read with the static accessors of this class,
+ * so decoding allocates nothing. Invalid JMBGs decode to {@link #INVALID}. Packed values of different dates of birth
+ * sort by the date of birth.
+ * </p>
+ *
+ * <pre>{@code
+ * long decoded = JMBGDecoder.getInstance().decode("0101006500006");
+ * if (JMBGDecoder.isValid(decoded)) {
+ *     int year = JMBGDecoder.getYear(decoded); // 2006
+ *     JMBGDecoder.Sex sex = JMBGDecoder.getSex(decoded); // MALE
+ * }
+ * }</pre>
+ *
+ * @since 1.2.0
+ */
+public final class JMBGDecoder {
+
+    /**
+     * The value of a JMBG that couldn't be decoded because it is missing or invalid.
+     */
+    public static final long INVALID = -1L;
+
+    private static final JMBGDecoder instance = new JMBGDecoder();
+
+    private static final int LENGTH = 13;
+    private static final int FEMALE_SERIAL = 500;
+
+    // The fields from the lowest to the highest bits, so that the date of birth takes the highest bits.
+    private static final int CONTROL_SHIFT = 0;
+    private static final int SERIAL_SHIFT = 4;
+    private static final int REGION_SHIFT = 14;
+    private static final int DAY_SHIFT = 21;
+    private static final int MONTH_SHIFT = 26;
+    private static final int YEAR_SHIFT = 30;
+    private static final long CONTROL_MASK = 0xF;
+    private static final long SERIAL_MASK = 0x3FF;
+    private static final long REGION_MASK = 0x7F;
+    private static final long DAY_MASK = 0x1F;
+    private static final long MONTH_MASK = 0xF;
+    private static final long YEAR_MASK = 0xFFF;
+
+    /**
+     * Private constructor for the JMBGDecoder class
+     */
+    private JMBGDecoder() {
+    }
+
+    /**
+     * Gets the singleton instance of the JMBGDecoder.
+     *
+     * @return The singleton instance of the JMBGDecoder.
+     */
+    public static JMBGDecoder getInstance() {
+        return instance;
+    }
+
+    /**
+     * Decodes the given JMBG.
+     *
+     * @param jmbg The JMBG to decode, can be {@code null}.
+     * @return The packed fields of the JMBG, or {@link #INVALID} if the JMBG is missing or invalid.
+     */
+    public long decode(CharSequence jmbg) {
+        return jmbg == null ? INVALID : decode(jmbg, 0, jmbg.length());
+    }
+
+    /**
+     * Decodes the JMBG in the given range of a character sequence.
+     *
+     * @param jmbg The character sequence that contains the JMBG, can be {@code null}.
+     * @param from The index of the first character of the JMBG (inclusive).
+     * @param to   The index of the last character of the JMBG (exclusive).
+     * @return The packed fields of the JMBG, or {@link #INVALID} if the JMBG is missing or invalid.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     */
+    public long decode(CharSequence jmbg, int from, int to) {
+        if (jmbg == null) {
+            return INVALID;
+        }
+        Objects.checkFromToIndex(from, to, jmbg.length());
+        if (to - from != LENGTH) {
+            return INVALID;
+        }
+
+        int sum = JMBGValidator.weightedSum(jmbg, from);
+        if (sum < 0 || jmbg.charAt(to - 1) != JMBGValidator.checkDigit(sum)) {
+            return INVALID;
+        }
+
+        long day = number(jmbg, from, 2);
+        long month = number(jmbg, from + 2, 2);
+        long year = JMBGValidator.fullYear(number(jmbg, from + 4, 3));
+        long region = number(jmbg, from + 7, 2);
+        long serial = number(jmbg, from + 9, 3);
+        long control = number(jmbg, from + 12, 1);
+
+        return year << YEAR_SHIFT | month << MONTH_SHIFT | day << DAY_SHIFT
+                | region << REGION_SHIFT | serial << SERIAL_SHIFT | control << CONTROL_SHIFT;
+    }
+
+    /**
+     * Decodes every JMBG of the given array into packed values.
+     *
+     * @param jmbgs   The JMBGs to decode, can contain {@code null}s.
+     * @param decoded The array in which {@code decoded[i]} is set to the packed fields of {@code jmbgs[i]},
+     *                or {@link #INVALID}.
+     * @return The number of valid JMBGs.
+     * @throws IllegalArgumentException if the arrays don't have the same length.
+     */
+    public int decode(CharSequence[] jmbgs, long[] decoded) {
+        if (jmbgs.length != decoded.length) {
+            throw new IllegalArgumentException("The JMBGs and the decoded values must have the same length");
+        }
+
+        int valid = 0;
+        for (int i = 0; i < jmbgs.length; i++) {
+            decoded[i] = decode(jmbgs[i]);
+            if (decoded[i] != INVALID) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Decodes every JMBG of the given array into the columns of the given {@link JMBGColumns},
+     * starting from the first row.
+     *
+     * @param jmbgs   The JMBGs to decode, can contain {@code null}s.
+     * @param columns The columns in which row {@code i} receives the fields of {@code jmbgs[i]}.
+     * @return The number of valid JMBGs.
+     * @throws IllegalArgumentException if the columns have fewer rows than there are JMBGs.
+     */
+    public int decode(CharSequence[] jmbgs, JMBGColumns columns) {
+        if (jmbgs.length > columns.size()) {
+            throw new IllegalArgumentException("The columns must have at least as many rows as there are JMBGs");
+        }
+
+        int valid = 0;
+        for (int i = 0; i < jmbgs.length; i++) {
+            long decoded = decode(jmbgs[i]);
+            columns.set(i, decoded);
+            if (decoded != INVALID) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Checks if a packed value holds the fields of a valid JMBG.
+     *
+     * @param decoded The packed value returned by a decode method.
+     * @return {@code true} if the value isn't {@link #INVALID}, {@code false} otherwise.
+     */
+    public static boolean isValid(long decoded) {
+        return decoded >= 0;
+    }
+
+    /**
+     * Gets the day of birth of a decoded JMBG.
+     *
+     * @param decoded The packed fields of a valid JMBG.
+     * @return The day of birth (1 - 31).
+     */
+    public static int getDay(long decoded) {
+        return (int) (decoded >>> DAY_SHIFT & DAY_MASK);
+    }
+
+    /**
+     * Gets the month of birth of a decoded JMBG.
+     *
+     * @param decoded The packed fields of a valid JMBG.
+     * @return The month of birth (1 - 12).
+     */
+    public static int getMonth(long decoded) {
+        return (int) (decoded >>> MONTH_SHIFT & MONTH_MASK);
+    }
+
+    /**
+     * Gets the full year of birth of a decoded JMBG, e.g. 1999 for the digits 999 and 2001 for the digits 001.
+     *
+     * @param decoded The packed fields of a valid JMBG.
+     * @return The year of birth.
+     */
+    public static int getYear(long decoded) {
+        return (int) (decoded >>> YEAR_SHIFT & YEAR_MASK);
+    }
+
+    /**
+     * Gets the date of birth of a decoded JMBG as a number of the form {@code yyyymmdd}, e.g. {@code 20060101}.
+     *
+     * @param decoded The packed fields of a valid JMBG.
+     * @return The date of birth as a number.
+     */
+    public static int getBirthDate(long decoded) {
+        return getYear(decoded) * 10_000 + getMonth(decoded) * 100 + getDay(decoded);
+    }
+
+    /**
+     * Gets the date of birth of a decoded JMBG as a {@link LocalDate}. Unlike the other accessors, this method allocates.
+     *
+     * @param decoded The packed fields of a valid JMBG.
+     * @return The date of birth.
+     */
+    public static LocalDate getBirthLocalDate(long decoded) {
+        return LocalDate.of(getYear(decoded), getMonth(decoded), getDay(decoded));
+    }
+
+    /**
+     * Gets the political region of birth of a decoded JMBG.
+     *
+     * @param decoded The packed fields of a valid JMBG.
+     * @return The political region of birth (0 - 99).
+     */
+    public static int getRegion(long decoded) {
+        return (int) (decoded >>> REGION_SHIFT & REGION_MASK);
+    }
+
+    /**
+     * Gets the serial number of a decoded JMBG, which tells apart the persons with the same date and region of birth.
+     *
+     * @param decoded The packed fields of a valid JMBG.
+     * @return The serial number (0 - 999).
+     */
+    public static int getSerial(long decoded) {
+        return (int) (decoded >>> SERIAL_SHIFT & SERIAL_MASK);
+    }
+
+    /**
+     * Gets the sex of a decoded JMBG, from the range of its serial number.
+     *
+     * @param decoded The packed fields of a valid JMBG.
+     * @return {@link Sex#MALE} for the serial numbers 000 - 499, {@link Sex#FEMALE} for 500 - 999.
+     */
+    public static Sex getSex(long decoded) {
+        return getSerial(decoded) < FEMALE_SERIAL ? Sex.MALE : Sex.FEMALE;
+    }
+
+    /**
+     * Gets the control digit of a decoded JMBG.
+     *
+     * @param decoded The packed fields of a valid JMBG.
+     * @return The control digit (0 - 9).
+     */
+    public static int getControlDigit(long decoded) {
+        return (int) (decoded >>> CONTROL_SHIFT & CONTROL_MASK);
+    }
+
+    // Helper function to read a number of digits that are known to be valid.
+    private static int number(CharSequence jmbg, int from, int digits) {
+        int value = 0;
+        for (int i = from; i < from + digits; i++) {
+            value = value * 10 + (jmbg.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    /**
+     * The sex of the person that a JMBG was assigned to.
+     */
+    public enum Sex {
+
+        /**
+         * The serial number is in the range 000 - 499.
+         */
+        MALE,
+
+        /**
+         * The serial number is in the range 500 - 999.
+         */
+        FEMALE
+
+    }
+
+}
@@ -1,11 +1,11 @@
 package com.checkmate.validation.jmbg;
 
-import com.checkmate.checksum.JMBGChecksum;
 import com.checkmate.exceptions.jmbg.EmptyJMBGException;
 import com.checkmate.exceptions.jmbg.NullJMBGException;
+import com.checkmate.validation.ValidationResult;
 import com.checkmate.validation.Validator;
 
-import java.util.regex.Pattern;
+import java.util.Objects;
 
 
 /**
@@ -15,25 +15,23 @@ import java.util.regex.Pattern;
  * @since 1.1.0
  */
 public class JMBGValidator implements Validator<String> {
-    private static final JMBGValidator instance = new JMBGValidator();
+    private static final JMBGValidator instance = new JMBGValidator(false);
+    private static final JMBGValidator stacklessInstance = new JMBGValidator(true);
+    private final boolean stackless;
 
     /**
      * Private constructor for the JMBGValidator class
      */
-    private JMBGValidator() {
+    private JMBGValidator(boolean stackless) {
+        this.stackless = stackless;
     }
 
     private static final int LENGTH = 13;
-    private static final String DAY_OF_BIRTH_REGEX = "(0[1-9]|[12][0-9]|3[01])";
-    private static final String MONTH_OF_BIRTH_REGEX = "(0[1-9]|1[0-2])";
-    private static final String YEAR_OF_BIRTH_REGEX = "(\\d){3}";
-    private static final String POLITICAL_REGION_REGEX = "([0-9]{2})";
-    private static final String UNIQUE_NUMBER_OF_POLITICAL_REGION_REGEX = "([0-9]{3})";
-    private static final Pattern DAY_OF_BIRTH_PATTERN = Pattern.compile(DAY_OF_BIRTH_REGEX);
-    private static final Pattern MONTH_OF_BIRTH_PATTERN = Pattern.compile(MONTH_OF_BIRTH_REGEX);
-    private static final Pattern YEAR_OF_BIRTH_PATTERN = Pattern.compile(YEAR_OF_BIRTH_REGEX);
-    private static final Pattern POLITICAL_REGION_PATTERN = Pattern.compile(POLITICAL_REGION_REGEX);
-    private static final Pattern UNIQUE_NUMBER_OF_POLITICAL_REGION_PATTERN = Pattern.compile(UNIQUE_NUMBER_OF_POLITICAL_REGION_REGEX);
+    private static final int DATE_LENGTH = 7;
+    private static final int MODULUS = 11;
+    private static final int CENTURY_THRESHOLD = 800;
+    private static final int[] WEIGHTS = {7, 6, 5, 4, 3, 2, 7, 6, 5, 4, 3, 2};
+    private static final int[] DAYS_IN_MONTH = {0, 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
 
     /**
      * Gets the singleton instance of the JMBGValidator.
@@ -44,15 +42,27 @@ public class JMBGValidator implements Validator<String> {
         return instance;
     }
 
+    /**
+     * Gets the instance of the JMBGValidator that throws shared exceptions without a stack trace for null and empty values,
+     * for callers that expect many missing values and don't need to know where they were found.
+     *
+     * @return The stackless instance of the JMBGValidator.
+     * @since 1.2.0
+     */
+    public static JMBGValidator getStacklessInstance() {
+        return stacklessInstance;
+    }
+
     /**
      * <p>
      * Checks if the given JMBG satisfies all criteria. <br>
      * The criteria is the following:
      * </p>
      *     <ul>
-     *          <li>The first and second digits represent the day of birth (1 - 31)</li>
+     *          <li>The first and second digits represent the day of birth, which must exist in its month and year</li>
      *          <li>The third and fourth digits represent the month of birth (1 - 12)</li>
-     *          <li>The fifth, sixth and seventh digits represent the last 3 digits of the year of birth (ex. 001)</li>
+     *          <li>The fifth, sixth and seventh digits represent the last 3 digits of the year of birth
+     *          (ex. 001 for 2001, 999 for 1999)</li>
      *          <li>The eighth and ninth digits represent the political region of birth (00 - 99)</li>
      *          <li>The tenth, eleventh and twelfth digits represent the gender (000-499 for M, 500 - 999 for F)</li>
      *       </ul>
@@ -69,11 +79,56 @@ public class JMBGValidator implements Validator<String> {
      */
     @Override
     public boolean isValid(String jmbg) {
-        if (validate(jmbg) == null) {
+        if (isNullOrEmpty(jmbg)) {
+            return false;
+        }
+
+        return verify(jmbg, 0, jmbg.length()) == ValidationResult.VALID;
+    }
+
+    /**
+     * Checks if the JMBG in the given range of a character sequence satisfies all criteria.
+     * The criteria is the same as for {@link #isValid(String)}.
+     *
+     * @param jmbg The character sequence that contains the JMBG.
+     * @param from The index of the first character of the JMBG (inclusive).
+     * @param to   The index of the last character of the JMBG (exclusive).
+     * @return {@code true} if the JMBG is valid, {@code false} otherwise.
+     * @throws NullJMBGException         If the input JMBG is null.
+     * @throws EmptyJMBGException        if the input JMBG is an empty string.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     * @since 1.2.0
+     */
+    @Override
+    public boolean isValid(CharSequence jmbg, int from, int to) {
+        if (isNullOrEmpty(jmbg, from, to)) {
             return false;
         }
 
-        return jmbg.equals(JMBGChecksum.getInstance().calculate(jmbg.substring(0, 12)));
+        return verify(jmbg, from, to) == ValidationResult.VALID;
+    }
+
+    /**
+     * Checks if the JMBG in the given range of a character sequence is valid, without throwing an exception if it is missing.
+     *
+     * @param jmbg The character sequence that contains the JMBG, can be {@code null}.
+     * @param from The index of the first character of the JMBG (inclusive).
+     * @param to   The index of the last character of the JMBG (exclusive).
+     * @return The outcome of the validation.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     * @since 1.2.0
+     */
+    @Override
+    public ValidationResult check(CharSequence jmbg, int from, int to) {
+        if (jmbg == null) {
+            return ValidationResult.NULL;
+        }
+        Objects.checkFromToIndex(from, to, jmbg.length());
+        if (isBlank(jmbg, from, to)) {
+            return ValidationResult.EMPTY;
+        }
+
+        return verify(jmbg, from, to);
     }
 
     /**
@@ -93,16 +148,14 @@ public class JMBGValidator implements Validator<String> {
             return null;
         }
 
-        if (jmbg.length() != LENGTH) {
-            return null;
-        }
-        if (!substringsValid(jmbg)) {
+        int sum = jmbg.length() == LENGTH ? weightedSum(jmbg, 0) : -1;
+        if (sum < 0) {
             return null;
         }
 
-        String valid = JMBGChecksum.getInstance().calculate(jmbg.substring(0, 12));
-        if (!valid.equals(jmbg)) {
-            return valid;
+        char checksum = checkDigit(sum);
+        if (jmbg.charAt(LENGTH - 1) != checksum) {
+            return jmbg.substring(0, LENGTH - 1) + checksum;
         }
         return jmbg;
     }
@@ -119,26 +172,113 @@ public class JMBGValidator implements Validator<String> {
     @Override
     public boolean isNullOrEmpty(String jmbg) {
         if (jmbg == null) {
-            throw new NullJMBGException("JMBG cannot be null");
+            throw nullException();
         }
         if (jmbg.trim().isEmpty()) {
-            throw new EmptyJMBGException("JMBG cannot be empty");
+            throw emptyException();
         }
         return false;
     }
 
-    // Helper function to check substrings of a JMBG.
-    private boolean substringsValid(String jmbg) {
-        String dd = jmbg.substring(0, 2);
-        String mm = jmbg.substring(2, 4);
-        String yyy = jmbg.substring(4, 7);
-        String rr = jmbg.substring(7, 9);
-        String bbb = jmbg.substring(9, 12);
+    // Helper function to check if the characters in the given range are null or blank.
+    private boolean isNullOrEmpty(CharSequence jmbg, int from, int to) {
+        if (jmbg == null) {
+            throw nullException();
+        }
+        Objects.checkFromToIndex(from, to, jmbg.length());
+        if (!isBlank(jmbg, from, to)) {
+            return false;
+        }
+        throw emptyException();
+    }
+
+    // Helper function to check if the characters in the given range contain only whitespace.
+    private static boolean isBlank(CharSequence jmbg, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (jmbg.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Helper function to check the length, the fields and the checksum of a JMBG.
+    private ValidationResult verify(CharSequence jmbg, int from, int to) {
+        if (to - from != LENGTH) {
+            return ValidationResult.BAD_LENGTH;
+        }
+
+        int sum = weightedSum(jmbg, from);
+        char checksum = jmbg.charAt(to - 1);
+        if (sum < 0 || checksum < '0' || checksum > '9') {
+            return ValidationResult.BAD_FORMAT;
+        }
+
+        return checksum == checkDigit(sum) ? ValidationResult.VALID : ValidationResult.BAD_CHECKSUM;
+    }
+
+    /**
+     * Checks the digits and the date of birth of the first twelve characters of a JMBG and sums them with their weights.
+     *
+     * @param jmbg The character sequence that contains the JMBG.
+     * @param from The index of the first character of the JMBG.
+     * @return The weighted sum of the first twelve digits, or -1 if they aren't digits or don't form a valid date of birth.
+     */
+    static int weightedSum(CharSequence jmbg, int from) {
+        int sum = 0;
+        int date = 0;
+        for (int i = 0; i < LENGTH - 1; i++) {
+            int digit = jmbg.charAt(from + i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            if (i < DATE_LENGTH) {
+                date = date * 10 + digit;
+            }
+            sum += WEIGHTS[i] * digit;
+        }
 
-        return DAY_OF_BIRTH_PATTERN.matcher(dd).matches() && MONTH_OF_BIRTH_PATTERN.matcher(mm).matches()
-                && YEAR_OF_BIRTH_PATTERN.matcher(yyy).matches() && POLITICAL_REGION_PATTERN.matcher(rr).matches()
-                && UNIQUE_NUMBER_OF_POLITICAL_REGION_PATTERN.matcher(bbb).matches();
+        int day = date / 100_000;
+        int month = date / 1_000 % 100;
+        int year = date % 1_000;
+        return month >= 1 && month <= 12 && day >= 1 && day <= daysInMonth(month, year) ? sum : -1;
     }
 
+    // Helper function to get the number of days in a month, where the year is given by its last 3 digits.
+    private static int daysInMonth(int month, int year) {
+        int fullYear = fullYear(year);
+        boolean leap = fullYear % 4 == 0 && (fullYear % 100 != 0 || fullYear % 400 == 0);
+        return month == 2 && leap ? 29 : DAYS_IN_MONTH[month];
+    }
+
+    /**
+     * Gets the full year of birth from the last 3 digits of the year, e.g. 1999 for 999 and 2001 for 001.
+     *
+     * @param year The last 3 digits of the year of birth.
+     * @return The full year of birth.
+     */
+    static int fullYear(int year) {
+        return year < CENTURY_THRESHOLD ? 2000 + year : 1000 + year;
+    }
+
+    /**
+     * Gets the control digit for the weighted sum of the first twelve digits of a JMBG, which is 0 when the remainder is 0 or 1.
+     *
+     * @param sum The weighted sum returned by {@link #weightedSum(CharSequence, int)}.
+     * @return The control digit.
+     */
+    static char checkDigit(int sum) {
+        return (char) ('0' + (MODULUS - sum % MODULUS) % MODULUS % 10);
+    }
+
+    // Helper function to create the exception thrown for a null JMBG.
+    private NullJMBGException nullException() {
+        return stackless ? NullJMBGException.STACKLESS : new NullJMBGException("JMBG cannot be null");
+    }
+
+    // Helper function to create the exception thrown for an empty JMBG.
+    private EmptyJMBGException emptyException() {
+        return stackless ? EmptyJMBGException.STACKLESS : new EmptyJMBGException("JMBG cannot be empty");
+    }
 
-}
\ No newline at end of file
+}
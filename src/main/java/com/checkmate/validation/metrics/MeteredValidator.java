@@ -0,0 +1,225 @@
+package com.checkmate.validation.metrics;
+
+import com.checkmate.validation.ValidationResult;
+import com.checkmate.validation.Validator;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.lang.management.ManagementFactory;
+import java.util.Objects;
+
+/**
+ * <p>
+ * The MeteredValidator class wraps a validator and records the outcome and the latency of every validation
+ * into a {@link ValidatorMetrics}, which is registered as a platform MBean named
+ * {@code com.checkmate:type=Validator,name=<name>}.
+ * </p>
+ * <p>
+ * The instrumentation is opt-in: the validators of this library never record anything on their own,
+ * so only the validators that are wrapped pay for it. A MeteredValidator behaves exactly like the validator it wraps,
+ * including the exceptions it throws.
+ * </p>
+ * <p>
+ * Only the wrapped validator and the name are serialized. A deserialized MeteredValidator starts with new metrics,
+ * registered under the same name, so it can't be deserialized where the original is still registered.
+ * </p>
+ *
+ * <pre>{@code
+ * MeteredValidator<String> validator = MeteredValidator.of(IBANValidator.getInstance(), "iban");
+ * validator.isValid(iban);
+ * long badChecksums = validator.getMetrics().getBadChecksumCount();
+ * }</pre>
+ *
+ * @param <T> The type of object to be validated.
+ * @since 1.2.0
+ */
+public final class MeteredValidator<T> implements Validator<T> {
+
+    private static final String DOMAIN = "com.checkmate";
+
+    private final Validator<T> validator;
+    private final transient ValidatorMetrics metrics;
+    private final transient ObjectName objectName;
+
+    /**
+     * Private constructor for the MeteredValidator class
+     */
+    private MeteredValidator(Validator<T> validator, ValidatorMetrics metrics, ObjectName objectName) {
+        this.validator = validator;
+        this.metrics = metrics;
+        this.objectName = objectName;
+    }
+
+    /**
+     * Wraps the given validator and registers its metrics in the platform MBean server.
+     *
+     * @param validator The validator to instrument.
+     * @param name      The name of the metrics, unique among the metered validators.
+     * @param <T>       The type of object to be validated.
+     * @return A validator that records the outcome and the latency of every validation.
+     * @throws IllegalArgumentException if the name is not a valid MBean name.
+     * @throws IllegalStateException    if metrics with the same name are already registered.
+     */
+    public static <T> MeteredValidator<T> of(Validator<T> validator, String name) {
+        Objects.requireNonNull(validator, "The validator cannot be null");
+        Objects.requireNonNull(name, "The name cannot be null");
+
+        ObjectName objectName = objectNameOf(name);
+        ValidatorMetrics metrics = new ValidatorMetrics();
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, objectName);
+        } catch (InstanceAlreadyExistsException e) {
+            throw new IllegalStateException("Metrics named " + name + " are already registered", e);
+        } catch (JMException e) {
+            throw new IllegalStateException("The metrics named " + name + " could not be registered", e);
+        }
+        return new MeteredValidator<>(validator, metrics, objectName);
+    }
+
+    /**
+     * Gets the metrics of this validator.
+     *
+     * @return The metrics recorded since the validator was created or last reset.
+     */
+    public ValidatorMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Removes the metrics of this validator from the platform MBean server.
+     * The validator keeps recording, but the metrics are only reachable through {@link #getMetrics()}.
+     */
+    public void unregister() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(objectName);
+        } catch (InstanceNotFoundException e) {
+            // Already unregistered
+        } catch (JMException e) {
+            throw new IllegalStateException("The metrics could not be unregistered", e);
+        }
+    }
+
+    /**
+     * Validates the given object with the wrapped validator and records the outcome.
+     *
+     * @param input The object to be validated.
+     * @return {@code true} if the object is considered valid, {@code false} otherwise.
+     */
+    @Override
+    public boolean isValid(T input) {
+        long start = System.nanoTime();
+        if (input == null || input instanceof CharSequence) {
+            ValidationResult result = validator.check((CharSequence) input);
+            metrics.record(result, System.nanoTime() - start);
+            return result.isMissing() ? validator.isValid(input) : result.isValid();
+        }
+
+        boolean valid = validator.isValid(input);
+        metrics.record(valid ? ValidationResult.VALID : ValidationResult.BAD_FORMAT, System.nanoTime() - start);
+        return valid;
+    }
+
+    /**
+     * Validates the characters in the given range of a character sequence with the wrapped validator and records the outcome.
+     *
+     * @param input The character sequence that contains the object to be validated.
+     * @param from  The index of the first character to validate (inclusive).
+     * @param to    The index of the last character to validate (exclusive).
+     * @return {@code true} if the characters in the range are considered valid, {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     */
+    @Override
+    public boolean isValid(CharSequence input, int from, int to) {
+        ValidationResult result = check(input, from, to);
+        return result.isMissing() ? validator.isValid(input, from, to) : result.isValid();
+    }
+
+    /**
+     * Validates the given character sequence with the wrapped validator and records the outcome.
+     *
+     * @param input The character sequence to be validated, can be {@code null}.
+     * @return The outcome of the validation.
+     */
+    @Override
+    public ValidationResult check(CharSequence input) {
+        long start = System.nanoTime();
+        ValidationResult result = validator.check(input);
+        metrics.record(result, System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Validates the characters in the given range of a character sequence with the wrapped validator and records the outcome.
+     *
+     * @param input The character sequence that contains the object to be validated, can be {@code null}.
+     * @param from  The index of the first character to validate (inclusive).
+     * @param to    The index of the last character to validate (exclusive).
+     * @return The outcome of the validation.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     */
+    @Override
+    public ValidationResult check(CharSequence input, int from, int to) {
+        long start = System.nanoTime();
+        ValidationResult result = validator.check(input, from, to);
+        metrics.record(result, System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Checks if the given object is null or empty with the wrapped validator. Nothing is recorded.
+     *
+     * @param input The object to be checked.
+     * @return {@code true} if the object is null or empty, {@code false} otherwise.
+     */
+    @Override
+    public boolean isNullOrEmpty(T input) {
+        return validator.isNullOrEmpty(input);
+    }
+
+    // Helper function to serialize the validator and the name instead of the metrics.
+    private Object writeReplace() {
+        return new SerializedForm<>(validator, objectName.getKeyProperty("name"));
+    }
+
+    // Helper function to reject streams that bypass the serialized form.
+    private void readObject(ObjectInputStream stream) throws InvalidObjectException {
+        throw new InvalidObjectException("A MeteredValidator is deserialized from its serialized form");
+    }
+
+    // Helper function to build the MBean name of the metrics.
+    private static ObjectName objectNameOf(String name) {
+        try {
+            return new ObjectName(DOMAIN + ":type=Validator,name=" + name);
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalArgumentException("Invalid metrics name: " + name, e);
+        }
+    }
+
+    /**
+     * The serialized form of a MeteredValidator: the wrapped validator and the name, from which new metrics are registered.
+     */
+    private static final class SerializedForm<T> implements Serializable {
+
+        private final Validator<T> validator;
+        private final String name;
+
+        private SerializedForm(Validator<T> validator, String name) {
+            this.validator = validator;
+            this.name = name;
+        }
+
+        private Object readResolve() {
+            return MeteredValidator.of(validator, name);
+        }
+
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.checkmate.validation.metrics;
+
+import com.checkmate.validation.ValidationResult;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * The ValidatorMetrics class collects the outcomes and the latencies of the validations of a {@link MeteredValidator}. <br>
+ * Every outcome has its own {@link LongAdder}, so threads that validate at the same time don't contend on a single counter,
+ * and the latencies are recorded into a lock-free logarithmic histogram.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class ValidatorMetrics implements ValidatorMetricsMXBean {
+
+    private static final ValidationResult[] RESULTS = ValidationResult.values();
+
+    private final LongAdder[] counters = new LongAdder[RESULTS.length];
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    /**
+     * Constructs an empty set of metrics.
+     */
+    public ValidatorMetrics() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records the outcome and the latency of a single validation.
+     *
+     * @param result The outcome of the validation.
+     * @param nanos  The time the validation took, in nanoseconds.
+     */
+    public void record(ValidationResult result, long nanos) {
+        counters[result.ordinal()].increment();
+        latencies.record(nanos);
+    }
+
+    /**
+     * Gets the number of validations that had the given outcome.
+     *
+     * @param result The outcome of the validations.
+     * @return The number of validations with that outcome since the last reset.
+     */
+    public long getCount(ValidationResult result) {
+        return counters[result.ordinal()].sum();
+    }
+
+    /**
+     * Gets an upper bound of the latency below which the given fraction of the validations completed.
+     *
+     * @param quantile The fraction of the validations, between 0 and 1.
+     * @return The latency in nanoseconds, at most 25% above the exact value, or 0 if nothing was recorded.
+     */
+    public long getLatencyPercentileNanos(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("The quantile must be between 0 and 1");
+        }
+        return latencies.percentile(quantile);
+    }
+
+    @Override
+    public long getTotalCount() {
+        long total = 0;
+        for (LongAdder counter : counters) {
+            total += counter.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public long getValidCount() {
+        return getCount(ValidationResult.VALID);
+    }
+
+    @Override
+    public long getNullCount() {
+        return getCount(ValidationResult.NULL);
+    }
+
+    @Override
+    public long getEmptyCount() {
+        return getCount(ValidationResult.EMPTY);
+    }
+
+    @Override
+    public long getBadLengthCount() {
+        return getCount(ValidationResult.BAD_LENGTH);
+    }
+
+    @Override
+    public long getBadFormatCount() {
+        return getCount(ValidationResult.BAD_FORMAT);
+    }
+
+    @Override
+    public long getBadChecksumCount() {
+        return getCount(ValidationResult.BAD_CHECKSUM);
+    }
+
+    @Override
+    public long getLatencyP50Nanos() {
+        return latencies.percentile(0.5);
+    }
+
+    @Override
+    public long getLatencyP90Nanos() {
+        return latencies.percentile(0.9);
+    }
+
+    @Override
+    public long getLatencyP99Nanos() {
+        return latencies.percentile(0.99);
+    }
+
+    @Override
+    public long getLatencyP999Nanos() {
+        return latencies.percentile(0.999);
+    }
+
+    @Override
+    public void reset() {
+        for (LongAdder counter : counters) {
+            counter.reset();
+        }
+        latencies.reset();
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.checkmate.validation.metrics;
+
+/**
+ * The management interface of {@link ValidatorMetrics}, exposed through the platform MBean server
+ * under the name {@code com.checkmate:type=Validator,name=<name>}.
+ *
+ * @since 1.2.0
+ */
+public interface ValidatorMetricsMXBean {
+
+    /**
+     * Gets the number of validations since the last reset.
+     *
+     * @return The total number of validations.
+     */
+    long getTotalCount();
+
+    /**
+     * Gets the number of valid values.
+     *
+     * @return The number of validations that returned {@code VALID}.
+     */
+    long getValidCount();
+
+    /**
+     * Gets the number of {@code null} values.
+     *
+     * @return The number of validations that returned {@code NULL}.
+     */
+    long getNullCount();
+
+    /**
+     * Gets the number of empty or blank values.
+     *
+     * @return The number of validations that returned {@code EMPTY}.
+     */
+    long getEmptyCount();
+
+    /**
+     * Gets the number of values with a bad length.
+     *
+     * @return The number of validations that returned {@code BAD_LENGTH}.
+     */
+    long getBadLengthCount();
+
+    /**
+     * Gets the number of values with a bad format.
+     *
+     * @return The number of validations that returned {@code BAD_FORMAT}.
+     */
+    long getBadFormatCount();
+
+    /**
+     * Gets the number of values with a bad checksum.
+     *
+     * @return The number of validations that returned {@code BAD_CHECKSUM}.
+     */
+    long getBadChecksumCount();
+
+    /**
+     * Gets the median latency of a validation.
+     *
+     * @return The 50th percentile of the latency, in nanoseconds.
+     */
+    long getLatencyP50Nanos();
+
+    /**
+     * Gets the 90th percentile of the latency of a validation.
+     *
+     * @return The 90th percentile of the latency, in nanoseconds.
+     */
+    long getLatencyP90Nanos();
+
+    /**
+     * Gets the 99th percentile of the latency of a validation.
+     *
+     * @return The 99th percentile of the latency, in nanoseconds.
+     */
+    long getLatencyP99Nanos();
+
+    /**
+     * Gets the 99.9th percentile of the latency of a validation.
+     *
+     * @return The 99.9th percentile of the latency, in nanoseconds.
+     */
+    long getLatencyP999Nanos();
+
+    /**
+     * Clears all the counters and the latency histogram.
+     */
+    void reset();
+
+}
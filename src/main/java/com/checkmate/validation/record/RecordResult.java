@@ -0,0 +1,61 @@
+package com.checkmate.validation.record;
+
+import com.checkmate.validation.ValidationResult;
+
+/**
+ * The RecordResult class holds the outcome of a record validated by a {@link RecordValidator}:
+ * the position of the field that failed and the reason it failed.
+ *
+ * @since 1.2.0
+ */
+public final class RecordResult {
+
+    static final RecordResult VALID = new RecordResult(-1, ValidationResult.VALID);
+    static final RecordResult NULL = new RecordResult(-1, ValidationResult.NULL);
+
+    private final int position;
+    private final ValidationResult result;
+
+    /**
+     * Package-private constructor for the RecordResult class
+     */
+    RecordResult(int position, ValidationResult result) {
+        this.position = position;
+        this.result = result;
+    }
+
+    /**
+     * Gets the zero-based position of the invalid field. When several fields of a record are invalid,
+     * only the one that was checked first is reported.
+     *
+     * @return The position of the invalid field, {@code -1} if the record is valid or {@code null}.
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Gets the result of the validation of the invalid field.
+     *
+     * @return The result of the invalid field, {@link ValidationResult#VALID} if the record is valid
+     * and {@link ValidationResult#NULL} if the record is {@code null} or the field is missing.
+     */
+    public ValidationResult getResult() {
+        return result;
+    }
+
+    /**
+     * Checks if every field of the record is valid.
+     *
+     * @return {@code true} if the record is valid, {@code false} otherwise.
+     */
+    public boolean isValid() {
+        return result.isValid();
+    }
+
+    @Override
+    public String toString() {
+        return "RecordResult{position=" + position + ", result=" + result + "}";
+    }
+
+}
@@ -0,0 +1,161 @@
+package com.checkmate.validation.record;
+
+import com.checkmate.validation.Validator;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>
+ * The RecordSchema class binds the fields of a record, such as a CSV line or an array of values, to the validators
+ * that check them. A schema is compiled into a {@link RecordValidator} that checks whole records at once.
+ * </p>
+ *
+ * <pre>{@code
+ * RecordValidator validator = RecordSchema.builder()
+ *         .field(0, IBANValidator.getInstance())
+ *         .field(2, EmailValidator.getInstance())
+ *         .field(3, JMBGValidator.getInstance())
+ *         .build()
+ *         .compile();
+ * }</pre>
+ *
+ * @since 1.2.0
+ */
+public final class RecordSchema {
+
+    private final int[] positions;
+    private final Validator<?>[] validators;
+    private final char delimiter;
+    private final boolean adaptive;
+
+    /**
+     * Private constructor for the RecordSchema class
+     */
+    private RecordSchema(Builder builder) {
+        this.positions = builder.fields.keySet().stream().mapToInt(Integer::intValue).toArray();
+        this.validators = builder.fields.values().toArray(new Validator<?>[0]);
+        this.delimiter = builder.delimiter;
+        this.adaptive = builder.adaptive;
+    }
+
+    /**
+     * Creates a builder for a RecordSchema.
+     *
+     * @return A new builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Compiles the schema into a validator of whole records. Every compiled validator learns its own order of the checks.
+     *
+     * @return A new RecordValidator.
+     */
+    public RecordValidator compile() {
+        return new RecordValidator(positions.clone(), validators.clone(), delimiter, adaptive);
+    }
+
+    /**
+     * Gets the positions of the validated fields, in the order they were added.
+     *
+     * @return The zero-based positions of the fields.
+     */
+    public int[] getPositions() {
+        return positions.clone();
+    }
+
+    /**
+     * Gets the character that separates the fields of a line.
+     *
+     * @return The field delimiter.
+     */
+    public char getDelimiter() {
+        return delimiter;
+    }
+
+    @Override
+    public String toString() {
+        return "RecordSchema{positions=" + Arrays.toString(positions) + ", delimiter=" + delimiter + ", adaptive=" + adaptive + "}";
+    }
+
+    /**
+     * The Builder class configures and creates {@link RecordSchema}s.
+     */
+    public static final class Builder {
+
+        private final Map<Integer, Validator<?>> fields = new LinkedHashMap<>();
+        private char delimiter = ',';
+        private boolean adaptive = true;
+
+        /**
+         * Private constructor for the Builder class
+         */
+        private Builder() {
+        }
+
+        /**
+         * Binds the field at the given position to a validator.
+         *
+         * @param position  The zero-based position of the field.
+         * @param validator The validator of the field.
+         * @return This builder.
+         * @throws IllegalArgumentException if the position is negative or already bound.
+         */
+        public Builder field(int position, Validator<?> validator) {
+            Objects.requireNonNull(validator, "The validator cannot be null");
+            if (position < 0) {
+                throw new IllegalArgumentException("The position cannot be negative");
+            }
+            if (fields.containsKey(position)) {
+                throw new IllegalArgumentException("The field at position " + position + " is already bound");
+            }
+            fields.put(position, validator);
+            return this;
+        }
+
+        /**
+         * Sets the character that separates the fields of a line. Defaults to {@code ','}.
+         *
+         * @param delimiter The field delimiter.
+         * @return This builder.
+         */
+        public Builder delimiter(char delimiter) {
+            if (delimiter == '\n' || delimiter == '\r' || delimiter == '"') {
+                throw new IllegalArgumentException("The delimiter cannot be a line break or a quote");
+            }
+            this.delimiter = delimiter;
+            return this;
+        }
+
+        /**
+         * Sets whether the compiled validators reorder the checks of the fields by their measured cost and rejection rate.
+         * Defaults to {@code true}, otherwise the fields are checked in the order they were added.
+         *
+         * @param adaptive {@code false} to keep the order of the fields.
+         * @return This builder.
+         */
+        public Builder adaptive(boolean adaptive) {
+            this.adaptive = adaptive;
+            return this;
+        }
+
+        /**
+         * Creates a RecordSchema with the current configuration.
+         *
+         * @return A new RecordSchema.
+         * @throws IllegalArgumentException if no field is bound.
+         */
+        public RecordSchema build() {
+            if (fields.isEmpty()) {
+                throw new IllegalArgumentException("The schema needs at least one field");
+            }
+            return new RecordSchema(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,364 @@
+package com.checkmate.validation.record;
+
+import com.checkmate.validation.ValidationResult;
+import com.checkmate.validation.Validator;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * The RecordValidator class checks every field of a record against the validator it is bound to by a {@link RecordSchema},
+ * and stops at the first invalid field. Records are either arrays of values or delimited lines, such as CSV lines.
+ * </p>
+ * <p>
+ * The fields of a line are split lazily in a single pass that is shared by every check, so a line that is rejected
+ * by its first fields is never split any further. A field wrapped in double quotes is validated without them;
+ * delimiters inside quoted fields are not supported. A missing field is reported as {@link ValidationResult#NULL}.
+ * </p>
+ * <p>
+ * An adaptive validator measures how long every check takes and how often it rejects a record on a small sample of
+ * the records, and checks the fields in the order that rejects invalid records at the lowest expected cost:
+ * by ascending cost per rejection. The order follows changes in the data, as older samples weigh less and less.
+ * When a record has several invalid fields, which one is reported therefore depends on the current order.
+ * </p>
+ * <p>
+ * Only the schema is serialized: a deserialized validator learns the order of the checks again.
+ * </p>
+ *
+ * <pre>{@code
+ * RecordResult result = validator.checkRecord("GB82 WEST 1234 5698 7654 32,4111 1111 1111 1111,jane@example.com");
+ * if (!result.isValid()) {
+ *     reject(result.getPosition(), result.getResult());
+ * }
+ * }</pre>
+ *
+ * @since 1.2.0
+ */
+public final class RecordValidator implements Validator<CharSequence[]> {
+
+    private static final int SAMPLE_RATE = 64;
+    private static final int WARMUP_SAMPLES = 64;
+    private static final int SAMPLES_PER_REORDER = 256;
+    private static final int SAMPLE_WINDOW = 4096;
+    private static final double MIN_REJECTION_RATE = 1e-4;
+    private static final ValidationResult[] RESULTS = ValidationResult.values();
+
+    private final int[] positions;
+    private final Validator<?>[] validators;
+    private final transient RecordResult[][] results;
+    private final char delimiter;
+    private final boolean adaptive;
+    private final transient int maxPosition;
+    private final transient Statistics statistics;
+    private transient volatile int[] order;
+    private transient volatile boolean warm;
+
+    /**
+     * Package-private constructor for the RecordValidator class
+     */
+    RecordValidator(int[] positions, Validator<?>[] validators, char delimiter, boolean adaptive) {
+        this.positions = positions;
+        this.validators = validators;
+        this.delimiter = delimiter;
+        this.adaptive = adaptive;
+        this.maxPosition = Arrays.stream(positions).max().orElse(0);
+        this.statistics = new Statistics(positions.length);
+        this.order = IntStream.range(0, positions.length).toArray();
+        this.warm = !adaptive;
+
+        this.results = new RecordResult[positions.length][RESULTS.length];
+        for (int field = 0; field < positions.length; field++) {
+            for (ValidationResult result : RESULTS) {
+                results[field][result.ordinal()] = result.isValid() ? RecordResult.VALID : new RecordResult(positions[field], result);
+            }
+        }
+    }
+
+    /**
+     * Validates a record made of an array of values. Positions beyond the end of the array are missing fields.
+     *
+     * @param record The values of the record, can be {@code null}.
+     * @return The outcome of the validation.
+     */
+    public RecordResult checkRecord(CharSequence[] record) {
+        if (record == null) {
+            return RecordResult.NULL;
+        }
+        return check(record, null);
+    }
+
+    /**
+     * Validates a record made of a delimited line. A trailing line break is ignored.
+     *
+     * @param line The line, can be {@code null}.
+     * @return The outcome of the validation.
+     */
+    public RecordResult checkRecord(CharSequence line) {
+        return line == null ? RecordResult.NULL : checkRecord(line, 0, line.length());
+    }
+
+    /**
+     * Validates a record made of the delimited line in the given range of a character sequence, without copying it.
+     * A trailing line break is ignored.
+     *
+     * @param input The character sequence that contains the line, can be {@code null}.
+     * @param from  The index of the first character of the line (inclusive).
+     * @param to    The index of the last character of the line (exclusive).
+     * @return The outcome of the validation.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     */
+    public RecordResult checkRecord(CharSequence input, int from, int to) {
+        if (input == null) {
+            return RecordResult.NULL;
+        }
+        Objects.checkFromToIndex(from, to, input.length());
+        if (to > from && input.charAt(to - 1) == '\n') {
+            to--;
+        }
+        if (to > from && input.charAt(to - 1) == '\r') {
+            to--;
+        }
+        return check(null, new Line(input, from, to, delimiter, maxPosition));
+    }
+
+    /**
+     * Checks if every field of a record made of an array of values is valid.
+     *
+     * @param input The values of the record.
+     * @return {@code true} if the record is valid, {@code false} otherwise, including when it is {@code null}.
+     */
+    @Override
+    public boolean isValid(CharSequence[] input) {
+        return checkRecord(input).isValid();
+    }
+
+    /**
+     * Checks if every field of the delimited line in the given range of a character sequence is valid.
+     *
+     * @param input The character sequence that contains the line.
+     * @param from  The index of the first character of the line (inclusive).
+     * @param to    The index of the last character of the line (exclusive).
+     * @return {@code true} if the record is valid, {@code false} otherwise, including when it is {@code null}.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     */
+    @Override
+    public boolean isValid(CharSequence input, int from, int to) {
+        return checkRecord(input, from, to).isValid();
+    }
+
+    /**
+     * Validates the delimited line in the given range of a character sequence.
+     * Use {@link #checkRecord(CharSequence, int, int)} to also get the position of the invalid field.
+     *
+     * @param input The character sequence that contains the line, can be {@code null}.
+     * @param from  The index of the first character of the line (inclusive).
+     * @param to    The index of the last character of the line (exclusive).
+     * @return The result of the first invalid field, {@link ValidationResult#VALID} if the record is valid.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character sequence.
+     */
+    @Override
+    public ValidationResult check(CharSequence input, int from, int to) {
+        return checkRecord(input, from, to).getResult();
+    }
+
+    @Override
+    public boolean isNullOrEmpty(CharSequence[] input) {
+        return input == null || input.length == 0;
+    }
+
+    /**
+     * Gets the positions of the fields in the order they are currently checked.
+     *
+     * @return The zero-based positions of the fields.
+     */
+    public int[] getOrder() {
+        int[] current = order;
+        int[] order = new int[current.length];
+        for (int i = 0; i < current.length; i++) {
+            order[i] = positions[current[i]];
+        }
+        return order;
+    }
+
+    // Helper function to check the fields of a record in the current order, on a sample of the records
+    // every field is checked and measured.
+    private RecordResult check(CharSequence[] record, Line line) {
+        if (adaptive && (!warm || ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0)) {
+            return sample(record, line);
+        }
+
+        for (int field : order) {
+            ValidationResult result = checkField(field, record, line);
+            if (!result.isValid()) {
+                return results[field][result.ordinal()];
+            }
+        }
+        return RecordResult.VALID;
+    }
+
+    // Helper function to check every field of a record and record the cost and the outcome of the checks.
+    private RecordResult sample(CharSequence[] record, Line line) {
+        int[] current = order;
+        long[] costs = new long[current.length];
+        boolean[] rejected = new boolean[current.length];
+        RecordResult first = RecordResult.VALID;
+
+        for (int field : current) {
+            long start = System.nanoTime();
+            ValidationResult result = checkField(field, record, line);
+            costs[field] = System.nanoTime() - start;
+            if (!result.isValid()) {
+                rejected[field] = true;
+                if (first.isValid()) {
+                    first = results[field][result.ordinal()];
+                }
+            }
+        }
+
+        int[] reordered = statistics.add(costs, rejected);
+        if (reordered != null) {
+            order = reordered;
+            warm = true;
+        }
+        return first;
+    }
+
+    // Helper function to check a single field of a record.
+    private ValidationResult checkField(int field, CharSequence[] record, Line line) {
+        int position = positions[field];
+        if (line != null) {
+            return line.check(position, validators[field]);
+        }
+        return validators[field].check(position < record.length ? record[position] : null);
+    }
+
+    // Helper function to serialize the schema instead of the learned order.
+    private Object writeReplace() {
+        return new SerializedForm(positions, validators, delimiter, adaptive);
+    }
+
+    // Helper function to reject streams that bypass the serialized form.
+    private void readObject(ObjectInputStream stream) throws InvalidObjectException {
+        throw new InvalidObjectException("A RecordValidator is deserialized from its serialized form");
+    }
+
+    /**
+     * A delimited line whose fields are split lazily, up to the last field that was asked for.
+     */
+    private static final class Line {
+
+        private final CharSequence input;
+        private final int to;
+        private final char delimiter;
+        private final int[] starts;
+        private int split;
+
+        private Line(CharSequence input, int from, int to, char delimiter, int maxPosition) {
+            this.input = input;
+            this.to = to;
+            this.delimiter = delimiter;
+            this.starts = new int[maxPosition + 2];
+            this.starts[0] = from;
+        }
+
+        private ValidationResult check(int position, Validator<?> validator) {
+            while (split <= position && starts[split] <= to) {
+                int i = starts[split];
+                while (i < to && input.charAt(i) != delimiter) {
+                    i++;
+                }
+                starts[++split] = i + 1;
+            }
+            if (split <= position) {
+                return ValidationResult.NULL;
+            }
+
+            int from = starts[position];
+            int end = starts[position + 1] - 1;
+            if (end - from >= 2 && input.charAt(from) == '"' && input.charAt(end - 1) == '"') {
+                from++;
+                end--;
+            }
+            return validator.check(input, from, end);
+        }
+
+    }
+
+    /**
+     * The decaying cost and rejection totals of every field, and the order they lead to.
+     */
+    private static final class Statistics {
+
+        private final double[] costs;
+        private final double[] rejections;
+        private double samples;
+        private int samplesSinceReorder;
+
+        private Statistics(int fields) {
+            this.costs = new double[fields];
+            this.rejections = new double[fields];
+        }
+
+        // Returns the new order of the fields when it is time to reorder them, null otherwise.
+        private synchronized int[] add(long[] cost, boolean[] rejected) {
+            for (int field = 0; field < costs.length; field++) {
+                costs[field] += cost[field];
+                rejections[field] += rejected[field] ? 1 : 0;
+            }
+            samples++;
+            samplesSinceReorder++;
+
+            if (samples >= SAMPLE_WINDOW) {
+                for (int field = 0; field < costs.length; field++) {
+                    costs[field] /= 2;
+                    rejections[field] /= 2;
+                }
+                samples /= 2;
+            }
+
+            int interval = samples < SAMPLES_PER_REORDER ? WARMUP_SAMPLES : SAMPLES_PER_REORDER;
+            if (samplesSinceReorder < interval) {
+                return null;
+            }
+            samplesSinceReorder = 0;
+
+            double minRejections = MIN_REJECTION_RATE * samples;
+            return IntStream.range(0, costs.length).boxed()
+                    .sorted(Comparator.comparingDouble(field -> costs[field] / Math.max(rejections[field], minRejections)))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+    }
+
+    /**
+     * The serialized form of a RecordValidator: the fields, their validators, the delimiter and whether the order adapts.
+     */
+    private static final class SerializedForm implements Serializable {
+
+        private final int[] positions;
+        private final Validator<?>[] validators;
+        private final char delimiter;
+        private final boolean adaptive;
+
+        private SerializedForm(int[] positions, Validator<?>[] validators, char delimiter, boolean adaptive) {
+            this.positions = positions;
+            this.validators = validators;
+            this.delimiter = delimiter;
+            this.adaptive = adaptive;
+        }
+
+        private Object readResolve() {
+            return new RecordValidator(positions, validators, delimiter, adaptive);
+        }
+
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.checkmate.checksum;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChecksumAlgorithmTest {
+
+    @Test
+    void testLuhn() {
+        assertEquals("79927398713", ChecksumAlgorithm.LUHN.calculate("7992739871"));
+        assertTrue(ChecksumAlgorithm.LUHN.isValid("79927398713"));
+        assertFalse(ChecksumAlgorithm.LUHN.isValid("79927398710"));
+        assertFalse(ChecksumAlgorithm.LUHN.isValid("7992 7398 713"));
+        assertTrue(ChecksumAlgorithm.LUHN.ignoring(" ").isValid("7992 7398 713"));
+    }
+
+    @Test
+    void testISO7064() {
+        assertEquals("079X", ChecksumAlgorithm.ISO_7064_MOD_11_2.calculate("079"));
+        assertTrue(ChecksumAlgorithm.ISO_7064_MOD_11_2.ignoring("-").isValid("0000-0002-1825-0097"));
+        assertEquals("G123489654321Y", ChecksumAlgorithm.ISO_7064_MOD_37_2.calculate("G123489654321"));
+        assertEquals("79444", ChecksumAlgorithm.ISO_7064_MOD_97_10.calculate("794"));
+        assertTrue(ChecksumAlgorithm.ISO_7064_MOD_97_10_ALPHANUMERIC.isValid("WEST12345698765432GB82"));
+        assertTrue(ChecksumAlgorithm.ISO_7064_MOD_97_10_ALPHANUMERIC.isValid("west12345698765432gb82"));
+    }
+
+    @Test
+    void testISO7064SupplementaryCheckCharacter() {
+        assertTrue(ChecksumAlgorithm.ISO_7064_MOD_11_2.isValid("079X"));
+        assertFalse(ChecksumAlgorithm.ISO_7064_MOD_11_2.isValid("07X9"));
+        assertFalse(ChecksumAlgorithm.ISO_7064_MOD_11_2.isValid("X079X"));
+        assertThrows(IllegalArgumentException.class, () -> ChecksumAlgorithm.ISO_7064_MOD_11_2.calculate("07X"));
+        assertFalse(ChecksumAlgorithm.ISO_7064_MOD_37_2.isValid("G1234896*4321Y"));
+        assertFalse(ChecksumAlgorithm.ISO_7064_MOD_11_2.newState().update("079X0", 0, 5).isValid());
+    }
+
+    @Test
+    void testISO7064Hybrid() {
+        assertEquals("794623", ChecksumAlgorithm.ISO_7064_MOD_11_10.calculate("79462"));
+        assertTrue(ChecksumAlgorithm.ISO_7064_MOD_11_10.isValid("794623"));
+        assertFalse(ChecksumAlgorithm.ISO_7064_MOD_11_10.isValid("794633"));
+        assertFalse(ChecksumAlgorithm.ISO_7064_MOD_11_10.isValid("796423"));
+        assertEquals("A12425GABC1234002M", ChecksumAlgorithm.ISO_7064_MOD_37_36.calculate("A12425GABC1234002"));
+        assertTrue(ChecksumAlgorithm.ISO_7064_MOD_37_36.isValid("A12425GABC1234002M"));
+        assertFalse(ChecksumAlgorithm.ISO_7064_MOD_37_36.isValid("A12425GABC1234002N"));
+        assertThrows(IllegalArgumentException.class, () -> ChecksumAlgorithm.iso7064Hybrid("0"));
+    }
+
+    @Test
+    void testVerhoeff() {
+        assertEquals("2363", ChecksumAlgorithm.VERHOEFF.calculate("236"));
+        assertTrue(ChecksumAlgorithm.VERHOEFF.isValid("2363"));
+        assertFalse(ChecksumAlgorithm.VERHOEFF.isValid("2633"));
+        assertEquals("123456789010", ChecksumAlgorithm.VERHOEFF.calculate("12345678901"));
+    }
+
+    @Test
+    void testDamm() {
+        assertEquals("5724", ChecksumAlgorithm.DAMM.calculate("572"));
+        assertTrue(ChecksumAlgorithm.DAMM.isValid("5724"));
+        assertFalse(ChecksumAlgorithm.DAMM.isValid("5274"));
+    }
+
+    @Test
+    void testWeighted() {
+        ChecksumAlgorithm isbn10 = ISBN10Checksum.getInstance().getAlgorithm();
+        assertEquals("080442957X", isbn10.calculate("080442957"));
+        assertTrue(isbn10.isValid("0-8044-2957-X"));
+        assertFalse(isbn10.isValid("08044X9573"));
+        assertEquals("9780596520687", ISBN13Checksum.getInstance().calculate("978-0-596-52068"));
+        assertEquals("0101006500006", JMBGChecksum.getInstance().calculate("010100650000"));
+    }
+
+    @Test
+    void testISBNCalculateRemovesNonDigits() {
+        assertEquals("080442957X", ISBN10Checksum.getInstance().calculate("ISBN 0-8044-2957"));
+        assertEquals("080442957X", ISBN10Checksum.getInstance().calculate("0.8044.2957"));
+        assertEquals("9780596520687", ISBN13Checksum.getInstance().calculate("ISBN: 978 0 596 52068"));
+        assertEquals("9780596520687", ISBN13Checksum.getInstance().calculate("978/0/596/52068"));
+        assertThrows(IllegalArgumentException.class, () -> ISBN10Checksum.getInstance().calculate("ISBN"));
+        assertThrows(IllegalArgumentException.class, () -> ISBN13Checksum.getInstance().calculate(""));
+
+        assertThrows(IllegalArgumentException.class, () -> ISBN10Checksum.getInstance().getAlgorithm().calculate("0.8044.2957"));
+        assertThrows(IllegalArgumentException.class, () -> ISBN13Checksum.getInstance().getAlgorithm().calculate("978/0/596/52068"));
+    }
+
+    @Test
+    void testCalculatedInputsAreValid() {
+        ChecksumAlgorithm[] algorithms = {ChecksumAlgorithm.LUHN, ChecksumAlgorithm.VERHOEFF, ChecksumAlgorithm.DAMM,
+                ChecksumAlgorithm.ISO_7064_MOD_11_2, ChecksumAlgorithm.ISO_7064_MOD_11_10, ChecksumAlgorithm.ISO_7064_MOD_97_10, JMBGChecksum.getInstance().getAlgorithm(),
+                ISBN10Checksum.getInstance().getAlgorithm(), ISBN13Checksum.getInstance().getAlgorithm()};
+        SplittableRandom random = new SplittableRandom(7);
+
+        for (ChecksumAlgorithm algorithm : algorithms) {
+            for (int i = 0; i < 1000; i++) {
+                StringBuilder payload = new StringBuilder();
+                for (int length = 1 + random.nextInt(30); length > 0; length--) {
+                    payload.append((char) ('0' + random.nextInt(10)));
+                }
+
+                String valid = algorithm.calculate(payload);
+                assertTrue(algorithm.isValid(valid), valid);
+
+                char[] changed = valid.toCharArray();
+                int position = random.nextInt(changed.length);
+                changed[position] = (char) ('0' + (changed[position] - '0' + 1 + random.nextInt(9)) % 10);
+                if (changed[position] != valid.charAt(position) && algorithm != JMBGChecksum.getInstance().getAlgorithm()) {
+                    assertFalse(algorithm.isValid(new String(changed)), new String(changed));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testInvalidInput() {
+        assertFalse(ChecksumAlgorithm.LUHN.isValid(""));
+        assertFalse(ChecksumAlgorithm.LUHN.isValid("0"));
+        assertFalse(ChecksumAlgorithm.DAMM.isValid("57a4"));
+        assertThrows(IllegalArgumentException.class, () -> ChecksumAlgorithm.LUHN.calculate(""));
+        assertThrows(IllegalArgumentException.class, () -> ChecksumAlgorithm.LUHN.calculate("12a"));
+        assertThrows(IllegalArgumentException.class, () -> ChecksumAlgorithm.LUHN.ignoring("1"));
+        assertThrows(IllegalArgumentException.class, () -> ChecksumAlgorithm.weighted(11, "0123456789", "0123456789", 1));
+        assertThrows(IllegalArgumentException.class, () -> ChecksumAlgorithm.iso7064(97, 10, "0123456789", 1));
+    }
+
+}
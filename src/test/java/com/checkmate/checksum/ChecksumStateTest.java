@@ -0,0 +1,69 @@
+package com.checkmate.checksum;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChecksumStateTest {
+
+    @Test
+    void testIBANSplitAcrossFrames() {
+        String iban = "GB82 WEST 1234 5698 7654 32";
+        byte[] bytes = iban.getBytes(StandardCharsets.US_ASCII);
+        ChecksumState state = IBANChecksum.getInstance().newState();
+
+        for (int split = 0; split <= bytes.length; split++) {
+            state.reset().update(bytes, 0, split).update(bytes, split, bytes.length - split);
+            assertTrue(state.isValid(), "split at " + split);
+        }
+        for (int split = 0; split <= iban.length(); split++) {
+            assertTrue(state.reset().update(iban, 0, split).update(iban, split, iban.length()).isValid());
+        }
+
+        assertFalse(state.reset().update("GB82 WEST 1234 5698 7654 33", 0, 27).isValid());
+        assertFalse(state.reset().update("GB8", 0, 3).isValid());
+    }
+
+    @Test
+    void testCreditCardCharByChar() {
+        ChecksumState state = CreditCardChecksum.getInstance().newState();
+        for (char c : "4111-1111-1111-1111".toCharArray()) {
+            state.update(c);
+        }
+        assertTrue(state.isValid());
+
+        state.update('1');
+        assertFalse(state.isValid());
+        assertFalse(state.reset().update("4111.1111.1111.1111", 0, 19).isValid());
+        assertTrue(state.reset().update("4111 1111 1111 1111", 0, 19).isValid());
+    }
+
+    @Test
+    void testStateMatchesWholeInput() {
+        Checksum[] checksums = {IBANChecksum.getInstance(), CreditCardChecksum.getInstance(), ISBN10Checksum.getInstance(),
+                ISBN13Checksum.getInstance(), JMBGChecksum.getInstance()};
+        String[] inputs = {"GB82WEST12345698765432", "0-8044-2957-X", "978-0-596-52068-7", "0101006500006", "79927398713",
+                "010100650000", "01010065000060", "4111111111111111", "", "X"};
+
+        for (Checksum checksum : checksums) {
+            ChecksumState state = checksum.newState();
+            for (String input : inputs) {
+                byte[] bytes = input.getBytes(StandardCharsets.US_ASCII);
+                assertEquals(checksum.isValid(input), state.reset().update(bytes, 0, bytes.length).isValid(),
+                        checksum.getClass().getSimpleName() + " " + input);
+            }
+        }
+    }
+
+    @Test
+    void testNonAsciiBytes() {
+        byte[] bytes = {'7', '9', '9', '2', '7', '3', '9', '8', '7', '1', '3', (byte) 0xB3};
+        ChecksumState state = ChecksumAlgorithm.LUHN.newState();
+        assertTrue(state.update(bytes, 0, 11).isValid());
+        assertFalse(state.update(bytes, 11, 1).isValid());
+        assertThrows(IndexOutOfBoundsException.class, () -> state.update(bytes, 10, 3));
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.checkmate.checksum;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CreditCardBatchChecksumTest {
+
+    private final CreditCardBatchChecksum checksum = CreditCardBatchChecksum.getInstance();
+
+    @Test
+    void testKnownNumbers() {
+        CharSequence[] numbers = {
+                "4111-1111-1111-1111",
+                "4111-1111-1111-1119",
+                "3774 0011 1111 115",
+                null,
+                "",
+                "----",
+                "5123455806308521",
+                "5999999999999108",
+                "6011-1111-1111-1117",
+                "4111.1111.1111.1111"
+        };
+
+        assertArrayEquals(new boolean[]{true, false, true, false, false, false, true, false, true, false}, checksum.isValid(numbers));
+    }
+
+    @Test
+    void testMatchesScalarChecksum() {
+        SplittableRandom random = new SplittableRandom(42);
+        CharSequence[] numbers = new CharSequence[10_000];
+        for (int i = 0; i < numbers.length; i++) {
+            numbers[i] = randomNumber(random);
+        }
+
+        boolean[] results = checksum.isValid(numbers);
+
+        CreditCardChecksum scalar = CreditCardChecksum.getInstance();
+        for (int i = 0; i < numbers.length; i++) {
+            assertEquals(scalar.isValid(numbers[i], 0, numbers[i].length()), results[i], numbers[i].toString());
+        }
+    }
+
+    @Test
+    void testLengthMismatch() {
+        assertThrows(IllegalArgumentException.class, () -> checksum.isValid(new CharSequence[2], new boolean[1]));
+    }
+
+    private static String randomNumber(SplittableRandom random) {
+        int length = random.nextInt(48);
+        StringBuilder number = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            int kind = random.nextInt(10);
+            number.append(kind == 0 ? '-' : kind == 1 ? ' ' : random.nextInt(100) == 0 ? '/' : (char) ('0' + random.nextInt(10)));
+        }
+        return number.toString();
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.checkmate.checksum;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IBANChecksumTest {
+
+    private static final String IBAN = "GB82WEST12345698765432";
+    private static final String LONGEST_IBAN = "LC38ABCD1234EFGH5678IJKL9012MNOP34";
+
+    @Test
+    void testLowerCaseLetters() {
+        IBANChecksum checksum = IBANChecksum.getInstance();
+        assertTrue(checksum.isValid(IBAN.toLowerCase()));
+        assertTrue(checksum.isValid("gB82 wEsT 1234 5698 7654 32"));
+        assertFalse(checksum.isValid("gb82west12345698765433"));
+    }
+
+    @Test
+    void testEmbeddedSpaces() {
+        IBANChecksum checksum = IBANChecksum.getInstance();
+        assertTrue(checksum.isValid("GB82 WEST 1234 5698 7654 32"));
+        assertTrue(checksum.isValid("G B 8 2WEST12345698765432"));
+        assertTrue(checksum.isValid(" GB82\tWEST\n1234 5698 7654 32 "));
+        assertFalse(checksum.isValid("GB8 "));
+    }
+
+    @Test
+    void testInvalidCharacters() {
+        IBANChecksum checksum = IBANChecksum.getInstance();
+        assertFalse(checksum.isValid("GB82-WEST-1234-5698-7654-32"));
+        assertFalse(checksum.isValid("GB82WEST12345698765432_"));
+        assertFalse(checksum.isValid("GB82WEST1234\u00C95698765432"));
+        assertFalse(checksum.isValid("GB82WEST12345698765432\u0000"));
+    }
+
+    @Test
+    void testLongestIBAN() {
+        IBANChecksum checksum = IBANChecksum.getInstance();
+        assertEquals(34, LONGEST_IBAN.length());
+        assertTrue(checksum.isValid(LONGEST_IBAN));
+        assertTrue(checksum.isValid(LONGEST_IBAN.toLowerCase()));
+        assertFalse(checksum.isValid("LC39ABCD1234EFGH5678IJKL9012MNOP34"));
+        assertFalse(checksum.isValid("LC38ABCD1234EFGH5678IJKL9012MNOP43"));
+    }
+
+    @Test
+    void testRange() {
+        String message = "IBAN=" + LONGEST_IBAN + ";";
+        assertTrue(IBANChecksum.getInstance().isValid(message, 5, 5 + LONGEST_IBAN.length()));
+        assertFalse(IBANChecksum.getInstance().isValid(message, 5, 4 + LONGEST_IBAN.length()));
+    }
+
+}
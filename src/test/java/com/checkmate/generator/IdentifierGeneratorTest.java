@@ -0,0 +1,120 @@
+package com.checkmate.generator;
+
+import com.checkmate.validation.ValidationResult;
+import com.checkmate.validation.Validator;
+import com.checkmate.validation.credit_card.CardBrandValidator;
+import com.checkmate.validation.credit_card.CreditCardValidator;
+import com.checkmate.validation.iban.IBANValidator;
+import com.checkmate.validation.isbn.ISBNValidator;
+import com.checkmate.validation.jmbg.JMBGValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdentifierGeneratorTest {
+
+    private static final int COUNT = 20_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testGeneratedIdentifiersAreValid() {
+        for (IdentifierGenerator.Type type : IdentifierGenerator.Type.values()) {
+            IdentifierGenerator generator = IdentifierGenerator.builder(type).seed(1).build();
+            for (int i = 0; i < COUNT; i++) {
+                String value = generator.next();
+                assertEquals(ValidationResult.VALID, validatorOf(type).check(value), type + " " + value);
+                assertNull(generator.getLastError());
+            }
+        }
+    }
+
+    @Test
+    void testInjectedErrors() {
+        for (IdentifierGenerator.Type type : IdentifierGenerator.Type.values()) {
+            IdentifierGenerator generator = IdentifierGenerator.builder(type).seed(2)
+                    .errorRate(IdentifierGenerator.ErrorKind.WRONG_CHECK_DIGIT, 0.2)
+                    .errorRate(IdentifierGenerator.ErrorKind.TRANSPOSITION, 0.2)
+                    .errorRate(IdentifierGenerator.ErrorKind.BAD_LENGTH, 0.2)
+                    .build();
+            int invalid = 0;
+            for (int i = 0; i < COUNT; i++) {
+                String value = generator.next();
+                ValidationResult result = validatorOf(type).check(value);
+                IdentifierGenerator.ErrorKind error = generator.getLastError();
+                if (error == null) {
+                    assertEquals(ValidationResult.VALID, result, type + " " + value);
+                } else {
+                    invalid++;
+                    assertFalse(result.isValid(), type + " " + error + " " + value);
+                    if (type == IdentifierGenerator.Type.CREDIT_CARD) {
+                        assertFalse(CreditCardValidator.getInstance().isValid(value), error + " " + value);
+                    }
+                    if (error == IdentifierGenerator.ErrorKind.BAD_LENGTH) {
+                        assertEquals(ValidationResult.BAD_LENGTH, result, type + " " + value);
+                    }
+                }
+            }
+            assertEquals(0.6, invalid / (double) COUNT, 0.02);
+        }
+    }
+
+    @Test
+    void testCountriesAndSeeds() {
+        IdentifierGenerator generator = IdentifierGenerator.builder(IdentifierGenerator.Type.IBAN).seed(3).countries("RS", "GB").build();
+        IdentifierGenerator same = IdentifierGenerator.builder(IdentifierGenerator.Type.IBAN).seed(3).countries("RS", "GB").build();
+        for (int i = 0; i < 1000; i++) {
+            String iban = generator.next();
+            assertTrue(iban.startsWith("RS") || iban.startsWith("GB"), iban);
+            assertEquals(iban, same.next());
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> IdentifierGenerator.builder(IdentifierGenerator.Type.IBAN).countries("US"));
+        assertThrows(IllegalArgumentException.class, () -> IdentifierGenerator.builder(IdentifierGenerator.Type.IBAN)
+                .errorRate(IdentifierGenerator.ErrorKind.BAD_LENGTH, 0.6)
+                .errorRate(IdentifierGenerator.ErrorKind.TRANSPOSITION, 0.6)
+                .build());
+    }
+
+    @Test
+    void testParallelStream() {
+        IdentifierGenerator generator = IdentifierGenerator.builder(IdentifierGenerator.Type.CREDIT_CARD).seed(4).build();
+        long valid = generator.stream(100_000).parallel().filter(CardBrandValidator.getInstance()::isValid).count();
+        assertEquals(100_000, valid);
+    }
+
+    @Test
+    void testWriteTo() throws IOException {
+        Path file = directory.resolve("jmbg.txt");
+        IdentifierGenerator.builder(IdentifierGenerator.Type.JMBG).seed(5).build().writeTo(file, 1000);
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(1000, lines.size());
+        assertTrue(lines.stream().allMatch(JMBGValidator.getInstance()::isValid));
+
+        List<Path> files = List.of(directory.resolve("a.txt"), directory.resolve("b.txt"));
+        IdentifierGenerator.builder(IdentifierGenerator.Type.ISBN_13).seed(6).build().writeTo(files, 500);
+        List<Path> again = List.of(directory.resolve("c.txt"), directory.resolve("d.txt"));
+        IdentifierGenerator.builder(IdentifierGenerator.Type.ISBN_13).seed(6).build().writeTo(again, 500);
+        for (int i = 0; i < files.size(); i++) {
+            assertEquals(Files.readAllLines(files.get(i)), Files.readAllLines(again.get(i)));
+            assertEquals(500, Files.readAllLines(files.get(i)).size());
+        }
+    }
+
+    private static Validator<String> validatorOf(IdentifierGenerator.Type type) {
+        return switch (type) {
+            case IBAN -> IBANValidator.getInstance();
+            case CREDIT_CARD -> CardBrandValidator.getInstance();
+            case ISBN_10, ISBN_13 -> ISBNValidator.getInstance();
+            case JMBG -> JMBGValidator.getInstance();
+        };
+    }
+
+}
@@ -0,0 +1,150 @@
+package com.checkmate.server;
+
+import com.checkmate.validation.ValidationResult;
+import com.checkmate.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationServerTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private ValidationServer server;
+
+    @AfterEach
+    void stop() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    void testSingleValues() throws Exception {
+        start(ValidationServer.builder().port(0));
+
+        assertResponse(200, "VALID\n", post("/validate/iban", "GB82 WEST 1234 5698 7654 32"));
+        assertResponse(200, "BAD_CHECKSUM\n", post("/validate/iban", "GB82 WEST 1234 5698 7654 33\r\n"));
+        assertResponse(200, "EMPTY\n", post("/validate/jmbg", ""));
+        assertResponse(200, "VALID\n", post("/validate/card-brand", "4111 1111 1111 1111"));
+        assertEquals(404, post("/validate/unknown", "1").statusCode());
+        assertEquals(404, post("/validate/batch", "1").statusCode());
+        assertEquals(405, send(HttpRequest.newBuilder(uri("/validate/iban")).GET()).statusCode());
+
+        HttpResponse<String> validators = send(HttpRequest.newBuilder(uri("/validators")).GET());
+        assertEquals(200, validators.statusCode());
+        assertTrue(validators.body().contains("iban\n"));
+    }
+
+    @Test
+    void testBatches() throws Exception {
+        start(ValidationServer.builder().port(0).maxBatchSize(3).maxBodySize(64));
+
+        assertResponse(200, "VALID\nBAD_LENGTH\nEMPTY\n", post("/validate/isbn/batch", "978-0-596-52068-7\r\n123\n\n"));
+        assertResponse(200, "VALID\n", post("/validate/isbn/batch", "0-596-52068-9"));
+        assertEquals(413, post("/validate/isbn/batch", "1\n2\n3\n4\n").statusCode());
+        assertEquals(413, post("/validate/isbn", "1".repeat(65)).statusCode());
+    }
+
+    @Test
+    void testAdmissionControl() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Validator<String> blocking = new BlockingValidator(entered, release);
+        start(ValidationServer.builder().port(0).validator("blocking", blocking)
+                .maxConcurrentRequests(1).maxQueuedRequests(0));
+
+        CompletableFuture<HttpResponse<String>> first = client.sendAsync(
+                HttpRequest.newBuilder(uri("/validate/blocking")).POST(HttpRequest.BodyPublishers.ofString("1")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertTrue(entered.await(10, TimeUnit.SECONDS));
+
+        HttpResponse<String> rejected = post("/validate/iban", "GB82 WEST 1234 5698 7654 32");
+        assertEquals(503, rejected.statusCode());
+        assertTrue(rejected.headers().firstValue("Retry-After").isPresent());
+
+        release.countDown();
+        assertResponse(200, "VALID\n", first.get(10, TimeUnit.SECONDS));
+        assertResponse(200, "VALID\n", post("/validate/iban", "GB82 WEST 1234 5698 7654 32"));
+    }
+
+    @Test
+    void testInvalidNames() {
+        assertThrows(IllegalArgumentException.class, () -> ValidationServer.builder().validator("Bad Name", new BlockingValidator(null, null)));
+        assertThrows(IllegalArgumentException.class, () -> ValidationServer.builder().admissionTimeout(Duration.ofSeconds(-1)));
+    }
+
+    private void start(ValidationServer.Builder builder) throws IOException {
+        server = builder.build();
+        server.start();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + path);
+    }
+
+    private HttpResponse<String> post(String path, String body) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(uri(path)).POST(HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void assertResponse(int status, String body, HttpResponse<String> response) {
+        assertEquals(status, response.statusCode());
+        assertEquals(body, response.body());
+    }
+
+    /**
+     * A validator that accepts everything, but only once it is released.
+     */
+    private static final class BlockingValidator implements Validator<String> {
+
+        private final transient CountDownLatch entered;
+        private final transient CountDownLatch release;
+
+        private BlockingValidator(CountDownLatch entered, CountDownLatch release) {
+            this.entered = entered;
+            this.release = release;
+        }
+
+        @Override
+        public boolean isValid(String input) {
+            return check(input).isValid();
+        }
+
+        @Override
+        public boolean isValid(CharSequence input, int from, int to) {
+            return check(input, from, to).isValid();
+        }
+
+        @Override
+        public ValidationResult check(CharSequence input, int from, int to) {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ValidationResult.VALID;
+        }
+
+        @Override
+        public boolean isNullOrEmpty(String input) {
+            return input == null || input.isEmpty();
+        }
+
+    }
+
+}
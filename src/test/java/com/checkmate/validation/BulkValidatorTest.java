@@ -0,0 +1,72 @@
+package com.checkmate.validation;
+
+import com.checkmate.validation.credit_card.CreditCardValidator;
+import com.checkmate.validation.iban.IBANValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkValidatorTest {
+
+    private static final String[] CARD_NUMBERS = new String[]{
+            "4111-1111-1111-1111",
+            "4111-1111-1111-1119",
+            "5123-4558-0630-8521",
+            "3600-0000-0000-08",
+            "5999-9999-9999-9108",
+    };
+
+    @Test
+    void testSmallBatch() {
+        BitSet valid = BulkValidator.of(CreditCardValidator.getInstance()).validate(CARD_NUMBERS);
+
+        assertEquals(BitSet.valueOf(new long[]{0b01101}), valid);
+    }
+
+    @Test
+    void testListAndStream() {
+        BulkValidator validator = BulkValidator.of(CreditCardValidator.getInstance());
+        BitSet expected = validator.validate(CARD_NUMBERS);
+
+        assertEquals(expected, validator.validate(List.of(CARD_NUMBERS)));
+        assertEquals(expected, validator.validate(Stream.of(CARD_NUMBERS)));
+    }
+
+    @Test
+    void testNullAndBlankValuesAreInvalid() {
+        String[] ibans = new String[]{"GB29NWBK60161331926819", null, "  ", "GB29NWBK60161331926819"};
+
+        BitSet valid = BulkValidator.of(IBANValidator.getInstance()).validate(ibans);
+
+        assertEquals(BitSet.valueOf(new long[]{0b1001}), valid);
+    }
+
+    @Test
+    void testLargeBatchMatchesSequentialValidation() {
+        String[] numbers = new String[100_003];
+        for (int i = 0; i < numbers.length; i++) {
+            numbers[i] = CARD_NUMBERS[i % CARD_NUMBERS.length];
+        }
+        boolean[] results = new boolean[numbers.length];
+
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            BulkValidator.of(CreditCardValidator.getInstance(), pool).validate(numbers, results);
+        }
+
+        for (int i = 0; i < numbers.length; i++) {
+            assertEquals(CreditCardValidator.getInstance().isValid(numbers[i]), results[i], numbers[i]);
+        }
+    }
+
+    @Test
+    void testMismatchedResultsLength() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BulkValidator.of(CreditCardValidator.getInstance()).validate(CARD_NUMBERS, new boolean[1]));
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.checkmate.validation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidatorTest {
+
+    /**
+     * A validator written against the 1.1.0 interface, which only implements the methods it had then.
+     */
+    private static final Validator<String> DIGITS = new Validator<>() {
+
+        @Override
+        public boolean isValid(String input) {
+            if (isNullOrEmpty(input)) {
+                throw new IllegalArgumentException("The input cannot be null or empty");
+            }
+            return input.chars().allMatch(Character::isDigit);
+        }
+
+        @Override
+        public boolean isNullOrEmpty(String input) {
+            return input == null || input.isEmpty();
+        }
+
+    };
+
+    @Test
+    void testDefaultRangeValidation() {
+        String message = "id=12345;";
+        assertTrue(DIGITS.isValid(message, 3, 8));
+        assertFalse(DIGITS.isValid(message, 2, 8));
+        assertTrue(DIGITS.isValid(message.toCharArray(), 3, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> DIGITS.isValid(message, 3, 10));
+        assertThrows(IllegalArgumentException.class, () -> DIGITS.isValid((CharSequence) null, 0, 0));
+    }
+
+    @Test
+    void testDefaultCheck() {
+        assertEquals(ValidationResult.VALID, DIGITS.check("12345"));
+        assertEquals(ValidationResult.BAD_FORMAT, DIGITS.check("12a45"));
+        assertEquals(ValidationResult.EMPTY, DIGITS.check("  "));
+        assertEquals(ValidationResult.NULL, DIGITS.check(null));
+        assertEquals(ValidationResult.VALID, DIGITS.check("id=12345;", 3, 8));
+    }
+
+}
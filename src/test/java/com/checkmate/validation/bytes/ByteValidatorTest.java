@@ -0,0 +1,58 @@
+package com.checkmate.validation.bytes;
+
+import com.checkmate.validation.credit_card.CreditCardValidator;
+import com.checkmate.validation.iban.IBANValidator;
+import com.checkmate.validation.isbn.ISBNValidator;
+import com.checkmate.validation.jmbg.JMBGValidator;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteValidatorTest {
+
+    private static final byte[] RECORD = "GB29NWBK60161331926819;4111-1111-1111-1111;978-0-596-52068-7;0101006500006"
+            .getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    void testHeapBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap(RECORD);
+
+        assertTrue(ByteValidator.of(IBANValidator.getInstance()).isValid(buffer, 0, 22));
+        assertTrue(ByteValidator.of(CreditCardValidator.getInstance()).isValid(buffer, 23, 19));
+        assertTrue(ByteValidator.of(ISBNValidator.getInstance()).isValid(buffer, 43, 17));
+        assertTrue(ByteValidator.of(JMBGValidator.getInstance()).isValid(buffer, 61, 13));
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void testDirectBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(RECORD.length).put(RECORD).flip();
+
+        assertTrue(ByteValidator.of(IBANValidator.getInstance()).isValid(buffer, 0, 22));
+        assertFalse(ByteValidator.of(IBANValidator.getInstance()).isValid(buffer, 1, 22));
+        assertTrue(ByteValidator.of(JMBGValidator.getInstance()).isValid(buffer, 61, 13));
+    }
+
+    @Test
+    void testSlicedHeapBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap(RECORD, 23, RECORD.length - 23).slice();
+
+        assertTrue(ByteValidator.of(CreditCardValidator.getInstance()).isValid(buffer, 0, 19));
+    }
+
+    @Test
+    void testByteArray() {
+        assertTrue(ByteValidator.of(ISBNValidator.getInstance()).isValid(RECORD, 43, 17));
+        assertFalse(ByteValidator.of(ISBNValidator.getInstance()).isValid(RECORD, 43, 16));
+    }
+
+    @Test
+    void testRangeOutOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> ByteValidator.of(JMBGValidator.getInstance()).isValid(RECORD, 70, 13));
+    }
+
+}
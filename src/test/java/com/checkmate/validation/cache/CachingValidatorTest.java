@@ -0,0 +1,125 @@
+package com.checkmate.validation.cache;
+
+import com.checkmate.exceptions.iban.EmptyIBANException;
+import com.checkmate.exceptions.iban.NullIBANException;
+import com.checkmate.validation.ValidationResult;
+import com.checkmate.validation.credit_card.CreditCardValidator;
+import com.checkmate.validation.email.EmailValidator;
+import com.checkmate.validation.iban.IBANValidator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingValidatorTest {
+
+    private static final String VALID_IBAN = "GB29NWBK60161331926819";
+    private static final String INVALID_IBAN = "GB28NWBK60161331926819";
+
+    @Test
+    void testCachesResults() {
+        CachingValidator validator = CachingValidator.of(IBANValidator.getInstance(), 1 << 20);
+
+        assertTrue(validator.isValid(VALID_IBAN));
+        assertTrue(validator.isValid(VALID_IBAN));
+        assertEquals(ValidationResult.BAD_CHECKSUM, validator.check(INVALID_IBAN));
+        assertFalse(validator.isValid("IBAN " + INVALID_IBAN + ";", 5, 27));
+
+        assertEquals(2, validator.getHitCount());
+        assertEquals(2, validator.getMissCount());
+        assertEquals(2, validator.size());
+        assertEquals(0.5, validator.getHitRate());
+
+        validator.clear();
+        assertEquals(0, validator.size());
+        assertEquals(0, validator.getHitCount());
+    }
+
+    @Test
+    void testSerialization() throws IOException, ClassNotFoundException {
+        CachingValidator validator = CachingValidator.of(IBANValidator.getInstance(), 1 << 20);
+        assertTrue(validator.isValid(VALID_IBAN));
+
+        CachingValidator copy = roundTrip(validator);
+        assertEquals(0, copy.size());
+        assertEquals(0, copy.getMissCount());
+        assertEquals(CachingValidator.of(IBANValidator.getInstance(), 1 << 20).getEstimatedBytes(), copy.getEstimatedBytes());
+        assertTrue(copy.isValid(VALID_IBAN));
+        assertTrue(copy.isValid(VALID_IBAN));
+        assertEquals(ValidationResult.BAD_CHECKSUM, copy.check(INVALID_IBAN));
+        assertEquals(1, copy.getHitCount());
+        assertThrows(NullIBANException.class, () -> copy.isValid(null));
+    }
+
+    @Test
+    void testKeepsExceptions() {
+        CachingValidator validator = CachingValidator.of(IBANValidator.getInstance(), 1 << 20);
+
+        assertThrows(NullIBANException.class, () -> validator.isValid(null));
+        assertThrows(EmptyIBANException.class, () -> validator.isValid("  "));
+        assertEquals(ValidationResult.EMPTY, validator.check("  "));
+        assertEquals(0, validator.size());
+    }
+
+    @Test
+    void testDoesNotCacheOtherCharacters() {
+        CachingValidator validator = CachingValidator.of(EmailValidator.getInstance(), 1 << 20);
+
+        assertTrue(validator.isValid("jürgen@example.com"));
+        assertTrue(validator.isValid("名前@example.com"));
+        assertEquals(1, validator.size());
+    }
+
+    @Test
+    void testMatchesWrappedValidator() {
+        CachingValidator validator = CachingValidator.of(CreditCardValidator.getInstance(), 64 * 1024);
+        SplittableRandom random = new SplittableRandom(7);
+
+        for (int i = 0; i < 100_000; i++) {
+            String number = "4111-1111-1111-" + (1000 + random.nextInt(2_000));
+            assertEquals(CreditCardValidator.getInstance().isValid(number), validator.isValid(number), number);
+        }
+        assertTrue(validator.getHitCount() > 0);
+        assertTrue(validator.getEstimatedBytes() <= 64 * 1024);
+    }
+
+    @Test
+    void testKeepsFrequentValues() {
+        CachingValidator validator = CachingValidator.of(CreditCardValidator.getInstance(), 16 * 1024);
+        String frequent = "4111-1111-1111-1111";
+
+        for (int i = 0; i < 50_000; i++) {
+            validator.isValid(frequent);
+            validator.isValid(String.format("5%015d", i));
+        }
+
+        long hits = validator.getHitCount();
+        validator.isValid(frequent);
+        assertEquals(hits + 1, validator.getHitCount());
+        assertTrue(validator.getEvictionCount() > 0);
+        assertTrue(validator.getEstimatedBytes() <= 16 * 1024);
+    }
+
+    @Test
+    void testTooSmall() {
+        assertThrows(IllegalArgumentException.class, () -> CachingValidator.of(IBANValidator.getInstance(), 1024));
+    }
+
+    // Helper function to serialize and deserialize a validator.
+    private static CachingValidator roundTrip(CachingValidator validator) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(validator);
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (CachingValidator) input.readObject();
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.checkmate.validation.credit_card;
+
+import com.checkmate.exceptions.credit_card.NullCreditCardException;
+import com.checkmate.validation.ValidationResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardBrandValidatorTest {
+
+    private final CardBrandValidator validator = CardBrandValidator.getInstance();
+
+    @Test
+    void testGetBrand() {
+        assertEquals("Visa", validator.getBrand("4111-1111-1111-1111"));
+        assertEquals("Visa", validator.getBrand("4222222222222"));
+        assertEquals("Mastercard", validator.getBrand("5123 4558 0630 8521"));
+        assertEquals("Mastercard", validator.getBrand("2223000010000005"));
+        assertEquals("American Express", validator.getBrand("3714-496353-98431"));
+        assertEquals("Diners Club", validator.getBrand("3600-0000-0000-08"));
+        assertEquals("Discover", validator.getBrand("6011-1111-1111-1117"));
+        assertEquals("JCB", validator.getBrand("3562-3500-0000-0003"));
+        assertEquals("Visa", validator.getBrand("card: 4111111111111111", 6, 22));
+        assertNull(validator.getBrand(null));
+        assertNull(validator.getBrand("4111-1111-1111-1112"));
+    }
+
+    @Test
+    void testCheck() {
+        assertEquals(ValidationResult.VALID, validator.check("4111111111111111"));
+        assertEquals(ValidationResult.NULL, validator.check(null));
+        assertEquals(ValidationResult.EMPTY, validator.check(" "));
+        assertEquals(ValidationResult.BAD_FORMAT, validator.check("4111.1111.1111.1111"));
+        assertEquals(ValidationResult.BAD_FORMAT, validator.check("6601-1111-1111-1113"));
+        assertEquals(ValidationResult.BAD_LENGTH, validator.check("4111111"));
+        assertEquals(ValidationResult.BAD_LENGTH, validator.check("41111111111111111111"));
+        assertEquals(ValidationResult.BAD_LENGTH, validator.check("3714-496353-984310"));
+        assertEquals(ValidationResult.BAD_CHECKSUM, validator.check("4111-1111-1111-1119"));
+    }
+
+    @Test
+    void testIsValid() {
+        assertTrue(validator.isValid("5431-1111-1111-1111"));
+        assertFalse(validator.isValid("6601-1111-1111-1113"));
+        assertTrue(CreditCardValidator.getInstance().isValid("6601-1111-1111-1113"));
+        assertThrows(NullCreditCardException.class, () -> validator.isValid((String) null));
+    }
+
+    @Test
+    void testIINRanges() {
+        IINRanges ranges = IINRanges.getInstance();
+        assertEquals("Mastercard", ranges.getBrand("2720"));
+        assertEquals("Maestro", ranges.getBrand("676212"));
+        assertEquals("Visa", ranges.getBrand("4"));
+        assertNull(ranges.getBrand("2"));
+        assertNull(ranges.getBrand("7"));
+    }
+
+    @Test
+    void testLoad(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("ranges.txt");
+        Files.writeString(file, "# test ranges\n\nTest Card;66-67,680;16-17\n");
+        CardBrandValidator loaded = CardBrandValidator.of(IINRanges.load(file));
+
+        assertEquals("Test Card", loaded.getBrand("6601-1111-1111-1113"));
+        assertNull(loaded.getBrand("4111-1111-1111-1111"));
+        assertThrows(IOException.class, () -> IINRanges.load(stream("Visa;4;16\nOther;41;16")));
+        assertThrows(IOException.class, () -> IINRanges.load(stream("Visa;4-;16")));
+        assertThrows(IOException.class, () -> IINRanges.load(stream("Visa;4;20")));
+    }
+
+    @Test
+    void testSerialization(@TempDir Path directory) throws IOException, ClassNotFoundException {
+        assertSame(CardBrandValidator.getInstance(), roundTrip(CardBrandValidator.getInstance()));
+
+        Path file = directory.resolve("ranges.txt");
+        Files.writeString(file, "Test Card;66-67,680;16-17\n");
+        CardBrandValidator copy = roundTrip(CardBrandValidator.of(IINRanges.load(file)));
+        assertEquals("Test Card", copy.getBrand("6601-1111-1111-1113"));
+        assertNull(copy.getBrand("4111-1111-1111-1111"));
+    }
+
+    // Helper function to serialize and deserialize a validator.
+    private static CardBrandValidator roundTrip(CardBrandValidator validator) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(validator);
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (CardBrandValidator) input.readObject();
+        }
+    }
+
+    // Helper function to read a range file from a string.
+    private static ByteArrayInputStream stream(String ranges) {
+        return new ByteArrayInputStream(ranges.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
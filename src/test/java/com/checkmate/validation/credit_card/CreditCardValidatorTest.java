@@ -1,8 +1,14 @@
 package com.checkmate.validation.credit_card;
 
+import com.checkmate.checksum.CreditCardChecksum;
+import com.checkmate.exceptions.credit_card.EmptyCreditCardException;
+import com.checkmate.exceptions.credit_card.NullCreditCardException;
+import com.checkmate.validation.ValidationResult;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class CreditCardValidatorTest {
@@ -186,4 +192,46 @@ class CreditCardValidatorTest {
         assertTrue(CreditCardValidator.getInstance().isValid(WAREHOUSE_MONEY_VISA_CARD_APPROVED), "Warehouse Money Visa Card Approved");
     }
 
+    @Test
+    void testVisaApprovedInRange() {
+        String message = "PAN=" + VISA_APPROVED + ";";
+        assertTrue(CreditCardValidator.getInstance().isValid(message, 4, 4 + VISA_APPROVED.length()), "Visa Approved");
+        assertTrue(CreditCardValidator.getInstance().isValid(message.toCharArray(), 4, VISA_APPROVED.length()), "Visa Approved");
+    }
+
+    @Test
+    void testVisaFailsLuhnCheckInRange() {
+        String message = "PAN=" + VISA_FAILS_LUHN_CHECK_1 + ";";
+        assertFalse(CreditCardValidator.getInstance().isValid(message, 4, 4 + VISA_FAILS_LUHN_CHECK_1.length()), "Visa Fails Luhn Check");
+    }
+
+    @Test
+    void testNullOrEmptyCreditCard() {
+        CreditCardValidator validator = CreditCardValidator.getInstance();
+        assertThrows(NullCreditCardException.class, () -> validator.isValid(null));
+        assertThrows(EmptyCreditCardException.class, () -> validator.isValid("    "));
+        assertThrows(NullCreditCardException.class, () -> validator.isValid((CharSequence) null, 0, 0));
+        assertThrows(EmptyCreditCardException.class, () -> validator.isValid("PAN=   ;", 4, 7));
+        assertThrows(IndexOutOfBoundsException.class, () -> validator.isValid(VISA_APPROVED, 4, 40));
+    }
+
+    @Test
+    void testCheckCreditCard() {
+        CreditCardValidator validator = CreditCardValidator.getInstance();
+        assertEquals(ValidationResult.VALID, validator.check(VISA_APPROVED));
+        assertEquals(ValidationResult.NULL, validator.check(null));
+        assertEquals(ValidationResult.EMPTY, validator.check("    "));
+        assertEquals(ValidationResult.BAD_LENGTH, validator.check("4111-1111-1111-1111-1111"));
+        assertEquals(ValidationResult.BAD_CHECKSUM, validator.check(VISA_FAILS_LUHN_CHECK_1));
+        assertEquals(ValidationResult.BAD_FORMAT, validator.check("4111.1111.1111.1111"));
+    }
+
+    @Test
+    void testChecksumSkipsOnlySeparators() {
+        CreditCardChecksum checksum = CreditCardChecksum.getInstance();
+        assertTrue(checksum.isValid("4111 1111-1111 1111"));
+        assertFalse(checksum.isValid("4111/1111/1111/1111"));
+        assertFalse(checksum.isValid("--"));
+    }
+
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.checkmate.validation.email;
 
 import com.checkmate.exceptions.email.EmptyEmailException;
 import com.checkmate.exceptions.email.NullEmailException;
+import com.checkmate.validation.ValidationResult;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -57,4 +58,54 @@ class EmailValidatorTest {
     void testEmptyJMBG() {
         assertThrows(EmptyEmailException.class, () -> EmailValidator.getInstance().isValid(""));
     }
+
+    @Test
+    void testValidEmailInRange() {
+        String message = "To: valid.email@example.com\n";
+        assertTrue(EmailValidator.getInstance().isValid(message, 4, 27));
+        assertTrue(EmailValidator.getInstance().isValid(message.toCharArray(), 4, 23));
+    }
+
+    @Test
+    void testInvalidEmailInRange() {
+        assertFalse(EmailValidator.getInstance().isValid("To: valid.email@example.com", 0, 16));
+    }
+
+    @Test
+    void testEmptyEmailInRange() {
+        assertThrows(EmptyEmailException.class, () -> EmailValidator.getInstance().isValid("To:   ", 3, 6));
+    }
+
+    @Test
+    void testCheckEmail() {
+        EmailValidator validator = EmailValidator.getInstance();
+        assertEquals(ValidationResult.VALID, validator.check("john.doe@example.com"));
+        assertEquals(ValidationResult.NULL, validator.check(null));
+        assertEquals(ValidationResult.EMPTY, validator.check("To:   ", 3, 6));
+        assertEquals(ValidationResult.BAD_FORMAT, validator.check("john.doe.example.com"));
+    }
+
+    @Test
+    void testEmailLengthLimits() {
+        String local = "a".repeat(64);
+        assertTrue(EmailValidator.getInstance().isValid(local + "@example.com"));
+        assertFalse(EmailValidator.getInstance().isValid(local + "a@example.com"));
+        assertTrue(EmailValidator.getInstance().isValid("a@" + "b".repeat(240) + ".com"));
+        assertEquals(ValidationResult.BAD_LENGTH, EmailValidator.getInstance().check("a@" + "b".repeat(250) + ".com"));
+    }
+
+    @Test
+    void testEmailWithManyAtSymbols() {
+        assertFalse(EmailValidator.getInstance().isValid("a@".repeat(500_000)));
+        assertTrue(EmailValidator.getInstance().isValid("a@b@c.d"));
+        assertFalse(EmailValidator.getInstance().isValid("a@.b@c"));
+    }
+
+    @Test
+    void testEmailWithWhitespace() {
+        assertTrue(EmailValidator.getInstance().isValid("first last@exam ple.com"));
+        assertFalse(EmailValidator.getInstance().isValid("user@example.c om"));
+        assertFalse(EmailValidator.getInstance().isValid("first\nlast@example.com"));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.checkmate.validation.file;
+
+import com.checkmate.validation.iban.IBANValidator;
+import com.checkmate.validation.jmbg.JMBGValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileValidatorTest {
+
+    private static final String VALID_IBAN = "GB29NWBK60161331926819";
+    private static final String INVALID_IBAN = "GB28NWBK60161331926819";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testResultsAreReportedInOrderAcrossChunks() throws IOException {
+        StringBuilder content = new StringBuilder();
+        List<Boolean> expected = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            boolean valid = i % 3 != 0;
+            content.append(i).append(',').append(valid ? VALID_IBAN : INVALID_IBAN).append(i % 2 == 0 ? "\n" : "\r\n");
+            expected.add(valid);
+        }
+        Path file = write(content.toString());
+
+        List<Boolean> actual = new ArrayList<>();
+        List<Long> lineNumbers = new ArrayList<>();
+        FileValidationSummary summary = FileValidator.builder(IBANValidator.getInstance())
+                .column(1)
+                .chunkSize(4096)
+                .maxChunksInFlight(3)
+                .build()
+                .validate(file, (line, valid) -> {
+                    lineNumbers.add(line);
+                    actual.add(valid);
+                });
+
+        assertEquals(expected, actual);
+        assertEquals(1L, lineNumbers.get(0));
+        assertEquals(10_000L, lineNumbers.get(lineNumbers.size() - 1));
+        assertEquals(10_000, summary.getLines());
+        assertEquals(expected.stream().filter(valid -> valid).count(), summary.getValidLines());
+    }
+
+    @Test
+    void testHeaderQuotesAndMissingFields() throws IOException {
+        Path file = write("id;iban\n1;\"" + VALID_IBAN + "\"\n2\n3;  \n4;" + VALID_IBAN);
+
+        List<String> results = new ArrayList<>();
+        FileValidationSummary summary = FileValidator.builder(IBANValidator.getInstance())
+                .column(1)
+                .delimiter(';')
+                .skipHeader(true)
+                .build()
+                .validate(file, (line, valid) -> results.add(line + ":" + valid));
+
+        assertEquals(List.of("2:true", "3:false", "4:false", "5:true"), results);
+        assertEquals(2, summary.getInvalidLines());
+    }
+
+    @Test
+    void testLineLongerThanChunk() throws IOException {
+        Path file = write("0101006500006\n" + "x".repeat(1000) + "\n0101006500006\n");
+
+        FileValidationSummary summary = FileValidator.builder(JMBGValidator.getInstance())
+                .chunkSize(16)
+                .build()
+                .validate(file);
+
+        assertEquals(3, summary.getLines());
+        assertEquals(2, summary.getValidLines());
+    }
+
+    @Test
+    void testEmptyFile() throws IOException {
+        FileValidationSummary summary = FileValidator.builder(JMBGValidator.getInstance()).build().validate(write(""));
+
+        assertEquals(0, summary.getLines());
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(directory.resolve("input.csv"), content, StandardCharsets.US_ASCII);
+    }
+
+}
@@ -0,0 +1,296 @@
+package com.checkmate.validation.flow;
+
+import com.checkmate.validation.ValidationResult;
+import com.checkmate.validation.Validator;
+import com.checkmate.validation.credit_card.CreditCardValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationProcessorTest {
+
+    private static final String[] CARD_NUMBERS = new String[]{
+            "4111-1111-1111-1111",
+            "4111-1111-1111-1119",
+            "5123-4558-0630-8521",
+            "3600-0000-0000-08",
+            "",
+    };
+    private static final ValidationResult[] RESULTS = new ValidationResult[]{
+            ValidationResult.VALID,
+            ValidationResult.BAD_CHECKSUM,
+            ValidationResult.VALID,
+            ValidationResult.VALID,
+            ValidationResult.EMPTY,
+    };
+    private static final int COUNT = 10_000;
+
+    @Test
+    void testOrderedResults() throws InterruptedException {
+        ValidationProcessor<String> processor = ValidationProcessor.builder(CreditCardValidator.getInstance())
+                .batchSize(16)
+                .workers(4)
+                .build();
+        CollectingSubscriber subscriber = new CollectingSubscriber(7);
+
+        publish(processor, subscriber, COUNT);
+
+        assertTrue(subscriber.await());
+        assertNull(subscriber.error);
+        assertEquals(COUNT, subscriber.values.size());
+        for (int i = 0; i < COUNT; i++) {
+            ValidatedValue<String> value = subscriber.values.get(i);
+            assertEquals(CARD_NUMBERS[i % CARD_NUMBERS.length], value.getValue());
+            assertEquals(RESULTS[i % RESULTS.length], value.getResult());
+        }
+    }
+
+    @Test
+    void testUnorderedResults() throws InterruptedException {
+        ValidationProcessor<String> processor = ValidationProcessor.builder(CreditCardValidator.getInstance())
+                .batchSize(8)
+                .workers(3)
+                .ordered(false)
+                .build();
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+
+        publish(processor, subscriber, COUNT);
+
+        assertTrue(subscriber.await());
+        assertNull(subscriber.error);
+        assertEquals(COUNT, subscriber.values.size());
+        for (ValidatedValue<String> value : subscriber.values) {
+            int index = List.of(CARD_NUMBERS).indexOf(value.getValue());
+            assertEquals(RESULTS[index], value.getResult());
+        }
+    }
+
+    @Test
+    void testDemand() throws InterruptedException {
+        ValidationProcessor<String> processor = ValidationProcessor.builder(CreditCardValidator.getInstance())
+                .batchSize(4)
+                .bufferSize(8)
+                .build();
+        CollectingSubscriber subscriber = new CollectingSubscriber(0);
+        CountingSubscriber<String> upstream = new CountingSubscriber<>(processor, () -> subscriber.values.size());
+        SubmissionPublisher<String> publisher = new SubmissionPublisher<>();
+        publisher.subscribe(upstream);
+        processor.subscribe(subscriber);
+
+        subscriber.subscription.request(3);
+        for (int i = 0; i < 100; i++) {
+            publisher.submit(CARD_NUMBERS[i % CARD_NUMBERS.length]);
+        }
+        publisher.close();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while ((upstream.received.get() < upstream.requested.get() || subscriber.values.size() < 3)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(8, upstream.requested.get());
+        assertEquals(8, upstream.received.get());
+        assertEquals(3, subscriber.values.size());
+        assertEquals(1, subscriber.done.getCount());
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertTrue(subscriber.await());
+        assertEquals(100, subscriber.values.size());
+        assertEquals(100, upstream.received.get());
+        assertTrue(upstream.maxAhead.get() <= 8);
+    }
+
+    @Test
+    void testErrors() throws InterruptedException {
+        ValidationProcessor<String> processor = ValidationProcessor.builder(new FailingValidator()).build();
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+        publish(processor, subscriber, 10);
+
+        assertTrue(subscriber.await());
+        assertInstanceOf(IllegalStateException.class, subscriber.error);
+
+        ValidationProcessor<String> second = ValidationProcessor.builder(CreditCardValidator.getInstance()).build();
+        second.subscribe(new CollectingSubscriber(0));
+        CollectingSubscriber rejected = new CollectingSubscriber(0);
+        second.subscribe(rejected);
+        assertTrue(rejected.await());
+        assertInstanceOf(IllegalStateException.class, rejected.error);
+    }
+
+    @Test
+    void testCancel() throws InterruptedException {
+        ValidationProcessor<String> processor = ValidationProcessor.builder(CreditCardValidator.getInstance()).build();
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+        SubmissionPublisher<String> publisher = new SubmissionPublisher<>();
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        subscriber.subscription.cancel();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (publisher.hasSubscribers() && System.nanoTime() < deadline) {
+            publisher.submit(CARD_NUMBERS[0]);
+            Thread.sleep(1);
+        }
+        assertFalse(publisher.hasSubscribers());
+        publisher.close();
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        Validator<String> validator = CreditCardValidator.getInstance();
+        assertThrows(IllegalArgumentException.class, () -> ValidationProcessor.builder(validator).batchSize(0));
+        assertThrows(IllegalArgumentException.class, () -> ValidationProcessor.builder(validator).workers(0));
+        assertThrows(IllegalArgumentException.class, () -> ValidationProcessor.builder(validator).batchSize(8).bufferSize(4).build());
+        assertThrows(NullPointerException.class, () -> ValidationProcessor.builder(null));
+    }
+
+    private static void publish(ValidationProcessor<String> processor, CollectingSubscriber subscriber, int count) {
+        try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(processor);
+            processor.subscribe(subscriber);
+            for (int i = 0; i < count; i++) {
+                publisher.submit(CARD_NUMBERS[i % CARD_NUMBERS.length]);
+            }
+        }
+    }
+
+    /**
+     * A subscriber that collects the results, requesting them a few at a time.
+     */
+    private static final class CollectingSubscriber implements Flow.Subscriber<ValidatedValue<String>> {
+
+        private final long chunk;
+        private final List<ValidatedValue<String>> values = new CopyOnWriteArrayList<>();
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile Flow.Subscription subscription;
+        private volatile Throwable error;
+        private long remaining;
+
+        private CollectingSubscriber(long chunk) {
+            this.chunk = chunk;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (chunk > 0) {
+                remaining = chunk;
+                subscription.request(chunk);
+            }
+        }
+
+        @Override
+        public void onNext(ValidatedValue<String> item) {
+            values.add(item);
+            if (chunk > 0 && chunk != Long.MAX_VALUE && --remaining == 0) {
+                remaining = chunk;
+                subscription.request(chunk);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+
+        private boolean await() throws InterruptedException {
+            return done.await(10, TimeUnit.SECONDS);
+        }
+
+    }
+
+    /**
+     * A subscriber that counts the values requested from and delivered by the publisher before passing them on,
+     * and keeps track of how far the requests got ahead of the values emitted downstream.
+     */
+    private static final class CountingSubscriber<T> implements Flow.Subscriber<T> {
+
+        private final Flow.Subscriber<T> delegate;
+        private final LongSupplier emitted;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicLong received = new AtomicLong();
+        private final AtomicLong maxAhead = new AtomicLong();
+
+        private CountingSubscriber(Flow.Subscriber<T> delegate, LongSupplier emitted) {
+            this.delegate = delegate;
+            this.emitted = emitted;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            delegate.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    long total = requested.addAndGet(n);
+                    maxAhead.accumulateAndGet(total - emitted.getAsLong(), Math::max);
+                    subscription.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    subscription.cancel();
+                }
+            });
+        }
+
+        @Override
+        public void onNext(T item) {
+            received.incrementAndGet();
+            delegate.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            delegate.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            delegate.onComplete();
+        }
+
+    }
+
+    /**
+     * A validator that throws for every value.
+     */
+    private static final class FailingValidator implements Validator<String> {
+
+        @Override
+        public boolean isValid(String input) {
+            throw new IllegalStateException("Failed");
+        }
+
+        @Override
+        public boolean isValid(CharSequence input, int from, int to) {
+            throw new IllegalStateException("Failed");
+        }
+
+        @Override
+        public ValidationResult check(CharSequence input) {
+            throw new IllegalStateException("Failed");
+        }
+
+        @Override
+        public boolean isNullOrEmpty(String input) {
+            return input == null || input.isEmpty();
+        }
+
+    }
+
+}
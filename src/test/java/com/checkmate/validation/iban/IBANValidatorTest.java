@@ -1,7 +1,11 @@
 package com.checkmate.validation.iban;
 
+import com.checkmate.validation.ValidationResult;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class IBANValidatorTest {
@@ -129,6 +133,59 @@ class IBANValidatorTest {
         }
     }
 
+    @Test
+    void testIBANWithSpaces() {
+        assertTrue(IBANValidator.getInstance().isValid("GB29 NWBK 6016 1331 9268 19"));
+    }
+
+    @Test
+    void testUnknownCountryCode() {
+        assertFalse(IBANValidator.getInstance().isValid("ZZ29NWBK60161331926819"));
+    }
+
+    @Test
+    void testWrongLengthForCountry() {
+        assertFalse(IBANValidator.getInstance().isValid("GB29NWBK6016133192681"));
+        assertFalse(IBANValidator.getInstance().isValid("GB29NWBK601613319268190"));
+    }
+
+    @Test
+    void testWrongCharacterClassForCountry() {
+        assertFalse(IBANValidator.getInstance().isValid("GB29NWB160161331926819"));
+        assertFalse(IBANValidator.getInstance().isValid("gb29NWBK60161331926819"));
+    }
+
+    @Test
+    void testInvalidChecksum() {
+        assertFalse(IBANValidator.getInstance().isValid("GB28NWBK60161331926819"));
+    }
+
+    @Test
+    void testIBANInRange() {
+        String message = "IBAN:GB29 NWBK 6016 1331 9268 19|EUR";
+        assertTrue(IBANValidator.getInstance().isValid(message, 5, 32));
+        assertTrue(IBANValidator.getInstance().isValid(message.toCharArray(), 5, 27));
+        assertFalse(IBANValidator.getInstance().isValid(message, 5, 31));
+    }
+
+    @Test
+    void testIBANRangeOutOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> IBANValidator.getInstance().isValid("GB29NWBK60161331926819", 0, 23));
+    }
+
+    @Test
+    void testCheckIBAN() {
+        IBANValidator validator = IBANValidator.getInstance();
+        assertEquals(ValidationResult.VALID, validator.check("GB29 NWBK 6016 1331 9268 19"));
+        assertEquals(ValidationResult.NULL, validator.check(null));
+        assertEquals(ValidationResult.EMPTY, validator.check(""));
+        assertEquals(ValidationResult.BAD_LENGTH, validator.check("GB29"));
+        assertEquals(ValidationResult.BAD_LENGTH, validator.check("GB29NWBK601613319268"));
+        assertEquals(ValidationResult.BAD_FORMAT, validator.check("QQ29NWBK60161331926819"));
+        assertEquals(ValidationResult.BAD_FORMAT, validator.check("GB29NWB160161331926819"));
+        assertEquals(ValidationResult.BAD_CHECKSUM, validator.check("GB28NWBK60161331926819"));
+    }
+
     // Helper method to print colored text
     private void printColored(String text, String color) {
         System.out.println(color + text + ConsoleColors.RESET);
@@ -141,4 +198,4 @@ class IBANValidatorTest {
         private static final String GREEN = "\u001B[32m";
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,107 @@
+package com.checkmate.validation.isbn;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ISBNConverterTest {
+
+    private final ISBNConverter converter = ISBNConverter.getInstance();
+
+    @Test
+    void testToISBN13() {
+        char[] out = new char[15];
+        assertEquals(13, converter.toISBN13("ISBN-10 0-596-52068-9", out, 2));
+        assertEquals("9780596520687", new String(out, 2, 13));
+        assertEquals(13, converter.toISBN13("0-8044-2957-X", out, 0));
+        assertEquals("9780804429573", new String(out, 0, 13));
+    }
+
+    @Test
+    void testToISBN10() {
+        char[] out = new char[10];
+        assertEquals(10, converter.toISBN10("ISBN-13: 978-0-596-52068-7", out, 0));
+        assertEquals("0596520689", new String(out));
+        assertEquals(10, converter.toISBN10("9780804429573", out, 0));
+        assertEquals("080442957X", new String(out));
+    }
+
+    @Test
+    void testInvalidInput() {
+        char[] out = new char[13];
+        assertEquals(-1, converter.toISBN13("0-596-52068-7", out, 0));
+        assertEquals(-1, converter.toISBN13("978-0-596-52068-7", out, 0));
+        assertEquals(-1, converter.toISBN10("979-10-90636-07-1", out, 0));
+        assertEquals(-1, converter.toISBN10("978-0-596-52068-8", out, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> converter.toISBN13("0-596-52068-9", new char[12], 0));
+    }
+
+    @Test
+    void testBatch() {
+        CharSequence[] isbns = {"0-596-52068-9", null, "0-596-52068-7", "080442957X"};
+        char[] out = new char[isbns.length * ISBNConverter.ISBN13_LENGTH];
+        boolean[] converted = new boolean[isbns.length];
+
+        assertEquals(2, converter.toISBN13(isbns, out, converted));
+        assertArrayEquals(new boolean[]{true, false, false, true}, converted);
+        assertEquals("9780804429573", new String(out, 39, 13));
+    }
+
+    @Test
+    void testStream() throws IOException {
+        StringWriter out = new StringWriter();
+        long converted = converter.toISBN10(new StringReader("9780596520687\r\n\n979-10-90636-07-1\n978-0-8044-2957-3"), out);
+
+        assertEquals(2, converted);
+        assertEquals("0596520689\n\n\n080442957X\n", out.toString());
+    }
+
+    @Test
+    void testStreamWithLongLines() throws IOException {
+        String longest = " ".repeat(ISBNConverter.MAX_LINE_LENGTH - 13) + "9780596520687";
+        String input = "9780596520687\n" + "x".repeat(1_000_000) + "\r\n" + longest + "\r\n" + " " + longest + "\n"
+                + "978-0-8044-2957-3\n" + "9".repeat(100_000);
+        StringWriter out = new StringWriter();
+        long converted = converter.toISBN10(new StringReader(input) {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                return super.read(buffer, offset, Math.min(length, 7));
+            }
+        }, out);
+
+        assertEquals(3, converted);
+        assertEquals("0596520689\n\n0596520689\n\n080442957X\n\n", out.toString());
+    }
+
+    @Test
+    void testRoundTrip() {
+        SplittableRandom random = new SplittableRandom(13);
+        char[] isbn10 = new char[10];
+        char[] isbn13 = new char[13];
+        char[] back = new char[10];
+
+        for (int i = 0; i < 10_000; i++) {
+            StringBuilder digits = new StringBuilder();
+            int sum = 0;
+            for (int j = 0; j < 9; j++) {
+                int digit = random.nextInt(10);
+                digits.append(digit);
+                sum += digit * (10 - j);
+            }
+            int check = (11 - sum % 11) % 11;
+            digits.append(check == 10 ? 'X' : (char) ('0' + check));
+            digits.getChars(0, 10, isbn10, 0);
+
+            assertEquals(13, converter.toISBN13(digits, isbn13, 0));
+            assertEquals(ISBNFormat.ISBN_13, ISBNValidator.getInstance().getFormat(new String(isbn13)));
+            assertEquals(10, converter.toISBN10(new String(isbn13), back, 0));
+            assertArrayEquals(isbn10, back);
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.checkmate.validation.isbn;
+
+import com.checkmate.exceptions.isbn.NullISBNException;
+import com.checkmate.validation.ValidationResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ISBNRangesTest {
+
+    private final ISBNRanges ranges = ISBNRanges.getInstance();
+
+    @Test
+    void testHyphenate() {
+        char[] out = new char[ISBNRanges.MAX_HYPHENATED_LENGTH + 2];
+        assertEquals(17, ranges.hyphenate("9780596520687", out, 2));
+        assertEquals("978-0-596-52068-7", new String(out, 2, 17));
+        assertEquals(17, ranges.hyphenate("ISBN-13: 979 10 90636 07 1", out, 0));
+        assertEquals("979-10-90636-07-1", new String(out, 0, 17));
+        assertEquals(13, ranges.hyphenate("080442957X", out, 0));
+        assertEquals("0-8044-2957-X", new String(out, 0, 13));
+        assertEquals(-1, ranges.hyphenate("9780596520688", out, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> ranges.hyphenate("9780596520687", new char[16], 0));
+    }
+
+    @Test
+    void testSplit() {
+        int[] lengths = new int[5];
+        assertTrue(ranges.split("xx9780596520687", 2, 15, lengths));
+        assertArrayEquals(new int[]{3, 1, 3, 5, 1}, lengths);
+        assertTrue(ranges.split("0-596-52068-9", 0, 13, lengths));
+        assertArrayEquals(new int[]{0, 1, 3, 5, 1}, lengths);
+        assertFalse(ranges.split("9781061234566", 0, 13, lengths));
+    }
+
+    @Test
+    void testIsAssigned() {
+        assertTrue(ranges.isAssigned("978-0-596-52068-7"));
+        assertFalse(ranges.isAssigned("9781061234566"));
+        assertFalse(ranges.isAssigned("not an isbn"));
+        assertEquals("English language", ranges.getAgency("9780596520687", 0, 13));
+        assertEquals("France", ranges.getAgency("9791090636071", 0, 13));
+        assertNull(ranges.getAgency("9781061234566", 0, 13));
+    }
+
+    @Test
+    void testLoad() throws IOException {
+        String message = """
+                <?xml version="1.0" encoding="utf-8"?>
+                <ISBNRangeMessage>
+                  <MessageDate>today</MessageDate>
+                  <EAN.UCCPrefixes>
+                    <EAN.UCC><Prefix>978</Prefix><Agency>International ISBN Agency</Agency>
+                      <Rules><Rule><Range>0000000-5999999</Range><Length>1</Length></Rule></Rules>
+                    </EAN.UCC>
+                  </EAN.UCCPrefixes>
+                  <RegistrationGroups>
+                    <Group><Prefix>978-0</Prefix><Agency>Test</Agency>
+                      <Rules>
+                        <Rule><Range>0000000-4999999</Range><Length>2</Length></Rule>
+                        <Rule><Range>5000000-9999999</Range><Length>0</Length></Rule>
+                      </Rules>
+                    </Group>
+                  </RegistrationGroups>
+                </ISBNRangeMessage>
+                """;
+        ISBNRanges loaded = ISBNRanges.load(new ByteArrayInputStream(message.getBytes(StandardCharsets.UTF_8)));
+
+        char[] out = new char[17];
+        assertEquals("today", loaded.getMessageDate());
+        assertEquals(17, loaded.hyphenate("9780448001234", out, 0));
+        assertEquals("978-0-44-800123-4", new String(out));
+        assertFalse(loaded.isAssigned("9780596520687"));
+        assertThrows(IOException.class, () -> ISBNRanges.load(new ByteArrayInputStream("<x>".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void testAssignedISBNValidator() {
+        AssignedISBNValidator validator = AssignedISBNValidator.getInstance();
+        assertTrue(validator.isValid("978-0-596-52068-7"));
+        assertTrue(validator.isValid("0-596-52068-9"));
+        assertFalse(validator.isValid("9781061234566"));
+        assertTrue(ISBNValidator.getInstance().isValid("9781061234566"));
+        assertEquals(ValidationResult.BAD_FORMAT, validator.check("9781061234566"));
+        assertEquals(ValidationResult.BAD_CHECKSUM, validator.check("9780596520688"));
+        assertEquals(ValidationResult.NULL, validator.check(null));
+        assertThrows(NullISBNException.class, () -> validator.isValid((String) null));
+    }
+
+    @Test
+    void testSerialization() throws IOException, ClassNotFoundException {
+        assertSame(AssignedISBNValidator.getInstance(), roundTrip(AssignedISBNValidator.getInstance()));
+
+        AssignedISBNValidator copy = roundTrip(AssignedISBNValidator.of(ranges));
+        assertNotSame(AssignedISBNValidator.getInstance(), copy);
+        assertTrue(copy.isValid("978-0-596-52068-7"));
+        assertEquals(ValidationResult.BAD_FORMAT, copy.check("9781061234566"));
+    }
+
+    // Helper function to serialize and deserialize a validator.
+    private static AssignedISBNValidator roundTrip(AssignedISBNValidator validator) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(validator);
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (AssignedISBNValidator) input.readObject();
+        }
+    }
+
+}
@@ -2,8 +2,11 @@ package com.checkmate.validation.isbn;
 
 import com.checkmate.exceptions.isbn.EmptyISBNException;
 import com.checkmate.exceptions.isbn.NullISBNException;
+import com.checkmate.validation.ValidationResult;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -56,4 +59,42 @@ class ISBNValidatorTest {
         assertThrows(EmptyISBNException.class, () -> ISBNValidator.getInstance().isValid(""));
     }
 
+    @Test
+    void givenISBNInRangeShouldReturnTrue() {
+        String record = "title;" + VALID_ISBN_13_2 + ";" + VALID_ISBN_10_2;
+        int from = record.indexOf(';') + 1;
+        int to = record.lastIndexOf(';');
+        assertTrue(ISBNValidator.getInstance().isValid(record, from, to));
+        assertTrue(ISBNValidator.getInstance().isValid(record, to + 1, record.length()));
+        assertTrue(ISBNValidator.getInstance().isValid(record.toCharArray(), from, to - from));
+    }
+
+    @Test
+    void givenISBNInRangeShouldReturnFalse() {
+        assertFalse(ISBNValidator.getInstance().isValid("978-0-596-52068-7", 0, 16));
+    }
+
+    @Test
+    void testCheckISBN() {
+        ISBNValidator validator = ISBNValidator.getInstance();
+        assertEquals(ValidationResult.VALID, validator.check("0-596-52068-9"));
+        assertEquals(ValidationResult.VALID, validator.check("978-0-596-52068-7"));
+        assertEquals(ValidationResult.NULL, validator.check(null));
+        assertEquals(ValidationResult.EMPTY, validator.check(" "));
+        assertEquals(ValidationResult.BAD_LENGTH, validator.check("0-596-52068"));
+        assertEquals(ValidationResult.BAD_FORMAT, validator.check("977-0-596-52068-7"));
+        assertEquals(ValidationResult.BAD_CHECKSUM, validator.check("0-596-52068-7"));
+    }
+
+    @Test
+    void testGetFormat() {
+        ISBNValidator validator = ISBNValidator.getInstance();
+        assertEquals(ISBNFormat.ISBN_10, validator.getFormat(VALID_ISBN_10_1));
+        assertEquals(ISBNFormat.ISBN_10, validator.getFormat("0-8044-2957-X"));
+        assertEquals(ISBNFormat.ISBN_13, validator.getFormat(VALID_ISBN_13_2));
+        assertEquals(ISBNFormat.ISBN_13, validator.getFormat("ISBN: 978-0-596-52068-7;", 6, 23));
+        assertEquals(ISBNFormat.INVALID, validator.getFormat("0-596-52068-7"));
+        assertEquals(ISBNFormat.INVALID, validator.getFormat("978-0-596-5206X-7"));
+    }
+
 }
\ No newline at end of file
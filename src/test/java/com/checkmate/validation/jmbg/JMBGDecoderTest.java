@@ -0,0 +1,70 @@
+package com.checkmate.validation.jmbg;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JMBGDecoderTest {
+
+    private final JMBGDecoder decoder = JMBGDecoder.getInstance();
+
+    @Test
+    void testDecode() {
+        long decoded = decoder.decode("JMBG:0101006500006;", 5, 18);
+        assertTrue(JMBGDecoder.isValid(decoded));
+        assertEquals(1, JMBGDecoder.getDay(decoded));
+        assertEquals(1, JMBGDecoder.getMonth(decoded));
+        assertEquals(2006, JMBGDecoder.getYear(decoded));
+        assertEquals(20060101, JMBGDecoder.getBirthDate(decoded));
+        assertEquals(LocalDate.of(2006, 1, 1), JMBGDecoder.getBirthLocalDate(decoded));
+        assertEquals(50, JMBGDecoder.getRegion(decoded));
+        assertEquals(0, JMBGDecoder.getSerial(decoded));
+        assertEquals(JMBGDecoder.Sex.MALE, JMBGDecoder.getSex(decoded));
+        assertEquals(6, JMBGDecoder.getControlDigit(decoded));
+    }
+
+    @Test
+    void testDecodeFemale() {
+        long decoded = decoder.decode(JMBGValidator.getInstance().validate("3112999719990"));
+        assertEquals(19991231, JMBGDecoder.getBirthDate(decoded));
+        assertEquals(71, JMBGDecoder.getRegion(decoded));
+        assertEquals(999, JMBGDecoder.getSerial(decoded));
+        assertEquals(JMBGDecoder.Sex.FEMALE, JMBGDecoder.getSex(decoded));
+    }
+
+    @Test
+    void testDecodeInvalid() {
+        assertEquals(JMBGDecoder.INVALID, decoder.decode(null));
+        assertEquals(JMBGDecoder.INVALID, decoder.decode(""));
+        assertEquals(JMBGDecoder.INVALID, decoder.decode("0101006500007"));
+        assertEquals(JMBGDecoder.INVALID, decoder.decode("3102996500002"));
+        assertFalse(JMBGDecoder.isValid(JMBGDecoder.INVALID));
+    }
+
+    @Test
+    void testDecodedOrder() {
+        assertTrue(decoder.decode("0101006500006") > decoder.decode(JMBGValidator.getInstance().validate("3112999719990")));
+    }
+
+    @Test
+    void testBatch() {
+        CharSequence[] jmbgs = {"0101006500006", null, "0101006500007"};
+        long[] decoded = new long[jmbgs.length];
+        assertEquals(1, decoder.decode(jmbgs, decoded));
+        assertEquals(decoder.decode(jmbgs[0]), decoded[0]);
+        assertEquals(JMBGDecoder.INVALID, decoded[1]);
+        assertThrows(IllegalArgumentException.class, () -> decoder.decode(jmbgs, new long[2]));
+
+        JMBGColumns columns = JMBGColumns.of(4);
+        assertEquals(1, decoder.decode(jmbgs, columns));
+        assertArrayEquals(new int[]{20060101, 0, 0, 0}, columns.getBirthDates());
+        assertArrayEquals(new byte[]{50, 0, 0, 0}, columns.getRegions());
+        assertArrayEquals(new byte[]{6, 0, 0, 0}, columns.getControlDigits());
+        assertTrue(columns.isValid(0));
+        assertFalse(columns.isValid(2));
+        assertThrows(IllegalArgumentException.class, () -> decoder.decode(jmbgs, JMBGColumns.of(2)));
+    }
+
+}
@@ -1,7 +1,9 @@
 package com.checkmate.validation.jmbg;
 
+import com.checkmate.checksum.JMBGChecksum;
 import com.checkmate.exceptions.jmbg.EmptyJMBGException;
 import com.checkmate.exceptions.jmbg.NullJMBGException;
+import com.checkmate.validation.ValidationResult;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -43,4 +45,80 @@ class JMBGValidatorTest {
         assertThrows(EmptyJMBGException.class, () -> JMBGValidator.getInstance().isValid(""));
     }
 
+    @Test
+    void testValidJMBGInRange() {
+        assertTrue(JMBGValidator.getInstance().isValid("JMBG:0101006500006;", 5, 18));
+        assertTrue(JMBGValidator.getInstance().isValid("JMBG:0101006500006;".toCharArray(), 5, 13));
+    }
+
+    @Test
+    void testInvalidJMBGInRange() {
+        assertFalse(JMBGValidator.getInstance().isValid("JMBG:0101006500006;", 4, 17));
+    }
+
+    @Test
+    void testNullJMBGInRange() {
+        assertThrows(NullJMBGException.class, () -> JMBGValidator.getInstance().isValid((CharSequence) null, 0, 0));
+    }
+
+    @Test
+    void testCheckJMBG() {
+        JMBGValidator validator = JMBGValidator.getInstance();
+        assertEquals(ValidationResult.VALID, validator.check("0101006500006"));
+        assertEquals(ValidationResult.NULL, validator.check(null));
+        assertEquals(ValidationResult.EMPTY, validator.check("   "));
+        assertEquals(ValidationResult.BAD_LENGTH, validator.check("010100650000"));
+        assertEquals(ValidationResult.BAD_FORMAT, validator.check("3201006500006"));
+        assertEquals(ValidationResult.BAD_CHECKSUM, validator.check("0101006500007"));
+    }
+
+    @Test
+    void testCalendarJMBG() {
+        JMBGValidator validator = JMBGValidator.getInstance();
+        assertEquals(ValidationResult.BAD_FORMAT, validator.check("3102996500002"));
+        assertEquals(ValidationResult.BAD_FORMAT, validator.check("3104985500003"));
+        assertEquals(ValidationResult.BAD_FORMAT, validator.check("2902900500000"));
+        assertEquals(ValidationResult.BAD_FORMAT, validator.check("2902001500008"));
+        assertTrue(validator.isValid(validator.validate("2902000500000")));
+        assertTrue(validator.isValid(validator.validate("2902996500000")));
+        assertTrue(validator.isValid(validator.validate("3112999500000")));
+    }
+
+    @Test
+    void testValidateJMBG() {
+        assertEquals("0101006500006", JMBGValidator.getInstance().validate("0101006500001"));
+        assertEquals("0101006500006", JMBGValidator.getInstance().validate("0101006500006"));
+        assertNull(JMBGValidator.getInstance().validate("3002006500006"));
+    }
+
+    @Test
+    void testControlDigitOfRemainderZero() {
+        // The weighted sum of 010100650003 is a multiple of 11, so the control digit is 0 and never 1
+        assertEquals("0101006500030", JMBGChecksum.getInstance().calculate("010100650003"));
+        assertTrue(JMBGChecksum.getInstance().isValid("0101006500030"));
+        assertFalse(JMBGChecksum.getInstance().isValid("0101006500031"));
+
+        assertEquals(ValidationResult.VALID, JMBGValidator.getInstance().check("0101006500030"));
+        assertEquals(ValidationResult.BAD_CHECKSUM, JMBGValidator.getInstance().check("0101006500031"));
+
+        long decoded = JMBGDecoder.getInstance().decode("0101006500030");
+        assertTrue(JMBGDecoder.isValid(decoded));
+        assertEquals(3, JMBGDecoder.getSerial(decoded));
+        assertEquals(0, JMBGDecoder.getControlDigit(decoded));
+        assertEquals(JMBGDecoder.INVALID, JMBGDecoder.getInstance().decode("0101006500031"));
+    }
+
+    @Test
+    void testStacklessExceptions() {
+        NullJMBGException exception = assertThrows(NullJMBGException.class, () -> JMBGValidator.getInstance().isValid(null));
+        assertNotSame(NullJMBGException.STACKLESS, exception);
+        assertNotEquals(0, exception.getStackTrace().length);
+
+        exception = assertThrows(NullJMBGException.class, () -> JMBGValidator.getStacklessInstance().isValid(null));
+        assertSame(NullJMBGException.STACKLESS, exception);
+        assertEquals(0, exception.getStackTrace().length);
+        assertSame(EmptyJMBGException.STACKLESS, assertThrows(EmptyJMBGException.class, () -> JMBGValidator.getStacklessInstance().isValid(" ")));
+        assertTrue(JMBGValidator.getStacklessInstance().isValid("0101006500006"));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.checkmate.validation.metrics;
+
+import com.checkmate.exceptions.iban.NullIBANException;
+import com.checkmate.validation.ValidationResult;
+import com.checkmate.validation.iban.IBANValidator;
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeteredValidatorTest {
+
+    @Test
+    void testCountsOutcomes() {
+        MeteredValidator<String> validator = MeteredValidator.of(IBANValidator.getInstance(), "counts");
+        try {
+            assertTrue(validator.isValid("GB29NWBK60161331926819"));
+            assertFalse(validator.isValid("GB28NWBK60161331926819"));
+            assertFalse(validator.isValid("GB29"));
+            assertEquals(ValidationResult.EMPTY, validator.check("  "));
+            assertThrows(NullIBANException.class, () -> validator.isValid(null));
+
+            ValidatorMetrics metrics = validator.getMetrics();
+            assertEquals(5, metrics.getTotalCount());
+            assertEquals(1, metrics.getValidCount());
+            assertEquals(1, metrics.getBadChecksumCount());
+            assertEquals(1, metrics.getBadLengthCount());
+            assertEquals(1, metrics.getEmptyCount());
+            assertEquals(1, metrics.getNullCount());
+            assertTrue(metrics.getLatencyP99Nanos() >= metrics.getLatencyP50Nanos());
+
+            metrics.reset();
+            assertEquals(0, metrics.getTotalCount());
+            assertEquals(0, metrics.getLatencyP99Nanos());
+        } finally {
+            validator.unregister();
+        }
+    }
+
+    @Test
+    void testRegistersMBean() throws Exception {
+        MeteredValidator<String> validator = MeteredValidator.of(IBANValidator.getInstance(), "jmx");
+        ObjectName name = new ObjectName("com.checkmate:type=Validator,name=jmx");
+        try {
+            validator.isValid("GB29NWBK60161331926819");
+            assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "ValidCount"));
+            assertThrows(IllegalStateException.class, () -> MeteredValidator.of(IBANValidator.getInstance(), "jmx"));
+        } finally {
+            validator.unregister();
+        }
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+    }
+
+    @Test
+    void testSerialization() throws Exception {
+        MeteredValidator<String> validator = MeteredValidator.of(IBANValidator.getInstance(), "serialized");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            validator.isValid("GB29NWBK60161331926819");
+            try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+                output.writeObject(validator);
+            }
+        } finally {
+            validator.unregister();
+        }
+
+        MeteredValidator<?> copy;
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (MeteredValidator<?>) input.readObject();
+        }
+        ObjectName name = new ObjectName("com.checkmate:type=Validator,name=serialized");
+        try {
+            assertEquals(0, copy.getMetrics().getTotalCount());
+            assertEquals(ValidationResult.BAD_CHECKSUM, copy.check("GB28NWBK60161331926819"));
+            assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "BadChecksumCount"));
+        } finally {
+            copy.unregister();
+        }
+    }
+
+    @Test
+    void testLatencyPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 1000; nanos++) {
+            histogram.record(nanos);
+        }
+
+        long median = histogram.percentile(0.5);
+        assertTrue(median >= 500 && median <= 625, String.valueOf(median));
+        long max = histogram.percentile(1);
+        assertTrue(max >= 1000 && max <= 1250, String.valueOf(max));
+        assertEquals(1, histogram.percentile(0));
+    }
+
+}
@@ -0,0 +1,179 @@
+package com.checkmate.validation.record;
+
+import com.checkmate.validation.ValidationResult;
+import com.checkmate.validation.Validator;
+import com.checkmate.validation.credit_card.CreditCardValidator;
+import com.checkmate.validation.email.EmailValidator;
+import com.checkmate.validation.iban.IBANValidator;
+import com.checkmate.validation.jmbg.JMBGValidator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordValidatorTest {
+
+    private static final RecordSchema SCHEMA = RecordSchema.builder()
+            .field(0, IBANValidator.getInstance())
+            .field(1, CreditCardValidator.getInstance())
+            .field(3, EmailValidator.getInstance())
+            .field(4, JMBGValidator.getInstance())
+            .adaptive(false)
+            .build();
+
+    @Test
+    void testLines() {
+        RecordValidator validator = SCHEMA.compile();
+
+        assertResult(-1, ValidationResult.VALID,
+                validator.checkRecord("GB82 WEST 1234 5698 7654 32,4111 1111 1111 1111,Jane,jane@example.com,0101006500006\r\n"));
+        assertResult(-1, ValidationResult.VALID,
+                validator.checkRecord("\"GB82 WEST 1234 5698 7654 32\",4111 1111 1111 1111,,\"jane@example.com\",0101006500006"));
+        assertResult(0, ValidationResult.BAD_CHECKSUM,
+                validator.checkRecord("GB82 WEST 1234 5698 7654 33,4111 1111 1111 1111,Jane,jane@example.com,0101006500006"));
+        assertResult(1, ValidationResult.BAD_CHECKSUM,
+                validator.checkRecord("GB82 WEST 1234 5698 7654 32,4111 1111 1111 1119,Jane,jane@example.com,0101006500006"));
+        assertResult(4, ValidationResult.NULL,
+                validator.checkRecord("GB82 WEST 1234 5698 7654 32,4111 1111 1111 1111,Jane,jane@example.com"));
+        assertResult(0, ValidationResult.EMPTY, validator.checkRecord(""));
+        assertResult(-1, ValidationResult.NULL, validator.checkRecord((CharSequence) null));
+
+        String lines = "x;GB82 WEST 1234 5698 7654 32,4111 1111 1111 1111,Jane,jane@example.com,0101006500006;x";
+        assertTrue(validator.isValid(lines, 2, lines.length() - 2));
+        assertEquals(ValidationResult.BAD_FORMAT, validator.check(lines, 0, lines.length()));
+    }
+
+    @Test
+    void testArrays() {
+        RecordValidator validator = SCHEMA.compile();
+
+        assertTrue(validator.isValid(new CharSequence[]{
+                "GB82 WEST 1234 5698 7654 32", "4111 1111 1111 1111", null, "jane@example.com", "0101006500006"}));
+        assertResult(3, ValidationResult.NULL, validator.checkRecord(new CharSequence[]{
+                "GB82 WEST 1234 5698 7654 32", "4111 1111 1111 1111", "Jane", null, "0101006500006"}));
+        assertResult(3, ValidationResult.NULL, validator.checkRecord(new CharSequence[]{
+                "GB82 WEST 1234 5698 7654 32", "4111 1111 1111 1111"}));
+        assertResult(-1, ValidationResult.NULL, validator.checkRecord((CharSequence[]) null));
+        assertFalse(validator.isValid((CharSequence[]) null));
+    }
+
+    @Test
+    void testAdaptiveOrder() {
+        RecordSchema.Builder builder = RecordSchema.builder()
+                .delimiter(';')
+                .field(0, new SlowValidator())
+                .field(1, new CheapValidator());
+        RecordValidator adaptive = builder.build().compile();
+        RecordValidator fixed = builder.adaptive(false).build().compile();
+
+        for (int i = 0; i < 20_000; i++) {
+            String line = i % 2 == 0 ? "a;ok" : "a;x";
+            RecordResult result = adaptive.checkRecord(line);
+            assertEquals(i % 2 == 0, result.isValid());
+            assertEquals(result.isValid(), fixed.isValid(line, 0, line.length()));
+        }
+
+        assertArrayEquals(new int[]{1, 0}, adaptive.getOrder());
+        assertArrayEquals(new int[]{0, 1}, fixed.getOrder());
+        assertResult(1, ValidationResult.BAD_FORMAT, adaptive.checkRecord("a;x"));
+    }
+
+    @Test
+    void testInvalidSchema() {
+        assertThrows(IllegalArgumentException.class, () -> RecordSchema.builder().build());
+        assertThrows(IllegalArgumentException.class, () -> RecordSchema.builder().field(-1, IBANValidator.getInstance()));
+        assertThrows(IllegalArgumentException.class, () -> RecordSchema.builder()
+                .field(0, IBANValidator.getInstance()).field(0, JMBGValidator.getInstance()));
+        assertThrows(IllegalArgumentException.class, () -> RecordSchema.builder().delimiter('\n'));
+        assertThrows(NullPointerException.class, () -> RecordSchema.builder().field(0, null));
+    }
+
+    @Test
+    void testSerialization() throws IOException, ClassNotFoundException {
+        RecordValidator copy = roundTrip(SCHEMA.compile());
+        assertArrayEquals(new int[]{0, 1, 3, 4}, copy.getOrder());
+        assertResult(-1, ValidationResult.VALID,
+                copy.checkRecord("GB82 WEST 1234 5698 7654 32,4111 1111 1111 1111,Jane,jane@example.com,0101006500006"));
+        assertResult(1, ValidationResult.BAD_CHECKSUM,
+                copy.checkRecord("GB82 WEST 1234 5698 7654 32,4111 1111 1111 1119,Jane,jane@example.com,0101006500006"));
+
+        RecordValidator adaptive = roundTrip(RecordSchema.builder().delimiter(';')
+                .field(0, IBANValidator.getInstance()).field(1, JMBGValidator.getInstance()).build().compile());
+        assertTrue(adaptive.isValid(new CharSequence[]{"GB82 WEST 1234 5698 7654 32", "0101006500006"}));
+        assertResult(1, ValidationResult.BAD_CHECKSUM, adaptive.checkRecord("GB82 WEST 1234 5698 7654 32;0101006500007"));
+    }
+
+    // Helper function to serialize and deserialize a validator.
+    private static RecordValidator roundTrip(RecordValidator validator) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(validator);
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (RecordValidator) input.readObject();
+        }
+    }
+
+    private static void assertResult(int position, ValidationResult result, RecordResult actual) {
+        assertEquals(position, actual.getPosition());
+        assertEquals(result, actual.getResult());
+    }
+
+    /**
+     * A validator that accepts everything, but takes its time.
+     */
+    private static final class SlowValidator implements Validator<String> {
+
+        private static final long NANOS = 20_000;
+
+        @Override
+        public boolean isValid(String input) {
+            return isValid(input, 0, input.length());
+        }
+
+        @Override
+        public boolean isValid(CharSequence input, int from, int to) {
+            long deadline = System.nanoTime() + NANOS;
+            while (System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isNullOrEmpty(String input) {
+            return input == null || input.isEmpty();
+        }
+
+    }
+
+    /**
+     * A validator that quickly rejects values that start with an x.
+     */
+    private static final class CheapValidator implements Validator<String> {
+
+        @Override
+        public boolean isValid(String input) {
+            return isValid(input, 0, input.length());
+        }
+
+        @Override
+        public boolean isValid(CharSequence input, int from, int to) {
+            Objects.checkFromToIndex(from, to, input.length());
+            return from == to || input.charAt(from) != 'x';
+        }
+
+        @Override
+        public boolean isNullOrEmpty(String input) {
+            return input == null || input.isEmpty();
+        }
+
+    }
+
+}